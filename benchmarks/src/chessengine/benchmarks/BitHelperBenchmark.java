@@ -0,0 +1,118 @@
+package chessengine.benchmarks;
+
+import chessengine.BitHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the bit operations of the {@link BitHelper} on a fixed set of random bitstreams.
+ *
+ * <p>
+ * Every operation is applied to all bitstreams of the set, so the reported time is per {@value #SIZE} operations.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BitHelperBenchmark {
+    private static final int SIZE = 1024;
+
+    private long[] bitstreams;
+    private int[] positions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        bitstreams = new long[SIZE];
+        positions = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            bitstreams[i] = random.nextLong();
+            positions[i] = random.nextInt(64);
+        }
+    }
+
+    @Benchmark
+    public long setBit() {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++) {
+            result ^= BitHelper.setBit(bitstreams[i], positions[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long clearBit() {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++) {
+            result ^= BitHelper.clearBit(bitstreams[i], positions[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int isBitSet() {
+        int result = 0;
+        for (int i = 0; i < SIZE; i++) {
+            result += BitHelper.isBitSet(bitstreams[i], positions[i]) ? 1 : 0;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int countBits() {
+        int result = 0;
+        for (int i = 0; i < SIZE; i++) {
+            result += BitHelper.countBits(bitstreams[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void iterateSetBits(Blackhole blackhole) {
+        // Visits every square of every bitstream like the per-square loops of the engine and the GUI
+        for (int i = 0; i < SIZE; i++) {
+            for (int square = 0; square < 64; square++) {
+                if (BitHelper.isBitSet(bitstreams[i], square)) {
+                    blackhole.consume(square);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void iterateSetBitsLowestFirst(Blackhole blackhole) {
+        // Visits only the set bits, like the loops of the engine and the GUI since the pop-LSB iteration
+        for (int i = 0; i < SIZE; i++) {
+            for (long bits = bitstreams[i]; bits != 0; bits = BitHelper.clearLowestBit(bits)) {
+                blackhole.consume(BitHelper.lowestBit(bits));
+            }
+        }
+    }
+
+    @Benchmark
+    public long between() {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++) {
+            result ^= BitHelper.between(positions[i], positions[(i + 1) % SIZE]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long mirrorHorizontal() {
+        long result = 0L;
+        for (int i = 0; i < SIZE; i++) {
+            result ^= BitHelper.mirrorHorizontal(bitstreams[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package chessengine.benchmarks;
+
+import chessengine.ChessEngine;
+import chessengine.EPieceAbbreviation;
+import chessengine.GUI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the mapping of the bitboards to the pieces shown on the squares of the GUI.
+ *
+ * <p>
+ * Only the mapping of {@link GUI#updateSquarePieces(HashMap, long[], EPieceAbbreviation[])} is measured, setting the
+ * icons of the Swing components requires a display. The full board is mapped once for the first rendering, after a
+ * move only the changed squares are.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardRenderingBenchmark {
+    private HashMap<EPieceAbbreviation, Long> startGameState;
+    private HashMap<EPieceAbbreviation, Long> moveGameState;
+    private long[] renderedBitboards;
+    private EPieceAbbreviation[] squarePieces;
+    private boolean afterMove;
+
+    @Setup
+    public void setup() {
+        ChessEngine chessEngine = new ChessEngine(false);
+        startGameState = new HashMap<>(chessEngine.getGameState());
+        // 1. e4, in GUI indices which count from a8
+        chessEngine.checkMove((byte) 52, (byte) 36);
+        moveGameState = new HashMap<>(chessEngine.getGameState());
+        renderedBitboards = new long[EPieceAbbreviation.values().length];
+        squarePieces = new EPieceAbbreviation[64];
+    }
+
+    @Benchmark
+    public long renderFullBoard() {
+        Arrays.fill(renderedBitboards, 0L);
+        Arrays.fill(squarePieces, null);
+        return GUI.updateSquarePieces(startGameState, renderedBitboards, squarePieces);
+    }
+
+    @Benchmark
+    public long renderMove() {
+        // Alternates between the positions before and after the move, like playing and undoing it
+        afterMove = !afterMove;
+        return GUI.updateSquarePieces(afterMove ? moveGameState : startGameState, renderedBitboards, squarePieces);
+    }
+}
@@ -0,0 +1,45 @@
+package chessengine.benchmarks;
+
+import chessengine.ChessEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the throughput of {@link ChessEngine#checkMove(byte, byte)} and {@link ChessEngine#undoMove()}.
+ *
+ * <p>
+ * The engine runs headless, so the measured time contains the game state snapshot, the bitboard updates and the
+ * position history but no rendering. Every invocation plays 1. e4 e5 2. Nf3 and takes the moves back again.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChessEngineBenchmark {
+    // Moves in GUI indices, which count from a8
+    private static final byte[][] MOVES = {{52, 36}, {12, 28}, {62, 45}};
+
+    private ChessEngine chessEngine;
+
+    @Setup
+    public void setup() {
+        chessEngine = new ChessEngine(false);
+    }
+
+    @Benchmark
+    public void checkMoveAndUndoMove() {
+        for (byte[] move : MOVES) {
+            chessEngine.checkMove(move[0], move[1]);
+        }
+        for (int i = 0; i < MOVES.length; i++) {
+            chessEngine.undoMove();
+        }
+    }
+}
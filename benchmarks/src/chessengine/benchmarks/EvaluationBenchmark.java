@@ -0,0 +1,36 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.Evaluation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the static evaluation of a position, which is called at every leaf of the search.
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+    @Param({"start", "kiwipete", "middlegame", "endgame"})
+    private String position;
+
+    private Board board;
+
+    @Setup
+    public void setup() {
+        board = Board.fromFen(Positions.fen(position));
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return Evaluation.evaluate(board);
+    }
+}
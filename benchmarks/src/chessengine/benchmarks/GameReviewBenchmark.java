@@ -0,0 +1,86 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.GameReview;
+import chessengine.MoveGenerator;
+import chessengine.PackedMove;
+import chessengine.Search;
+import chessengine.SearchLimits;
+import chessengine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the review of a game of 120 plies with one to eight worker threads, which shows how the
+ * {@link GameReview} scales with the number of cores.
+ *
+ * <p>
+ * The game is played by the engine against itself at a low depth from the start position, so it is the same in every
+ * run. The shared transposition table is cleared before every invocation.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameReviewBenchmark {
+    private static final int GAME_PLIES = 120;
+    private static final int SELF_PLAY_DEPTH = 3;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"5"})
+    private int depth;
+
+    private Board start;
+    private int[] moves;
+    private TranspositionTable transpositionTable;
+
+    @Setup
+    public void setup() {
+        start = Board.fromFen(Board.START_FEN);
+        moves = playGame();
+        transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+    }
+
+    /**
+     * Plays a game of the engine against itself.
+     *
+     * @return The moves of the game.
+     */
+    private int[] playGame() {
+        Board board = start.copy();
+        Search search = new Search(new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB));
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        int[] game = new int[GAME_PLIES];
+        int plies = 0;
+        while (plies < GAME_PLIES && MoveGenerator.generateLegalMoves(board, legalMoves) > 0
+                && !board.getPositionHistory().isThreefoldRepetition()) {
+            int move = search.search(board, SearchLimits.depth(SELF_PLAY_DEPTH)).bestMove();
+            if (move == PackedMove.NO_MOVE) {
+                break;
+            }
+            board.makeMove(move);
+            game[plies++] = move;
+        }
+        return Arrays.copyOf(game, plies);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTranspositionTable() {
+        transpositionTable.clear();
+    }
+
+    @Benchmark
+    public GameReview.Result review() throws InterruptedException {
+        return new GameReview(transpositionTable, threads).review(start, moves, depth);
+    }
+}
@@ -0,0 +1,97 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.EProofStatus;
+import chessengine.MateSolver;
+import chessengine.Search;
+import chessengine.SearchLimits;
+import chessengine.SearchResult;
+import chessengine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the time to prove a forced mate with the {@link MateSolver} against the time the alpha-beta
+ * {@link Search} needs to report the mate.
+ *
+ * <p>
+ * The suite holds mate puzzles in the Extended Position Description format, with the distance to mate in moves as the
+ * {@code dm} operation where it is known. The alpha-beta search deepens until an iteration reports a mate for the side
+ * to move, both solvers stop at the same number of nodes. Every invocation starts with an empty table. The number of
+ * solved puzzles per invocation is reported as the secondary result {@code solved}, a slow search may fail to find a
+ * long mate.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class MateSolverBenchmark {
+    private static final Map<String, String> MATE_PUZZLES = Map.of(
+            "back-rank", "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - dm 1;",
+            "queen-chase", "2r3k1/p4p2/3Rp2p/1p2P1pK/8/1P4P1/P3Q2P/1q6 b - - dm 3;",
+            "rook-lift", "r5rk/5p1p/5R2/4B3/8/8/7P/7K w - - dm 3;",
+            "king-hunt", "r1b1kb1r/pppp1ppp/5q2/4n3/3KP3/2N3PN/PPP4P/R1BQ1B1R b kq - dm 3;",
+            "knight-check", "1k5r/pP3ppp/3p2b1/1BN1n3/1Q2P3/P1B5/KP3P1P/7q w - - dm 3;",
+            "philidor", "3r3k/6pp/8/6N1/2Q5/8/8/6K1 w - - dm 4;",
+            "queen-ending", "8/8/8/4k3/8/8/8/KQ6 w - -"
+    );
+
+    @Param({"back-rank", "queen-chase", "rook-lift", "king-hunt", "knight-check", "philidor", "queen-ending"})
+    private String puzzle;
+
+    @Param({"3000000"})
+    private long nodes;
+
+    private Board board;
+    private MateSolver mateSolver;
+    private TranspositionTable transpositionTable;
+    private Search search;
+
+    /**
+     * The {@code Counters} class reports the number of solved puzzles as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public int solved;
+    }
+
+    @Setup
+    public void setup() {
+        // The first four fields of an EPD are the first four fields of a FEN
+        String[] fields = MATE_PUZZLES.get(puzzle).split(" ");
+        board = Board.fromFen(String.join(" ", fields[0], fields[1], fields[2], fields[3]) + " 0 1");
+        mateSolver = new MateSolver(MateSolver.DEFAULT_TABLE_SIZE_MB);
+        transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+        search = new Search(transpositionTable);
+        search.setIterationListener(result -> {
+            if (result.isMate() && result.score() > 0) {
+                search.stop();
+            }
+        });
+    }
+
+    @Benchmark
+    public void proofNumberSearch(Counters counters) {
+        if (mateSolver.solve(board, nodes).status() == EProofStatus.MATE) {
+            counters.solved++;
+        }
+    }
+
+    @Benchmark
+    public void alphaBetaSearch(Counters counters) {
+        transpositionTable.clear();
+        SearchResult result = search.search(board, SearchLimits.nodes(nodes));
+        if (result.isMate() && result.score() > 0) {
+            counters.solved++;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.MoveGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks pseudo-legal and legal move generation of the {@link MoveGenerator}.
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGeneratorBenchmark {
+    @Param({"start", "kiwipete", "endgame", "middlegame"})
+    private String position;
+
+    private Board board;
+    private int[] moves;
+
+    @Setup
+    public void setup() {
+        board = Board.fromFen(Positions.fen(position));
+        moves = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    @Benchmark
+    public int pseudoLegalMoves() {
+        return MoveGenerator.generatePseudoLegalMoves(board, moves);
+    }
+
+    @Benchmark
+    public int legalMoves() {
+        return MoveGenerator.generateLegalMoves(board, moves);
+    }
+}
@@ -0,0 +1,60 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.Search;
+import chessengine.SearchLimits;
+import chessengine.SearchResult;
+import chessengine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the time to reach a fixed depth with a MultiPV {@link Search} of one, three and five lines.
+ *
+ * <p>
+ * The start position is the initial position of the {@code ChessEngine}. The transposition table is cleared before
+ * every invocation, so the lines of one search only profit from the entries stored by the lines searched before.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiPvBenchmark {
+    @Param({"start", "kiwipete", "middlegame", "endgame"})
+    private String position;
+
+    @Param({"1", "3", "5"})
+    private int multiPv;
+
+    @Param({"6"})
+    private int depth;
+
+    private Board board;
+    private TranspositionTable transpositionTable;
+    private Search search;
+
+    @Setup
+    public void setup() {
+        board = Board.fromFen(Positions.fen(position));
+        transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+        search = new Search(transpositionTable);
+        search.setMultiPv(multiPv);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTranspositionTable() {
+        transpositionTable.clear();
+    }
+
+    @Benchmark
+    public SearchResult searchToDepth() {
+        return search.search(board, SearchLimits.depth(depth));
+    }
+}
@@ -0,0 +1,39 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.Perft;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Perft} at fixed depths, which measures move generation together with making and unmaking moves.
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PerftBenchmark {
+    @Param({"start", "kiwipete"})
+    private String position;
+
+    @Param({"3", "4"})
+    private int depth;
+
+    private Board board;
+
+    @Setup
+    public void setup() {
+        board = Board.fromFen(Positions.fen(position));
+    }
+
+    @Benchmark
+    public long perft() {
+        return Perft.perft(board, depth);
+    }
+}
@@ -0,0 +1,45 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+
+/**
+ * Positions shared by the benchmarks.
+ *
+ * <p>
+ * Besides the starting position, the well known perft test positions are used, which contain castling, en passant
+ * and promotion moves.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Positions {
+    public static final String START = Board.START_FEN;
+    public static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    public static final String ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    public static final String MIDDLEGAME = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private Positions() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Retrieves the FEN of a position by its name.
+     *
+     * @param name The name of the position.
+     * @return The FEN of the position.
+     * @throws IllegalArgumentException if the position is unknown.
+     */
+    public static String fen(String name) {
+        return switch (name) {
+            case "start" -> START;
+            case "kiwipete" -> KIWIPETE;
+            case "endgame" -> ENDGAME;
+            case "middlegame" -> MIDDLEGAME;
+            default -> throw new IllegalArgumentException("Unknown position: " + name);
+        };
+    }
+}
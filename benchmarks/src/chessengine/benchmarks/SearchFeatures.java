@@ -0,0 +1,39 @@
+package chessengine.benchmarks;
+
+import chessengine.ESearchFeature;
+import chessengine.Search;
+
+/**
+ * Sets of {@link ESearchFeature}s compared by the selectivity benchmarks.
+ *
+ * <p>
+ * A set is named {@code all}, {@code none} or {@code no-<feature>} for all features but one, e.g.
+ * {@code no-null-move-pruning}.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+final class SearchFeatures {
+    private SearchFeatures() {
+    }
+
+    /**
+     * Switches the features of a search according to the name of a feature set.
+     *
+     * @param search The search.
+     * @param name   The name of the feature set.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    static void apply(Search search, String name) {
+        ESearchFeature excluded = null;
+        if (name.startsWith("no-")) {
+            excluded = ESearchFeature.valueOf(name.substring(3).toUpperCase().replace('-', '_'));
+        } else if (!name.equals("all") && !name.equals("none")) {
+            throw new IllegalArgumentException("Unknown feature set: " + name);
+        }
+        for (ESearchFeature feature : ESearchFeature.values()) {
+            search.setFeatureEnabled(feature, !name.equals("none") && feature != excluded);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.PackedMove;
+import chessengine.Search;
+import chessengine.SearchLimits;
+import chessengine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the solve rate of a tactical test suite with a fixed number of nodes per position, with all, none and all
+ * but one of the selectivity techniques of the {@link Search}.
+ *
+ * <p>
+ * The suite consists of the first ten positions of "Win at Chess", with the best moves in long algebraic notation.
+ * Every invocation searches all positions with an empty transposition table. The number of solved positions per
+ * invocation is reported as the secondary result {@code solved}, the primary result is the time for the suite.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TestSuiteBenchmark {
+    private static final String[][] WIN_AT_CHESS = {
+            {"2rr3k/pp3pp1/1nnqbN1p/3pN3/2pP4/2P3Q1/PPB4P/R4RK1 w - -", "g3g6"},
+            {"8/7p/5k2/5p2/p1p2P2/Pr1pPK2/1P1R3P/8 b - -", "b3b2"},
+            {"5rk1/1ppb3p/p1pb4/6q1/3P1p1r/2P1R2P/PP1BQ1P1/5RKN w - -", "e3g3"},
+            {"r1bq2rk/pp3pbp/2p1p1pQ/7P/3P4/2PB1N2/PP3PPR/2KR4 w - -", "h6h7"},
+            {"5k2/6pp/p1qN4/1p1p4/3P4/2PKP2Q/PP3r2/3R4 b - -", "c6c4"},
+            {"7k/p7/1R5K/6r1/6p1/6P1/8/8 w - -", "b6b7"},
+            {"rnbqkb1r/pppp1ppp/8/4P3/6n1/7P/PPPNPPP1/R1BQKBNR b KQkq -", "g4e3"},
+            {"r4q1k/p2bR1rp/2p2Q1N/5p2/5p2/2P5/PP3PPP/R5K1 w - -", "e7f7"},
+            {"3q1rk1/p4pp1/2pb3p/3p4/6Pr/1PNQ4/P1PB1PP1/4RRK1 b - -", "d6h2"},
+            {"2br2k1/2q3rn/p2NppQ1/2p1P3/Pp5R/4P3/1P3PPP/3R2K1 w - -", "h4h7"},
+    };
+
+    @Param({"all", "none", "no-null-move-pruning", "no-late-move-reductions", "no-reverse-futility-pruning",
+            "no-futility-pruning", "no-check-extensions"})
+    private String features;
+
+    @Param({"200000"})
+    private long nodes;
+
+    private Board[] boards;
+    private TranspositionTable transpositionTable;
+    private Search search;
+
+    /**
+     * The {@code Counters} class reports the number of solved positions as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public int solved;
+    }
+
+    @Setup
+    public void setup() {
+        boards = new Board[WIN_AT_CHESS.length];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = Board.fromFen(WIN_AT_CHESS[i][0]);
+        }
+        transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
+        search = new Search(transpositionTable);
+        SearchFeatures.apply(search, features);
+    }
+
+    @Benchmark
+    public void solve(Counters counters) {
+        for (int i = 0; i < boards.length; i++) {
+            transpositionTable.clear();
+            int bestMove = search.search(boards[i], SearchLimits.nodes(nodes)).bestMove();
+            if (PackedMove.toString(bestMove).equals(WIN_AT_CHESS[i][1])) {
+                counters.solved++;
+            }
+        }
+    }
+}
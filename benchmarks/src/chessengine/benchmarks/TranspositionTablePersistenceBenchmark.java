@@ -0,0 +1,67 @@
+package chessengine.benchmarks;
+
+import chessengine.Board;
+import chessengine.Search;
+import chessengine.SearchLimits;
+import chessengine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving and loading a filled {@link TranspositionTable} by table size.
+ *
+ * <p>
+ * The table is filled by a search of the start position and saved to a temporary file, which is deleted after the
+ * trial. Loading into a table of half the size measures the rehashing of a file of another size.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class TranspositionTablePersistenceBenchmark {
+    @Param({"64", "256"})
+    private int sizeMb;
+
+    private TranspositionTable transpositionTable;
+    private TranspositionTable smallerTable;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        transpositionTable = new TranspositionTable(sizeMb);
+        smallerTable = new TranspositionTable(sizeMb / 2);
+        new Search(transpositionTable).search(Board.fromFen(Board.START_FEN), SearchLimits.depth(9));
+        file = Files.createTempFile("transposition", ".tt");
+        transpositionTable.save(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        transpositionTable.save(file);
+    }
+
+    @Benchmark
+    public void load() throws IOException {
+        transpositionTable.load(file);
+    }
+
+    @Benchmark
+    public void loadIntoSmallerTable() throws IOException {
+        smallerTable.load(file);
+    }
+}
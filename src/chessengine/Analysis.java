@@ -0,0 +1,174 @@
+package chessengine;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code Analysis} class analyses a position continuously on a background thread.
+ *
+ * <p>
+ * An analysis runs an infinite {@link Search} on a copy of the given board until it is stopped or restarted with a new
+ * position. The search shares the transposition table of the {@link ChessEngine}, so the analysis of the previous
+ * position speeds up the next one.
+ * </p>
+ *
+ * <p>
+ * The analysis never pushes its progress to observers. The result of the last completed iteration and the metrics of
+ * the running search are published in volatile fields, which observers like the GUI poll at their own rate.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Analysis {
+    private static final long SNAPSHOT_INTERVAL_MILLIS = 100;
+
+    private final Search search;
+    private final ExecutorService executor;
+
+    private Future<?> task;
+    private volatile Update latestUpdate;
+
+    /**
+     * Constructs an {@code Analysis} using the given transposition table.
+     *
+     * @param transpositionTable The transposition table, may be shared with other searches.
+     */
+    public Analysis(TranspositionTable transpositionTable) {
+        search = new Search(transpositionTable);
+        search.getMetrics().setSnapshotIntervalMillis(SNAPSHOT_INTERVAL_MILLIS);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analysis");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts analysing a position, stopping the analysis of the previous position first.
+     *
+     * @param board The board of the position, which is copied and not used by the analysis.
+     */
+    public synchronized void start(Board board) {
+        stop();
+        Board copy = board.copy();
+        boolean whiteToMove = copy.isWhiteToMove();
+        latestUpdate = null;
+        search.setIterationListener(result -> latestUpdate = new Update(result, whiteToMove));
+        search.prepareRun();
+        task = executor.submit(() -> search.search(copy, SearchLimits.infinite()));
+    }
+
+    /**
+     * Stops the analysis and waits until the background thread finished searching.
+     */
+    public synchronized void stop() {
+        if (task == null) {
+            return;
+        }
+        search.stop();
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Analysis failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        task = null;
+    }
+
+    /**
+     * Sets the number of lines of the analysis and restarts an active analysis with it.
+     *
+     * @param multiPv The number of lines, each starting with a different move.
+     * @param board   The board of the analysed position.
+     */
+    public synchronized void setMultiPv(int multiPv, Board board) {
+        boolean active = isActive();
+        stop();
+        search.setMultiPv(multiPv);
+        if (active) {
+            start(board);
+        }
+    }
+
+    /**
+     * Checks if the analysis is active, i.e. started and not stopped. The search of an active analysis ends on its own
+     * when it found a forced mate or the position has no legal move.
+     *
+     * @return {@code true} if the analysis is active; {@code false} otherwise.
+     */
+    public synchronized boolean isActive() {
+        return task != null;
+    }
+
+    /**
+     * Retrieves the result of the last completed iteration of the current analysis.
+     *
+     * @return The latest update, or {@code null} if no iteration is completed yet.
+     */
+    public Update getLatestUpdate() {
+        return latestUpdate;
+    }
+
+    /**
+     * Retrieves the metrics of the running search, which are published several times per second.
+     *
+     * @return The latest snapshot of the search metrics.
+     */
+    public SearchMetrics.Snapshot getLatestSnapshot() {
+        return search.getMetrics().getLatestSnapshot();
+    }
+
+    /**
+     * The {@code Update} record holds the result of one completed iteration of the analysis.
+     *
+     * @param result      The result of the iteration.
+     * @param whiteToMove {@code true} if white is to move in the analysed position, the score is relative to this side.
+     */
+    public record Update(SearchResult result, boolean whiteToMove) {
+        /**
+         * Retrieves the score of the best line from the perspective of white.
+         *
+         * @return The score in centipawns, positive if white is better.
+         */
+        public int whiteScore() {
+            return whiteScore(result.getBestLine());
+        }
+
+        /**
+         * Retrieves the score of a line from the perspective of white.
+         *
+         * @param line The line of the result.
+         * @return The score in centipawns, positive if white is better.
+         */
+        public int whiteScore(SearchLine line) {
+            return whiteToMove ? line.score() : -line.score();
+        }
+
+        /**
+         * Formats the score of the best line from the perspective of white.
+         *
+         * @return The formatted score.
+         */
+        public String formatScore() {
+            return formatScore(result.getBestLine());
+        }
+
+        /**
+         * Formats the score of a line from the perspective of white, e.g. {@code +0.35} or {@code #-3} for a mate.
+         *
+         * @param line The line of the result.
+         * @return The formatted score.
+         */
+        public String formatScore(SearchLine line) {
+            if (line.isMate()) {
+                int mateInMoves = whiteToMove ? line.getMateInMoves() : -line.getMateInMoves();
+                return "#" + mateInMoves;
+            }
+            return String.format("%+.2f", whiteScore(line) / 100.0);
+        }
+    }
+}
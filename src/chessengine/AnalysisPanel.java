@@ -0,0 +1,258 @@
+package chessengine;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * The {@code AnalysisPanel} class shows the background analysis of the {@link ChessEngine} next to the board.
+ *
+ * <p>
+ * The panel contains a toggle button switching the analysis on and off, a selection of the number of lines, an
+ * evaluation bar and the evaluation, depth, nodes per second and the principal variation of every line. While the
+ * engine plays against the human, the ponder statistics of the engine are shown below the controls.
+ * </p>
+ *
+ * <p>
+ * The displayed values are polled from the {@link Analysis} by a Swing timer four times per second, so the event
+ * dispatch thread is never flooded by a fast search, and labels are only updated when their text changed.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class AnalysisPanel extends JPanel {
+    private static final Color BACKGROUND_COLOR = new Color(40, 44, 52);
+    private static final Color TEXT_COLOR = new Color(220, 223, 228);
+    private static final int PANEL_WIDTH = 280;
+    private static final int UPDATE_INTERVAL_MILLIS = 250;
+    private static final Integer[] LINE_COUNTS = {1, 2, 3, 4, 5};
+
+    private final ChessEngine cChessEngine;
+    private final JToggleButton analysisButton;
+    private final JComboBox<Integer> lineCountBox;
+    private final EvaluationBar evaluationBar;
+    private final JLabel evaluationLabel;
+    private final JLabel depthLabel;
+    private final JLabel speedLabel;
+    private final JLabel ponderLabel;
+    private final JTextArea principalVariationArea;
+    private final Timer updateTimer;
+
+    private Analysis.Update shownUpdate;
+
+    /**
+     * Constructs an {@code AnalysisPanel} for the given chess engine.
+     *
+     * @param chessEngine the {@code ChessEngine} instance running the analysis.
+     */
+    public AnalysisPanel(ChessEngine chessEngine) {
+        cChessEngine = chessEngine;
+
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBackground(BACKGROUND_COLOR);
+        setBorder(BorderFactory.createEmptyBorder(16, 16, 16, 16));
+        setPreferredSize(new Dimension(PANEL_WIDTH, 0));
+
+        // Buttons must not take the focus, the keyboard is handled by the frame
+        analysisButton = new JToggleButton("Analysis");
+        analysisButton.setFocusable(false);
+        analysisButton.addActionListener(e -> setAnalysisEnabled(analysisButton.isSelected()));
+        lineCountBox = new JComboBox<>(LINE_COUNTS);
+        lineCountBox.setFocusable(false);
+        lineCountBox.setSelectedItem(chessEngine.getMultiPv());
+        lineCountBox.addActionListener(e -> cChessEngine.setMultiPv((Integer) lineCountBox.getSelectedItem()));
+
+        evaluationBar = new EvaluationBar();
+        evaluationLabel = createLabel(20f);
+        depthLabel = createLabel(14f);
+        speedLabel = createLabel(14f);
+        ponderLabel = createLabel(12f);
+
+        principalVariationArea = new JTextArea(12, 20);
+        principalVariationArea.setEditable(false);
+        principalVariationArea.setFocusable(false);
+        principalVariationArea.setLineWrap(true);
+        principalVariationArea.setWrapStyleWord(true);
+        principalVariationArea.setOpaque(false);
+        principalVariationArea.setForeground(TEXT_COLOR);
+        principalVariationArea.setAlignmentX(LEFT_ALIGNMENT);
+
+        // Places the button and the line selection in one row
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        controls.setOpaque(false);
+        controls.setAlignmentX(LEFT_ALIGNMENT);
+        controls.setMaximumSize(new Dimension(Integer.MAX_VALUE, analysisButton.getPreferredSize().height));
+        JLabel linesLabel = createLabel(12f);
+        linesLabel.setText("  Lines ");
+        controls.add(analysisButton);
+        controls.add(linesLabel);
+        controls.add(lineCountBox);
+        add(controls);
+        add(ponderLabel);
+        add(Box.createVerticalStrut(12));
+        add(evaluationBar);
+        add(Box.createVerticalStrut(12));
+        add(evaluationLabel);
+        add(depthLabel);
+        add(speedLabel);
+        add(Box.createVerticalStrut(12));
+        add(principalVariationArea);
+
+        updateTimer = new Timer(UPDATE_INTERVAL_MILLIS, e -> update());
+        updateTimer.start();
+        update();
+    }
+
+    /**
+     * Creates a label in the text color of the panel.
+     *
+     * @param fontSize the size of the font.
+     * @return the created label.
+     */
+    private static JLabel createLabel(float fontSize) {
+        JLabel label = new JLabel(" ");
+        label.setForeground(TEXT_COLOR);
+        label.setFont(label.getFont().deriveFont(fontSize));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    /**
+     * Switches the analysis on or off.
+     *
+     * @param enabled {@code true} to start the analysis; {@code false} to stop it.
+     */
+    private void setAnalysisEnabled(boolean enabled) {
+        cChessEngine.setAnalysisEnabled(enabled);
+        update();
+    }
+
+    /**
+     * Shows the latest results of the analysis.
+     */
+    private void update() {
+        updatePonderStatistics();
+        Analysis analysis = cChessEngine.getAnalysis();
+        // The analysis can also be toggled by the keyboard
+        analysisButton.setSelected(analysis.isActive());
+        if (!analysis.isActive()) {
+            shownUpdate = null;
+            setText(evaluationLabel, " ");
+            setText(depthLabel, " ");
+            setText(speedLabel, " ");
+            principalVariationArea.setText("");
+            evaluationBar.setScore(0);
+            return;
+        }
+
+        // The speed changes while an iteration is searched, the other values only with a completed iteration
+        SearchMetrics.Snapshot snapshot = analysis.getLatestSnapshot();
+        setText(speedLabel, String.format("%,d nodes  %,d kn/s", snapshot.nodes(), snapshot.nodesPerSecond() / 1000));
+
+        Analysis.Update latestUpdate = analysis.getLatestUpdate();
+        if (latestUpdate != shownUpdate) {
+            shownUpdate = latestUpdate;
+            if (latestUpdate == null) {
+                setText(evaluationLabel, "...");
+                setText(depthLabel, " ");
+                principalVariationArea.setText("");
+                evaluationBar.setScore(0);
+            } else {
+                SearchResult result = latestUpdate.result();
+                setText(evaluationLabel, latestUpdate.formatScore());
+                setText(depthLabel, "Depth " + result.depth());
+                principalVariationArea.setText(formatLines(latestUpdate));
+                evaluationBar.setScore(result.isMate() ? Integer.signum(latestUpdate.whiteScore()) * Search.INFINITY : latestUpdate.whiteScore());
+            }
+        }
+    }
+
+    /**
+     * Shows the ponder statistics while the engine is playing.
+     */
+    private void updatePonderStatistics() {
+        if (!cChessEngine.isEnginePlaying()) {
+            setText(ponderLabel, " ");
+        } else if (!cChessEngine.isPonderEnabled()) {
+            setText(ponderLabel, "Engine playing, pondering off");
+        } else {
+            EnginePlayer.PonderStatistics statistics = cChessEngine.getPonderStatistics();
+            setText(ponderLabel, String.format("Ponder hits %d/%d (%.0f%%), reply %.0f ms", statistics.hits(),
+                    statistics.hits() + statistics.misses(), statistics.hitRate() * 100, statistics.averageHitReplyMillis()));
+        }
+    }
+
+    /**
+     * Formats every line of an analysis update as its score followed by its principal variation.
+     *
+     * @param update the update of the analysis.
+     * @return the lines separated by blank lines.
+     */
+    private static String formatLines(Analysis.Update update) {
+        StringBuilder text = new StringBuilder();
+        for (SearchLine line : update.result().lines()) {
+            if (!text.isEmpty()) {
+                text.append("\n\n");
+            }
+            text.append(update.formatScore(line)).append("  ").append(line.getPrincipalVariationString());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Sets the text of a label if it changed, avoiding a revalidation of the panel otherwise.
+     *
+     * @param label the label.
+     * @param text  the new text.
+     */
+    private static void setText(JLabel label, String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+        }
+    }
+
+    /**
+     * The {@code EvaluationBar} class shows the evaluation as the share of white on a horizontal bar.
+     */
+    private static class EvaluationBar extends JComponent {
+        private static final int HEIGHT = 24;
+
+        private double whiteShare = 0.5;
+
+        /**
+         * Constructs an evaluation bar showing an equal position.
+         */
+        EvaluationBar() {
+            setAlignmentX(LEFT_ALIGNMENT);
+            setPreferredSize(new Dimension(PANEL_WIDTH, HEIGHT));
+            setMaximumSize(new Dimension(Integer.MAX_VALUE, HEIGHT));
+        }
+
+        /**
+         * Sets the shown score, which is mapped to the share of white by a logistic curve.
+         *
+         * @param whiteScore the score in centipawns from the perspective of white.
+         */
+        void setScore(int whiteScore) {
+            double share = 1.0 / (1.0 + Math.exp(-whiteScore / 400.0));
+            if (share != whiteShare) {
+                whiteShare = share;
+                repaint();
+            }
+        }
+
+        /**
+         * Paints the white and the black share of the bar.
+         *
+         * @param g the graphics context to paint to.
+         */
+        @Override
+        protected void paintComponent(Graphics g) {
+            int whiteWidth = (int) Math.round(getWidth() * whiteShare);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, whiteWidth, getHeight());
+            g.setColor(Color.BLACK);
+            g.fillRect(whiteWidth, 0, getWidth() - whiteWidth, getHeight());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package chessengine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Entry point of the chess engine application.
+ *
+ * <p>
+ * The {@code Application} class initializes the {@link ChessEngine} upon execution.
+ * </p>
+ *
+ * <p>
+ * This class contains the {@code main} method which:
+ * <ul>
+ *     <li>Creates an instance of the {@link ChessEngine} class to start the chess engine.</li>
+ *     <li>Starts the headless {@link EngineServer} instead with {@code --server [port]}.</li>
+ *     <li>Runs the {@link LoadGenerator} with {@code --load-test [users] [moves] [movetime] [port]}, against an
+ *     {@link EngineServer} started in the same JVM if no port is given.</li>
+ *     <li>Evaluates positions with the {@link BatchEvaluator} with {@code --batch [file] [depth] [threads]}, reading
+ *     from the standard input if the file is missing or {@code -}.</li>
+ *     <li>Tunes the evaluation with the {@link EvaluationTuner} with
+ *     {@code --tune <file> [epochs] [threads] [output]}, writing the parameters to {@code evaluation.txt} by
+ *     default.</li>
+ *     <li>Generates training data with the {@link SelfPlayGenerator} with
+ *     {@code --selfplay <directory> [positions] [nodes] [threads] [max-file-mb]}.</li>
+ *     <li>Distributes perft or a search to local worker processes with the {@link DistributedCoordinator} with
+ *     {@code --distributed <perft|search> <depth> [workers] [split-plies] [fen]}, a worker process is started with
+ *     {@code --worker <port>}.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * With the system property {@code chessengine.evaluation.parameters} set to a parameter file, the {@link Evaluation}
+ * uses its parameters in every mode.
+ * </p>
+ *
+ * <p>
+ * With the system property {@code chessengine.transposition.file} set, the GUI loads the transposition table from that
+ * file if it exists and saves it there on exit. Its size in megabytes is set by
+ * {@code chessengine.transposition.size.mb}.
+ * </p>
+ *
+ * <p>
+ * This class serves as the entry point for the application and does not support instantiation.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2024-06-26
+ */
+public class Application {
+    /**
+     * Main method, entry point of the application.
+     *
+     * @param args Command line arguments, empty to start the GUI.
+     * @throws Exception if the server cannot be started or the load test fails.
+     */
+    public static void main(String[] args) throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        String parameters = System.getProperty("chessengine.evaluation.parameters");
+        if (parameters != null) {
+            Evaluation.setParameters(EvaluationTuner.readParameters(Path.of(parameters)));
+        }
+
+        if (args.length > 0 && args[0].equals("--server")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : EngineServer.DEFAULT_PORT;
+            EngineServer server = new EngineServer(port, cores, EngineServer.DEFAULT_MAX_GAMES);
+            server.start();
+            System.out.println("Engine server listening on 127.0.0.1:" + server.getPort() + " with " + cores + " search threads");
+        } else if (args.length > 0 && args[0].equals("--load-test")) {
+            int users = args.length > 1 ? Integer.parseInt(args[1]) : 4 * cores;
+            int moves = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+            long moveTime = args.length > 3 ? Long.parseLong(args[3]) : 50;
+            EngineServer server = null;
+            int port;
+            if (args.length > 4) {
+                port = Integer.parseInt(args[4]);
+            } else {
+                server = new EngineServer(0, cores, EngineServer.DEFAULT_MAX_GAMES);
+                server.start();
+                port = server.getPort();
+            }
+            new LoadGenerator(port, users, moves, moveTime).run();
+            if (server != null) {
+                server.stop(0);
+            }
+        } else if (args.length > 0 && args[0].equals("--batch")) {
+            String file = args.length > 1 ? args[1] : "-";
+            int depth = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+            int threads = args.length > 3 ? Integer.parseInt(args[3]) : cores;
+            runBatch(file, depth, threads);
+        } else if (args.length > 1 && args[0].equals("--tune")) {
+            int epochs = args.length > 2 ? Integer.parseInt(args[2]) : EvaluationTuner.DEFAULT_EPOCHS;
+            int threads = args.length > 3 ? Integer.parseInt(args[3]) : cores;
+            String output = args.length > 4 ? args[4] : "evaluation.txt";
+            runTuner(args[1], epochs, threads, output);
+        } else if (args.length > 1 && args[0].equals("--selfplay")) {
+            long positions = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000;
+            long nodes = args.length > 3 ? Long.parseLong(args[3]) : SelfPlayGenerator.DEFAULT_NODES;
+            int threads = args.length > 4 ? Integer.parseInt(args[4]) : cores;
+            long maxFileBytes = args.length > 5 ? Long.parseLong(args[5]) << 20 : TrainingDataWriter.DEFAULT_MAX_FILE_BYTES;
+            try (TrainingDataWriter writer = new TrainingDataWriter(Path.of(args[1]), maxFileBytes)) {
+                System.out.println(new SelfPlayGenerator(writer, threads, nodes, System.nanoTime()).run(positions));
+            }
+        } else if (args.length > 1 && args[0].equals("--worker")) {
+            new DistributedWorker(Integer.parseInt(args[1])).run();
+        } else if (args.length > 2 && args[0].equals("--distributed")) {
+            EWorkType type = EWorkType.valueOf(args[1].toUpperCase());
+            int depth = Integer.parseInt(args[2]);
+            int workers = args.length > 3 ? Integer.parseInt(args[3]) : cores;
+            int splitPlies = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+            String fen = args.length > 5 ? String.join(" ", Arrays.copyOfRange(args, 5, args.length)) : Board.START_FEN;
+            runDistributed(Board.fromFen(fen), type, depth, workers, splitPlies);
+        } else {
+            ChessEngine chessEngine = new ChessEngine();
+            String transpositionFile = System.getProperty("chessengine.transposition.file");
+            if (transpositionFile != null) {
+                persistTranspositionTable(chessEngine, Path.of(transpositionFile));
+            }
+        }
+    }
+
+    /**
+     * Loads the transposition table of the engine from a file if it exists and saves it there when the application
+     * exits.
+     *
+     * @param chessEngine The engine.
+     * @param path        The path of the file.
+     * @throws IOException if the file exists but cannot be loaded.
+     */
+    private static void persistTranspositionTable(ChessEngine chessEngine, Path path) throws IOException {
+        if (Files.exists(path)) {
+            long startNanos = System.nanoTime();
+            chessEngine.loadTranspositionTable(path);
+            System.out.printf("Transposition table loaded from %s in %.2f s%n", path, (System.nanoTime() - startNanos) / 1e9);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                chessEngine.saveTranspositionTable(path);
+            } catch (IOException e) {
+                System.err.println("Transposition table not saved: " + e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Evaluates the positions of a file or the standard input, writes the results to the standard output and reports
+     * the throughput to the standard error.
+     *
+     * @param file    The path of the file, {@code -} for the standard input.
+     * @param depth   The search depth in plies, {@code 0} for the static evaluation only.
+     * @param threads The number of worker threads.
+     * @throws IOException          if the input cannot be read.
+     * @throws InterruptedException if the thread is interrupted while evaluating.
+     */
+    private static void runBatch(String file, int depth, int threads) throws IOException, InterruptedException {
+        BufferedReader input = file.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(file));
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        long startNanos = System.nanoTime();
+        long positions;
+        try (input) {
+            positions = new BatchEvaluator(threads, depth).evaluate(input, output);
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.err.printf("%,d positions in %.2f s with %d threads, %,.0f positions/s%n", positions, seconds, threads, positions / seconds);
+    }
+
+    /**
+     * Starts local worker processes, distributes perft or a search of a position to them and prints the count or
+     * score of every root move and the combined result.
+     *
+     * @param board      The board of the position.
+     * @param type       The work to compute.
+     * @param depth      The depth in plies.
+     * @param workers    The number of worker processes.
+     * @param splitPlies The plies after which the tree is split into units.
+     * @throws IOException          if the coordinator or a worker cannot be started.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    private static void runDistributed(Board board, EWorkType type, int depth, int workers, int splitPlies)
+            throws IOException, InterruptedException {
+        try (DistributedCoordinator coordinator = new DistributedCoordinator(0)) {
+            for (int i = 0; i < workers; i++) {
+                coordinator.startLocalWorker();
+            }
+            DistributedCoordinator.Result result = coordinator.run(board, type, depth, splitPlies);
+            result.rootMoves().forEach((move, value) -> System.out.println(move + ": " + value));
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * Loads labelled positions, tunes the evaluation on them and writes the tuned parameters.
+     *
+     * @param file    The path of the labelled positions.
+     * @param epochs  The number of epochs.
+     * @param threads The number of threads computing the gradient.
+     * @param output  The path of the parameter file to write.
+     * @throws IOException          if the positions cannot be read or the parameters cannot be written.
+     * @throws InterruptedException if the thread is interrupted while tuning.
+     */
+    private static void runTuner(String file, int epochs, int threads, String output) throws IOException, InterruptedException {
+        EvaluationTuner tuner = new EvaluationTuner(threads);
+        long startNanos = System.nanoTime();
+        try (BufferedReader input = Files.newBufferedReader(Path.of(file))) {
+            tuner.load(input);
+        }
+        double bytesPerPosition = tuner.trimToSize();
+        System.out.printf("Loaded %,d positions in %.2f s, %.1f bytes per position%n", tuner.getPositionCount(),
+                (System.nanoTime() - startNanos) / 1e9, bytesPerPosition);
+        EvaluationTuner.writeParameters(Path.of(output), tuner.tune(epochs));
+        System.out.println("Parameters written to " + output);
+    }
+}
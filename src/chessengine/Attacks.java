@@ -0,0 +1,235 @@
+package chessengine;
+
+/**
+ * Utility class providing precomputed attack tables for all chess pieces.
+ *
+ * <p>
+ * The {@code Attacks} class includes static methods for:
+ * <ul>
+ *     <li>Looking up the squares attacked by a pawn, knight or king on a given square.</li>
+ *     <li>Computing the squares attacked by a bishop, rook or queen for a given occupancy.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Squares use the bitboard numbering of the {@link ChessEngine}: bit 0 is h1, bit 7 is a1 and bit 63 is a8.
+ * Sliding attacks are computed from precomputed rays, which are cut off behind the first blocker.
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Attacks {
+    // Ray directions, the first four run towards higher bit positions
+    public static final int NORTH = 0;
+    public static final int WEST = 1;
+    public static final int NORTH_EAST = 2;
+    public static final int NORTH_WEST = 3;
+    public static final int SOUTH = 4;
+    public static final int EAST = 5;
+    public static final int SOUTH_WEST = 6;
+    public static final int SOUTH_EAST = 7;
+
+    private static final int[] FILE_STEPS = {0, -1, 1, -1, 0, 1, -1, 1};
+    private static final int[] RANK_STEPS = {1, 0, 1, 1, -1, 0, -1, -1};
+
+    private static final long[][] PAWN_ATTACKS = new long[2][64];
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+    private static final long[][] RAYS = new long[8][64];
+
+    static {
+        int[][] knightSteps = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}};
+        for (int square = 0; square < 64; square++) {
+            int file = fileOf(square);
+            int rank = rankOf(square);
+
+            PAWN_ATTACKS[0][square] = bitAt(file - 1, rank + 1) | bitAt(file + 1, rank + 1);
+            PAWN_ATTACKS[1][square] = bitAt(file - 1, rank - 1) | bitAt(file + 1, rank - 1);
+
+            for (int[] step : knightSteps) {
+                KNIGHT_ATTACKS[square] |= bitAt(file + step[0], rank + step[1]);
+            }
+
+            for (int direction = 0; direction < 8; direction++) {
+                KING_ATTACKS[square] |= bitAt(file + FILE_STEPS[direction], rank + RANK_STEPS[direction]);
+                for (int distance = 1; distance < 8; distance++) {
+                    RAYS[direction][square] |= bitAt(file + FILE_STEPS[direction] * distance, rank + RANK_STEPS[direction] * distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private Attacks() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Retrieves the file of a square.
+     *
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return The file of the square (0 for a through 7 for h).
+     */
+    public static int fileOf(int square) {
+        return 7 - (square & 7);
+    }
+
+    /**
+     * Retrieves the rank of a square.
+     *
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return The rank of the square (0 for rank 1 through 7 for rank 8).
+     */
+    public static int rankOf(int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Retrieves the bitboard position of the square on the given file and rank.
+     *
+     * @param file The file of the square (0 for a through 7 for h).
+     * @param rank The rank of the square (0 for rank 1 through 7 for rank 8).
+     * @return The bitboard position (0 to 63) of the square.
+     */
+    public static int squareOf(int file, int rank) {
+        return rank * 8 + 7 - file;
+    }
+
+    /**
+     * Retrieves the distance of two squares in king moves.
+     *
+     * @param from The bitboard position (0 to 63) of the first square.
+     * @param to   The bitboard position (0 to 63) of the second square.
+     * @return The larger of the file and the rank distance (0 to 7).
+     */
+    public static int distance(int from, int to) {
+        return Math.max(Math.abs(fileOf(from) - fileOf(to)), Math.abs(rankOf(from) - rankOf(to)));
+    }
+
+    /**
+     * Checks if a square is dark, like a1 and h8.
+     *
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return {@code true} if the square is dark; {@code false} if it is light.
+     */
+    public static boolean isDarkSquare(int square) {
+        return ((fileOf(square) + rankOf(square)) & 1) == 0;
+    }
+
+    /**
+     * Creates a bitboard with only the square on the given file and rank set.
+     *
+     * @param file The file of the square, may be off the board.
+     * @param rank The rank of the square, may be off the board.
+     * @return The bitboard of the square, or {@code 0} if the square is off the board.
+     */
+    private static long bitAt(int file, int rank) {
+        if (file < 0 || file > 7 || rank < 0 || rank > 7) {
+            return 0L;
+        }
+        return 1L << squareOf(file, rank);
+    }
+
+    /**
+     * Retrieves the squares attacked by a pawn.
+     *
+     * @param white  {@code true} for a white pawn, {@code false} for a black pawn.
+     * @param square The square the pawn stands on.
+     * @return The bitboard of the attacked squares.
+     */
+    public static long pawnAttacks(boolean white, int square) {
+        return PAWN_ATTACKS[white ? 0 : 1][square];
+    }
+
+    /**
+     * Retrieves the squares attacked by a knight.
+     *
+     * @param square The square the knight stands on.
+     * @return The bitboard of the attacked squares.
+     */
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    /**
+     * Retrieves the squares attacked by a king.
+     *
+     * @param square The square the king stands on.
+     * @return The bitboard of the attacked squares.
+     */
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    /**
+     * Retrieves all squares from a square to the edge of the board in one direction, excluding the square itself.
+     *
+     * @param direction The direction of the ray.
+     * @param square    The square the ray starts from.
+     * @return The bitboard of the ray.
+     */
+    public static long ray(int direction, int square) {
+        return RAYS[direction][square];
+    }
+
+    /**
+     * Computes the squares attacked in one direction, up to and including the first blocker.
+     *
+     * @param direction The direction of the ray.
+     * @param square    The square the ray starts from.
+     * @param occupancy The bitboard of all occupied squares.
+     * @return The bitboard of the attacked squares.
+     */
+    private static long rayAttacks(int direction, int square, long occupancy) {
+        long attacks = RAYS[direction][square];
+        long blockers = attacks & occupancy;
+        if (blockers != 0) {
+            // Directions below SOUTH run towards higher bit positions, so their nearest blocker is the lowest bit
+            int blocker = direction < SOUTH ? Long.numberOfTrailingZeros(blockers) : 63 - Long.numberOfLeadingZeros(blockers);
+            attacks ^= RAYS[direction][blocker];
+        }
+        return attacks;
+    }
+
+    /**
+     * Computes the squares attacked by a bishop.
+     *
+     * @param square    The square the bishop stands on.
+     * @param occupancy The bitboard of all occupied squares.
+     * @return The bitboard of the attacked squares.
+     */
+    public static long bishopAttacks(int square, long occupancy) {
+        return rayAttacks(NORTH_EAST, square, occupancy) | rayAttacks(NORTH_WEST, square, occupancy)
+                | rayAttacks(SOUTH_EAST, square, occupancy) | rayAttacks(SOUTH_WEST, square, occupancy);
+    }
+
+    /**
+     * Computes the squares attacked by a rook.
+     *
+     * @param square    The square the rook stands on.
+     * @param occupancy The bitboard of all occupied squares.
+     * @return The bitboard of the attacked squares.
+     */
+    public static long rookAttacks(int square, long occupancy) {
+        return rayAttacks(NORTH, square, occupancy) | rayAttacks(SOUTH, square, occupancy)
+                | rayAttacks(EAST, square, occupancy) | rayAttacks(WEST, square, occupancy);
+    }
+
+    /**
+     * Computes the squares attacked by a queen.
+     *
+     * @param square    The square the queen stands on.
+     * @param occupancy The bitboard of all occupied squares.
+     * @return The bitboard of the attacked squares.
+     */
+    public static long queenAttacks(int square, long occupancy) {
+        return bishopAttacks(square, occupancy) | rookAttacks(square, occupancy);
+    }
+}
@@ -0,0 +1,282 @@
+package chessengine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code BatchEvaluator} class evaluates a stream of positions in parallel and writes the results in input order.
+ *
+ * <p>
+ * Every input line holds a position in Forsyth-Edwards Notation or an EPD record, whose operations are ignored. Every
+ * output line repeats the input followed by tab separated columns: the static evaluation and, with a search depth, the
+ * search score and the best move. All scores are in centipawns from the perspective of white. Lines which are not a
+ * valid position are answered with an {@code error} column, empty lines are copied.
+ * </p>
+ *
+ * <p>
+ * The lines are passed through a pipeline of bounded buffers, so memory stays constant for any input size:
+ * <ul>
+ *     <li>The calling thread reads the lines into a bounded queue.</li>
+ *     <li>Each worker thread takes lines from the queue and owns its {@link Board}, {@link Search} and
+ *     {@link TranspositionTable}, so workers share no mutable state and scale with the number of cores. The board is
+ *     reused for every position by loading its FEN.</li>
+ *     <li>The workers put their results into a reorder ring indexed by the line number. A worker ahead of the oldest
+ *     unwritten line by more than the size of the ring waits, so a slow position cannot let the ring grow.</li>
+ *     <li>A writer thread writes the results of the ring in input order as soon as they are complete.</li>
+ * </ul>
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class BatchEvaluator {
+    private static final int QUEUE_CAPACITY_PER_WORKER = 256;
+    private static final int WORKER_TRANSPOSITION_TABLE_SIZE_MB = 4;
+    private static final Line END = new Line(-1, "");
+
+    private final int workerCount;
+    private final int depth;
+
+    private final BlockingQueue<Line> queue;
+    private final String[] ring;
+    private final ReentrantLock ringLock;
+    private final Condition ringSlotFree;
+    private final Condition ringSlotFilled;
+    private long nextIndexToWrite;
+
+    /**
+     * Constructs a {@code BatchEvaluator}.
+     *
+     * @param workerCount The number of worker threads, usually the number of cores.
+     * @param depth       The search depth in plies, {@code 0} for the static evaluation only.
+     * @throws IllegalArgumentException if the number of workers is not positive or the depth is out of range.
+     */
+    public BatchEvaluator(int workerCount, int depth) {
+        if (workerCount < 1 || depth < 0 || depth >= Search.MAX_PLY) {
+            throw new IllegalArgumentException("Illegal workers or depth: " + workerCount + ", " + depth);
+        }
+        this.workerCount = workerCount;
+        this.depth = depth;
+        queue = new ArrayBlockingQueue<>(workerCount * QUEUE_CAPACITY_PER_WORKER);
+        ring = new String[workerCount * QUEUE_CAPACITY_PER_WORKER * 2];
+        ringLock = new ReentrantLock();
+        ringSlotFree = ringLock.newCondition();
+        ringSlotFilled = ringLock.newCondition();
+    }
+
+    /**
+     * Evaluates all positions of the input and writes the results to the output in input order.
+     *
+     * @param input  The input, one position per line.
+     * @param output The output, one result per line. It is flushed but not closed.
+     * @return The number of evaluated lines.
+     * @throws IOException          if the input cannot be read or the output cannot be written.
+     * @throws InterruptedException if the thread is interrupted while evaluating.
+     */
+    public long evaluate(BufferedReader input, Writer output) throws IOException, InterruptedException {
+        nextIndexToWrite = 0;
+        long[] lineCount = {Long.MAX_VALUE};
+        IOException[] writeError = new IOException[1];
+
+        Thread[] workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::work, "batch-worker-" + i);
+            workers[i].start();
+        }
+        Thread writer = new Thread(() -> {
+            try {
+                writeError[0] = write(output, lineCount);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "batch-writer");
+        writer.start();
+
+        // Reads the lines on the calling thread, the bounded queue blocks it while the workers are busy
+        long index = 0;
+        try {
+            String text;
+            while ((text = input.readLine()) != null) {
+                queue.put(new Line(index++, text));
+            }
+        } finally {
+            for (int i = 0; i < workerCount; i++) {
+                queue.put(END);
+            }
+            ringLock.lock();
+            try {
+                lineCount[0] = index;
+                ringSlotFilled.signalAll();
+            } finally {
+                ringLock.unlock();
+            }
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        writer.join();
+        if (writeError[0] != null) {
+            throw writeError[0];
+        }
+        return index;
+    }
+
+    /**
+     * Takes lines from the queue and evaluates them until the end of the input is reached.
+     */
+    private void work() {
+        Board board = new Board();
+        Search search = depth > 0 ? new Search(new TranspositionTable(WORKER_TRANSPOSITION_TABLE_SIZE_MB)) : null;
+        SearchLimits limits = SearchLimits.depth(depth);
+        try {
+            Line line;
+            while ((line = queue.take()) != END) {
+                publish(line.index, line.text + evaluateLine(line.text, board, search, limits));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Evaluates the position of one input line.
+     *
+     * @param text   The input line.
+     * @param board  The board of the worker, which is replaced by the position.
+     * @param search The search of the worker, {@code null} without a search depth.
+     * @param limits The limits of the search.
+     * @return The result columns, each starting with a tab.
+     */
+    private static String evaluateLine(String text, Board board, Search search, SearchLimits limits) {
+        if (text.isBlank()) {
+            return "";
+        }
+        // Every line must produce a result, otherwise the writer would wait for it forever
+        try {
+            board.loadFen(text);
+            return evaluatePosition(board, search, limits);
+        } catch (RuntimeException e) {
+            return "\terror " + e.getMessage();
+        }
+    }
+
+    /**
+     * Evaluates the position on a board.
+     *
+     * @param board  The board of the worker.
+     * @param search The search of the worker, {@code null} without a search depth.
+     * @param limits The limits of the search.
+     * @return The result columns, each starting with a tab.
+     */
+    private static String evaluatePosition(Board board, Search search, SearchLimits limits) {
+        StringBuilder columns = new StringBuilder();
+        columns.append('\t').append(Evaluation.evaluateWhite(board));
+        if (search != null) {
+            SearchResult result = search.search(board, limits);
+            int whiteScore = board.isWhiteToMove() ? result.score() : -result.score();
+            columns.append('\t').append(whiteScore).append('\t').append(PackedMove.toString(result.bestMove()));
+        }
+        return columns.toString();
+    }
+
+    /**
+     * Puts the result of a line into the reorder ring, waiting while the ring has no slot for the line.
+     *
+     * @param index  The line number.
+     * @param result The output line.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private void publish(long index, String result) throws InterruptedException {
+        ringLock.lock();
+        try {
+            while (index >= nextIndexToWrite + ring.length) {
+                ringSlotFree.await();
+            }
+            ring[(int) (index % ring.length)] = result;
+            if (index == nextIndexToWrite) {
+                ringSlotFilled.signal();
+            }
+        } finally {
+            ringLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the results of the ring in input order until all lines are written.
+     *
+     * <p>
+     * If the output fails, the remaining results are still taken from the ring, so the workers do not block.
+     * </p>
+     *
+     * @param output    The output.
+     * @param lineCount The number of input lines, {@link Long#MAX_VALUE} while the input is still read.
+     * @return The first error of the output, {@code null} if all results were written.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private IOException write(Writer output, long[] lineCount) throws InterruptedException {
+        IOException error = null;
+        while (true) {
+            String result;
+            ringLock.lock();
+            try {
+                int slot = (int) (nextIndexToWrite % ring.length);
+                while (ring[slot] == null && nextIndexToWrite < lineCount[0]) {
+                    // Flushes while waiting, so results are streamed out and not held back by the buffer
+                    ringLock.unlock();
+                    try {
+                        if (error == null) {
+                            output.flush();
+                        }
+                    } catch (IOException e) {
+                        error = e;
+                    } finally {
+                        ringLock.lock();
+                    }
+                    if (ring[slot] == null && nextIndexToWrite < lineCount[0]) {
+                        ringSlotFilled.await();
+                    }
+                }
+                if (nextIndexToWrite >= lineCount[0]) {
+                    break;
+                }
+                result = ring[slot];
+                ring[slot] = null;
+                nextIndexToWrite++;
+                ringSlotFree.signalAll();
+            } finally {
+                ringLock.unlock();
+            }
+            if (error == null) {
+                try {
+                    output.write(result);
+                    output.write('\n');
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+        }
+        try {
+            if (error == null) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            error = e;
+        }
+        return error;
+    }
+
+    /**
+     * The {@code Line} record holds an input line and its line number.
+     *
+     * @param index The line number, starting with {@code 0}.
+     * @param text  The text of the line.
+     */
+    private record Line(long index, String text) {
+    }
+}
@@ -0,0 +1,291 @@
+package chessengine;
+
+import java.util.Arrays;
+
+/**
+ * Utility class providing helper methods for manipulating and inspecting bits in a long bitstream.
+ *
+ * <p>
+ * The {@code BitHelper} class includes static methods for:
+ * <ul>
+ *     <li>Setting a bit at a specified position in a bitstream.</li>
+ *     <li>Clearing a bit at a specified position in a bitstream.</li>
+ *     <li>Checking if a bit is set at a specified position in a bitstream.</li>
+ *     <li>Counting the number of bits set to {@code 1} in a bitstream.</li>
+ *     <li>Iterating the set bits of a bitstream from the lowest to the highest position.</li>
+ *     <li>Looking up the file, rank and diagonal masks of a square and the squares between and on a line through
+ *     two squares.</li>
+ *     <li>Flipping a bitboard vertically (rank 1 to rank 8) and mirroring it horizontally (file a to file h).</li>
+ *     <li>Printing the binary representation of a bitstream in a single line.</li>
+ *     <li>Printing the binary representation of a bitstream in a matrix format (8x8).</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The set bits of a bitstream are iterated by taking the lowest set bit and clearing it, so the cost scales with the
+ * number of set bits instead of the 64 positions:
+ * <pre>{@code
+ * for (long bits = bitstream; bits != 0; bits = BitHelper.clearLowestBit(bits)) {
+ *     int position = BitHelper.lowestBit(bits);
+ * }
+ * }</pre>
+ * </p>
+ *
+ * <p>
+ * The masks and line tables use the square numbering of the {@link Attacks}: bit 0 is h1, bit 7 is a1 and bit 63 is
+ * a8. They are computed once from its rays.
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2024-06-26
+ */
+public class BitHelper {
+    private static final long[] FILE_MASKS = new long[8];
+    private static final long[] RANK_MASKS = new long[8];
+    private static final long[] DIAGONAL_MASKS = new long[64];
+    private static final long[] ANTI_DIAGONAL_MASKS = new long[64];
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINES = new long[64][64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            long bit = 1L << square;
+            FILE_MASKS[Attacks.fileOf(square)] |= bit;
+            RANK_MASKS[Attacks.rankOf(square)] |= bit;
+            DIAGONAL_MASKS[square] = Attacks.ray(Attacks.NORTH_EAST, square) | Attacks.ray(Attacks.SOUTH_WEST, square) | bit;
+            ANTI_DIAGONAL_MASKS[square] = Attacks.ray(Attacks.NORTH_WEST, square) | Attacks.ray(Attacks.SOUTH_EAST, square) | bit;
+
+            // Every square on a ray shares a line with the start square, the opposite direction is four apart
+            for (int direction = 0; direction < 8; direction++) {
+                long ray = Attacks.ray(direction, square);
+                long line = ray | Attacks.ray(direction ^ 4, square) | bit;
+                for (long targets = ray; targets != 0; targets = clearLowestBit(targets)) {
+                    int target = lowestBit(targets);
+                    BETWEEN[square][target] = ray & Attacks.ray(direction ^ 4, target);
+                    LINES[square][target] = line;
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private BitHelper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Sets a bit at a specified position in the given bitstream.
+     *
+     * @param bitstream The original bitstream.
+     * @param position  The position (0 to 63) where the bit should be set.
+     * @return The bitstream with the specified bit set.
+     */
+    public static long setBit(long bitstream, int position) {
+        return bitstream | (1L << position);
+    }
+
+    /**
+     * Clears a bit at a specified position in the given bitstream.
+     *
+     * @param bitstream The original bitstream.
+     * @param position  The position (0 to 63) where the bit should be cleared.
+     * @return The bitstream with the specified bit cleared.
+     */
+    public static long clearBit(long bitstream, int position) {
+        return bitstream & ~(1L << position);
+    }
+
+    /**
+     * Checks if a bit is set at a specified position in the given bitstream.
+     *
+     * @param bitstream The bitstream to check.
+     * @param position  The position (0 to 63) of the bit to check.
+     * @return {@code true} if the bit is set (1), {@code false} otherwise (0).
+     */
+    public static boolean isBitSet(long bitstream, int position) {
+        return (bitstream & (1L << position)) != 0;
+    }
+
+    /**
+     * Counts the number of bits set to {@code 1} in the given bitstream.
+     *
+     * @param bitstream The bitstream to count bits from.
+     * @return The number of bits set to {@code 1} in the bitstream.
+     */
+    public static int countBits(long bitstream) {
+        return Long.bitCount(bitstream);
+    }
+
+    /**
+     * Retrieves the position of the lowest set bit in the given bitstream.
+     *
+     * @param bitstream The bitstream, which should not be {@code 0}.
+     * @return The position (0 to 63) of the lowest set bit, {@code 64} if no bit is set.
+     */
+    public static int lowestBit(long bitstream) {
+        return Long.numberOfTrailingZeros(bitstream);
+    }
+
+    /**
+     * Clears the lowest set bit in the given bitstream.
+     *
+     * @param bitstream The original bitstream.
+     * @return The bitstream without its lowest set bit.
+     */
+    public static long clearLowestBit(long bitstream) {
+        return bitstream & (bitstream - 1);
+    }
+
+    /**
+     * Retrieves the mask of all squares on a file.
+     *
+     * @param file The file (0 for a through 7 for h).
+     * @return The bitboard of the file.
+     */
+    public static long fileMask(int file) {
+        return FILE_MASKS[file];
+    }
+
+    /**
+     * Retrieves the mask of all squares on a rank.
+     *
+     * @param rank The rank (0 for rank 1 through 7 for rank 8).
+     * @return The bitboard of the rank.
+     */
+    public static long rankMask(int rank) {
+        return RANK_MASKS[rank];
+    }
+
+    /**
+     * Retrieves the mask of the diagonal running from south-west to north-east through a square.
+     *
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return The bitboard of the diagonal, including the square.
+     */
+    public static long diagonalMask(int square) {
+        return DIAGONAL_MASKS[square];
+    }
+
+    /**
+     * Retrieves the mask of the anti-diagonal running from south-east to north-west through a square.
+     *
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return The bitboard of the anti-diagonal, including the square.
+     */
+    public static long antiDiagonalMask(int square) {
+        return ANTI_DIAGONAL_MASKS[square];
+    }
+
+    /**
+     * Retrieves the squares strictly between two squares on a common file, rank or diagonal.
+     *
+     * @param from The bitboard position (0 to 63) of the first square.
+     * @param to   The bitboard position (0 to 63) of the second square.
+     * @return The bitboard of the squares between, {@code 0} if the squares share no line or are adjacent.
+     */
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    /**
+     * Retrieves the whole file, rank or diagonal through two squares, e.g. to test if a pinned piece stays on the
+     * line of its pin.
+     *
+     * @param from The bitboard position (0 to 63) of the first square.
+     * @param to   The bitboard position (0 to 63) of the second square.
+     * @return The bitboard of the line from edge to edge, {@code 0} if the squares share no line or are equal.
+     */
+    public static long line(int from, int to) {
+        return LINES[from][to];
+    }
+
+    /**
+     * Flips a bitstream vertically, so rank 1 becomes rank 8, e.g. to look at the position from black's side.
+     *
+     * @param bitstream The original bitstream.
+     * @return The flipped bitstream.
+     */
+    public static long flipVertical(long bitstream) {
+        return Long.reverseBytes(bitstream);
+    }
+
+    /**
+     * Mirrors a bitstream horizontally, so file a becomes file h, by reversing the bits of every byte.
+     *
+     * @param bitstream The original bitstream.
+     * @return The mirrored bitstream.
+     */
+    public static long mirrorHorizontal(long bitstream) {
+        bitstream = (bitstream >>> 1) & 0x5555555555555555L | (bitstream & 0x5555555555555555L) << 1;
+        bitstream = (bitstream >>> 2) & 0x3333333333333333L | (bitstream & 0x3333333333333333L) << 2;
+        return (bitstream >>> 4) & 0x0F0F0F0F0F0F0F0FL | (bitstream & 0x0F0F0F0F0F0F0F0FL) << 4;
+    }
+
+    /**
+     * Flips a square vertically, e.g. to look up a piece-square table of white for a black piece.
+     *
+     * @param position The position (0 to 63) of the square.
+     * @return The position of the square on the same file and the opposite rank.
+     */
+    public static int flipSquare(int position) {
+        return position ^ 56;
+    }
+
+    /**
+     * Mirrors a square horizontally.
+     *
+     * @param position The position (0 to 63) of the square.
+     * @return The position of the square on the same rank and the opposite file.
+     */
+    public static int mirrorSquare(int position) {
+        return position ^ 7;
+    }
+
+    /**
+     * Prints the binary representation of the given bitstream in a single line.
+     *
+     * @param bitstream The bitstream to print.
+     */
+    public static void printBitstreamInLine(long bitstream) {
+        System.out.print(new String(toDigits(bitstream)));
+    }
+
+    /**
+     * Prints the binary representation of the given bitstream in a matrix format (8x8).
+     *
+     * @param bitstream The bitstream to print.
+     */
+    public static void printBitstreamInMatrix(long bitstream) {
+        char[] digits = toDigits(bitstream);
+        StringBuilder matrix = new StringBuilder(128 + 8 * System.lineSeparator().length());
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                matrix.append(digits[row * 8 + column]).append(' ');
+            }
+            matrix.append(System.lineSeparator());
+        }
+        System.out.print(matrix);
+    }
+
+    /**
+     * Converts the given bitstream into binary digits, starting with position {@code 0}.
+     * Only the set bits are visited, all other digits keep their initial {@code 0}.
+     *
+     * @param bitstream The bitstream to convert.
+     * @return The 64 digits of the bitstream.
+     */
+    private static char[] toDigits(long bitstream) {
+        char[] digits = new char[64];
+        Arrays.fill(digits, '0');
+        for (long bits = bitstream; bits != 0; bits = clearLowestBit(bits)) {
+            digits[lowestBit(bits)] = '1';
+        }
+        return digits;
+    }
+}
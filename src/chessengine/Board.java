@@ -0,0 +1,731 @@
+package chessengine;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The {@code Board} class represents a chess position for move generation and search.
+ *
+ * <p>
+ * In contrast to the game state of the {@link ChessEngine}, which maps every {@link EPieceAbbreviation} to its bitboard
+ * in a {@link HashMap}, the board keeps the twelve bitboards in a primitive array indexed by the piece ordinal and
+ * additionally tracks the side to move, castling rights, the en passant square and the move counters.
+ * </p>
+ *
+ * <p>
+ * Moves are {@link PackedMove packed moves} which are made and unmade in place without allocating. The key and the
+ * halfmove clock of every position are stored in a {@link PositionHistory}, so repetitions can be detected during a
+ * search exactly like in the game.
+ * </p>
+ *
+ * <p>
+ * Besides the bitboards, the board keeps a mailbox holding the piece of every square, which is updated together with
+ * the bitboards. It answers which piece stands on a square with a single array read, e.g. to detect the captured
+ * piece of a move. With the system property {@code chessengine.board.checks} set to {@code true}, every move and
+ * unmove verifies that the mailbox, the bitboards and the occupancies agree, see {@link #checkConsistency()}.
+ * </p>
+ *
+ * <p>
+ * Note: Squares use the bitboard numbering of the {@link ChessEngine}: bit 0 is h1, bit 7 is a1 and bit 63 is a8.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Board {
+    public static final int NO_PIECE = 12;
+    public static final int NO_SQUARE = -1;
+
+    // Piece types, the piece ordinal modulo six
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    // Castling rights
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String FEN_PIECES = "PNBRQKpnbrqk";
+    private static final int DEFAULT_UNDO_CAPACITY = 512;
+
+    // Verifies the redundant state after every move, read once so the checks are compiled away when disabled
+    private static final boolean CONSISTENCY_CHECKS = Boolean.getBoolean("chessengine.board.checks");
+
+    // Castling rights which remain after a piece moves from or to a square
+    private static final int[] CASTLING_MASKS = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASKS, WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASKS[0] &= ~WHITE_KINGSIDE;
+        CASTLING_MASKS[7] &= ~WHITE_QUEENSIDE;
+        CASTLING_MASKS[3] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        CASTLING_MASKS[56] &= ~BLACK_KINGSIDE;
+        CASTLING_MASKS[63] &= ~BLACK_QUEENSIDE;
+        CASTLING_MASKS[59] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+    }
+
+    private final long[] bitboards;
+    private final byte[] mailbox;
+    private final PositionHistory positionHistory;
+
+    private long whitePieces;
+    private long blackPieces;
+    private boolean whiteToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private int fullmoveNumber;
+    private int ply;
+    private int[] undoStates;
+
+    /**
+     * Constructs an empty {@code Board} with white to move.
+     */
+    public Board() {
+        bitboards = new long[12];
+        mailbox = new byte[64];
+        Arrays.fill(mailbox, (byte) NO_PIECE);
+        positionHistory = new PositionHistory();
+        undoStates = new int[DEFAULT_UNDO_CAPACITY];
+        whiteToMove = true;
+        enPassantSquare = NO_SQUARE;
+        fullmoveNumber = 1;
+    }
+
+    /**
+     * Constructs an independent copy of another board, including its position history and undo stack.
+     *
+     * @param other The board to copy.
+     */
+    private Board(Board other) {
+        bitboards = other.bitboards.clone();
+        mailbox = other.mailbox.clone();
+        positionHistory = new PositionHistory(other.positionHistory);
+        undoStates = other.undoStates.clone();
+        whitePieces = other.whitePieces;
+        blackPieces = other.blackPieces;
+        whiteToMove = other.whiteToMove;
+        castlingRights = other.castlingRights;
+        enPassantSquare = other.enPassantSquare;
+        fullmoveNumber = other.fullmoveNumber;
+        ply = other.ply;
+    }
+
+    /**
+     * Creates an independent copy of the board, e.g. to search the position on another thread.
+     * The copy keeps the position history, so repetitions of earlier positions are detected on it.
+     *
+     * @return The copy of the board.
+     */
+    public Board copy() {
+        return new Board(this);
+    }
+
+    /**
+     * Creates a board from the game state of the {@link ChessEngine}.
+     *
+     * <p>
+     * The game state contains no castling rights, so they are granted for every king and rook still standing on its
+     * initial square. No en passant square is set.
+     * </p>
+     *
+     * @param gameState   The game state mapping each piece to its bitboard.
+     * @param whiteToMove {@code true} if white is to move, {@code false} otherwise.
+     * @return The board of the position.
+     */
+    public static Board fromGameState(HashMap<EPieceAbbreviation, Long> gameState, boolean whiteToMove) {
+        Board board = new Board();
+        for (EPieceAbbreviation piece : EPieceAbbreviation.values()) {
+            board.bitboards[piece.ordinal()] = gameState.get(piece);
+        }
+        board.whiteToMove = whiteToMove;
+
+        // Grants castling rights for kings and rooks on their initial squares
+        long whiteKing = board.bitboards[EPieceAbbreviation.WK.ordinal()];
+        long whiteRooks = board.bitboards[EPieceAbbreviation.WR.ordinal()];
+        long blackKing = board.bitboards[EPieceAbbreviation.BK.ordinal()];
+        long blackRooks = board.bitboards[EPieceAbbreviation.BR.ordinal()];
+        if (BitHelper.isBitSet(whiteKing, 3)) {
+            board.castlingRights |= BitHelper.isBitSet(whiteRooks, 0) ? WHITE_KINGSIDE : 0;
+            board.castlingRights |= BitHelper.isBitSet(whiteRooks, 7) ? WHITE_QUEENSIDE : 0;
+        }
+        if (BitHelper.isBitSet(blackKing, 59)) {
+            board.castlingRights |= BitHelper.isBitSet(blackRooks, 56) ? BLACK_KINGSIDE : 0;
+            board.castlingRights |= BitHelper.isBitSet(blackRooks, 63) ? BLACK_QUEENSIDE : 0;
+        }
+
+        board.initializeDerivedState((short) 0);
+        return board;
+    }
+
+    /**
+     * Creates a board from a position in Forsyth-Edwards Notation.
+     *
+     * <p>
+     * The halfmove clock and fullmove number are optional, which also allows EPD lines to be parsed.
+     * </p>
+     *
+     * @param fen The position in Forsyth-Edwards Notation.
+     * @return The board of the position.
+     * @throws IllegalArgumentException if the FEN is malformed.
+     */
+    public static Board fromFen(String fen) {
+        Board board = new Board();
+        board.loadFen(fen);
+        return board;
+    }
+
+    /**
+     * Replaces the position of the board by a position in Forsyth-Edwards Notation, e.g. to reuse a pooled board.
+     *
+     * <p>
+     * The position history and the undo stack are cleared. The FEN is parsed completely before the board is changed,
+     * so the board keeps its position if the FEN is malformed. Besides unknown characters, a FEN is malformed if the
+     * side to move is not {@code w} or {@code b}, if the placement does not have eight ranks of eight squares or if a
+     * side does not have exactly one king, so the move generator never sees such a position.
+     * </p>
+     *
+     * @param fen The position in Forsyth-Edwards Notation.
+     * @throws IllegalArgumentException if the FEN is malformed.
+     */
+    public void loadFen(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4 || !fields[1].equals("w") && !fields[1].equals("b")) {
+            throw new IllegalArgumentException("Illegal FEN: " + fen);
+        }
+        long[] placement = new long[12];
+
+        // Piece placement, starting with a8, every rank has to cover all eight files
+        int rank = 7;
+        int file = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                if (file != 8 || rank == 0) {
+                    throw new IllegalArgumentException("Illegal FEN: " + fen);
+                }
+                rank--;
+                file = 0;
+            } else if (c >= '1' && c <= '8') {
+                file += c - '0';
+                if (file > 8) {
+                    throw new IllegalArgumentException("Illegal FEN: " + fen);
+                }
+            } else {
+                int piece = FEN_PIECES.indexOf(c);
+                if (piece < 0 || file > 7) {
+                    throw new IllegalArgumentException("Illegal FEN: " + fen);
+                }
+                placement[piece] = BitHelper.setBit(placement[piece], Attacks.squareOf(file, rank));
+                file++;
+            }
+        }
+        if (rank != 0 || file != 8 || Long.bitCount(placement[KING]) != 1 || Long.bitCount(placement[6 + KING]) != 1) {
+            throw new IllegalArgumentException("Illegal FEN: " + fen);
+        }
+
+        int castling = 0;
+        for (char c : fields[2].toCharArray()) {
+            switch (c) {
+                case 'K' -> castling |= WHITE_KINGSIDE;
+                case 'Q' -> castling |= WHITE_QUEENSIDE;
+                case 'k' -> castling |= BLACK_KINGSIDE;
+                case 'q' -> castling |= BLACK_QUEENSIDE;
+                case '-' -> {
+                }
+                default -> throw new IllegalArgumentException("Illegal FEN: " + fen);
+            }
+        }
+        int enPassant = fields[3].equals("-") ? NO_SQUARE : parseSquare(fields[3]);
+
+        short halfmoveClock = 0;
+        int fullmove = 1;
+        if (fields.length > 5 && Character.isDigit(fields[4].charAt(0)) && Character.isDigit(fields[5].charAt(0))) {
+            try {
+                halfmoveClock = Short.parseShort(fields[4]);
+                fullmove = Integer.parseInt(fields[5]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Illegal FEN: " + fen, e);
+            }
+        }
+
+        System.arraycopy(placement, 0, bitboards, 0, 12);
+        whiteToMove = fields[1].equals("w");
+        castlingRights = castling;
+        enPassantSquare = enPassant;
+        fullmoveNumber = fullmove;
+        ply = 0;
+        initializeDerivedState(halfmoveClock);
+    }
+
+    /**
+     * Parses a square in algebraic notation.
+     *
+     * @param square The square, e.g. {@code e4}.
+     * @return The bitboard position (0 to 63) of the square.
+     * @throws IllegalArgumentException if the square is malformed.
+     */
+    public static int parseSquare(String square) {
+        if (square.length() != 2 || square.charAt(0) < 'a' || square.charAt(0) > 'h' || square.charAt(1) < '1' || square.charAt(1) > '8') {
+            throw new IllegalArgumentException("Illegal square: " + square);
+        }
+        return Attacks.squareOf(square.charAt(0) - 'a', square.charAt(1) - '1');
+    }
+
+    /**
+     * Initializes the occupancies and the mailbox and pushes the key of the position onto the empty position history.
+     *
+     * @param halfmoveClock The number of plies since the last irreversible move.
+     */
+    private void initializeDerivedState(short halfmoveClock) {
+        whitePieces = 0L;
+        blackPieces = 0L;
+        for (int piece = 0; piece < 6; piece++) {
+            whitePieces |= bitboards[piece];
+            blackPieces |= bitboards[piece + 6];
+        }
+        Arrays.fill(mailbox, (byte) NO_PIECE);
+        for (int piece = 0; piece < 12; piece++) {
+            long bitboard = bitboards[piece];
+            while (bitboard != 0) {
+                mailbox[Long.numberOfTrailingZeros(bitboard)] = (byte) piece;
+                bitboard &= bitboard - 1;
+            }
+        }
+        positionHistory.clear();
+        positionHistory.push(computeKey(), halfmoveClock);
+    }
+
+    /**
+     * Computes the key of the position from scratch.
+     *
+     * @return The 64-bit key of the position.
+     */
+    public long computeKey() {
+        long key = whiteToMove ? 0L : Zobrist.getSideToMoveKey();
+        for (int piece = 0; piece < 12; piece++) {
+            long bitboard = bitboards[piece];
+            while (bitboard != 0) {
+                key ^= Zobrist.getPieceSquareKey(piece, Long.numberOfTrailingZeros(bitboard));
+                bitboard &= bitboard - 1;
+            }
+        }
+        key ^= Zobrist.getCastlingKey(castlingRights);
+        if (enPassantSquare != NO_SQUARE) {
+            key ^= Zobrist.getEnPassantKey(Attacks.fileOf(enPassantSquare));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the position in Forsyth-Edwards Notation.
+     *
+     * @return The FEN of the position.
+     */
+    public String toFen() {
+        StringBuilder fen = new StringBuilder();
+        for (int rank = 7; rank >= 0; rank--) {
+            int emptySquares = 0;
+            for (int file = 0; file < 8; file++) {
+                int piece = getPieceAt(Attacks.squareOf(file, rank));
+                if (piece == NO_PIECE) {
+                    emptySquares++;
+                } else {
+                    if (emptySquares > 0) {
+                        fen.append(emptySquares);
+                        emptySquares = 0;
+                    }
+                    fen.append(FEN_PIECES.charAt(piece));
+                }
+            }
+            if (emptySquares > 0) {
+                fen.append(emptySquares);
+            }
+            if (rank > 0) {
+                fen.append('/');
+            }
+        }
+
+        fen.append(whiteToMove ? " w " : " b ");
+        if (castlingRights == 0) {
+            fen.append('-');
+        } else {
+            fen.append((castlingRights & WHITE_KINGSIDE) != 0 ? "K" : "");
+            fen.append((castlingRights & WHITE_QUEENSIDE) != 0 ? "Q" : "");
+            fen.append((castlingRights & BLACK_KINGSIDE) != 0 ? "k" : "");
+            fen.append((castlingRights & BLACK_QUEENSIDE) != 0 ? "q" : "");
+        }
+        fen.append(' ');
+        if (enPassantSquare == NO_SQUARE) {
+            fen.append('-');
+        } else {
+            fen.append((char) ('a' + Attacks.fileOf(enPassantSquare))).append(Attacks.rankOf(enPassantSquare) + 1);
+        }
+        fen.append(' ').append(getHalfmoveClock()).append(' ').append(fullmoveNumber);
+        return fen.toString();
+    }
+
+    /**
+     * Converts the piece placement into the game state representation of the {@link ChessEngine}.
+     *
+     * @return A new {@link HashMap} mapping each piece to its bitboard.
+     */
+    public HashMap<EPieceAbbreviation, Long> toGameState() {
+        HashMap<EPieceAbbreviation, Long> gameState = new HashMap<>();
+        for (EPieceAbbreviation piece : EPieceAbbreviation.values()) {
+            gameState.put(piece, bitboards[piece.ordinal()]);
+        }
+        return gameState;
+    }
+
+    /**
+     * Retrieves the piece standing on a square.
+     *
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return The {@link EPieceAbbreviation} ordinal of the piece, {@link #NO_PIECE} if the square is empty.
+     */
+    public int getPieceAt(int square) {
+        return mailbox[square];
+    }
+
+    /**
+     * Verifies that the redundant representations of the position agree: every square of the mailbox holds exactly
+     * the piece whose bitboard contains it, no two bitboards overlap and the occupancies are the union of the
+     * bitboards of each side.
+     *
+     * @throws IllegalStateException if the representations disagree, with the first mismatching square.
+     */
+    public void checkConsistency() {
+        long white = 0L;
+        long black = 0L;
+        for (int piece = 0; piece < 6; piece++) {
+            white |= bitboards[piece];
+            black |= bitboards[piece + 6];
+        }
+        if (white != whitePieces || black != blackPieces) {
+            throw new IllegalStateException("Occupancies disagree with the bitboards: " + toFen());
+        }
+        long occupancy = white | black;
+        int pieceCount = 0;
+        for (int piece = 0; piece < 12; piece++) {
+            pieceCount += BitHelper.countBits(bitboards[piece]);
+            for (long bits = bitboards[piece]; bits != 0; bits = BitHelper.clearLowestBit(bits)) {
+                int square = BitHelper.lowestBit(bits);
+                if (mailbox[square] != piece) {
+                    throw new IllegalStateException("Mailbox holds " + mailbox[square] + " instead of " + piece
+                            + " on square " + square + ": " + toFen());
+                }
+            }
+        }
+        if (pieceCount != BitHelper.countBits(occupancy)) {
+            throw new IllegalStateException("Bitboards overlap: " + toFen());
+        }
+        for (long empty = ~occupancy; empty != 0; empty = BitHelper.clearLowestBit(empty)) {
+            int square = BitHelper.lowestBit(empty);
+            if (mailbox[square] != NO_PIECE) {
+                throw new IllegalStateException("Mailbox holds " + mailbox[square] + " on empty square " + square
+                        + ": " + toFen());
+            }
+        }
+    }
+
+    /**
+     * Checks if a square is attacked by the given side.
+     *
+     * @param square  The bitboard position (0 to 63) of the square.
+     * @param byWhite {@code true} to check for attacks by white, {@code false} for attacks by black.
+     * @return {@code true} if the square is attacked; {@code false} otherwise.
+     */
+    public boolean isSquareAttacked(int square, boolean byWhite) {
+        int offset = byWhite ? 0 : 6;
+        long occupancy = whitePieces | blackPieces;
+        long queens = bitboards[offset + QUEEN];
+        // A pawn of the attacking side attacks the square if a pawn of the other side on the square would attack it
+        return (Attacks.pawnAttacks(!byWhite, square) & bitboards[offset + PAWN]) != 0
+                || (Attacks.knightAttacks(square) & bitboards[offset + KNIGHT]) != 0
+                || (Attacks.kingAttacks(square) & bitboards[offset + KING]) != 0
+                || (Attacks.bishopAttacks(square, occupancy) & (bitboards[offset + BISHOP] | queens)) != 0
+                || (Attacks.rookAttacks(square, occupancy) & (bitboards[offset + ROOK] | queens)) != 0;
+    }
+
+    /**
+     * Checks if the king of the given side is attacked.
+     *
+     * @param white {@code true} to check the white king, {@code false} to check the black king.
+     * @return {@code true} if the king is in check; {@code false} otherwise.
+     */
+    public boolean isKingAttacked(boolean white) {
+        long king = bitboards[white ? EPieceAbbreviation.WK.ordinal() : EPieceAbbreviation.BK.ordinal()];
+        return king != 0 && isSquareAttacked(Long.numberOfTrailingZeros(king), !white);
+    }
+
+    /**
+     * Checks if the side to move is in check.
+     *
+     * @return {@code true} if the side to move is in check; {@code false} otherwise.
+     */
+    public boolean isInCheck() {
+        return isKingAttacked(whiteToMove);
+    }
+
+    /**
+     * Checks if neither side can win because only the kings and at most one knight or bishop are left.
+     *
+     * @return {@code true} if the position is a dead draw; {@code false} otherwise.
+     */
+    public boolean isInsufficientMaterial() {
+        long minorPieces = 0L;
+        for (int piece = 0; piece < 12; piece++) {
+            int type = piece % 6;
+            if (type == KNIGHT || type == BISHOP) {
+                minorPieces |= bitboards[piece];
+            } else if (type != KING && bitboards[piece] != 0) {
+                return false;
+            }
+        }
+        return BitHelper.countBits(minorPieces) <= 1;
+    }
+
+    /**
+     * Makes a move on the board.
+     *
+     * <p>
+     * The move has to be pseudo-legal in the current position, e.g. generated by the {@link MoveGenerator}.
+     * The state needed to unmake the move is stored on an internal stack.
+     * </p>
+     *
+     * @param move The packed move to make.
+     */
+    public void makeMove(int move) {
+        int from = PackedMove.getFrom(move);
+        int to = PackedMove.getTo(move);
+        int piece = PackedMove.getPiece(move);
+        int captured = PackedMove.getCapturedPiece(move);
+        int promotion = PackedMove.getPromotionPiece(move);
+
+        if (ply == undoStates.length) {
+            undoStates = Arrays.copyOf(undoStates, ply * 2);
+        }
+        undoStates[ply++] = castlingRights | (enPassantSquare + 1) << 4;
+        long key = positionHistory.getCurrentKey();
+
+        if (enPassantSquare != NO_SQUARE) {
+            key ^= Zobrist.getEnPassantKey(Attacks.fileOf(enPassantSquare));
+        }
+
+        // Removes the captured piece, for en passant it stands behind the target square
+        if (captured != NO_PIECE) {
+            int captureSquare = PackedMove.isEnPassant(move) ? (whiteToMove ? to - 8 : to + 8) : to;
+            togglePiece(captured, captureSquare);
+            key ^= Zobrist.getPieceSquareKey(captured, captureSquare);
+        }
+
+        // Moves the piece, a promoting pawn is replaced by the promotion piece
+        int placed = promotion != NO_PIECE ? promotion : piece;
+        togglePiece(piece, from);
+        togglePiece(placed, to);
+        key ^= Zobrist.getPieceSquareKey(piece, from) ^ Zobrist.getPieceSquareKey(placed, to);
+
+        // Moves the rook when castling
+        if (PackedMove.isCastling(move)) {
+            int rook = whiteToMove ? EPieceAbbreviation.WR.ordinal() : EPieceAbbreviation.BR.ordinal();
+            int rookFrom = to < from ? from - 3 : from + 4;
+            int rookTo = to < from ? from - 1 : from + 1;
+            togglePiece(rook, rookFrom);
+            togglePiece(rook, rookTo);
+            key ^= Zobrist.getPieceSquareKey(rook, rookFrom) ^ Zobrist.getPieceSquareKey(rook, rookTo);
+        }
+
+        key ^= Zobrist.getCastlingKey(castlingRights);
+        castlingRights &= CASTLING_MASKS[from] & CASTLING_MASKS[to];
+        key ^= Zobrist.getCastlingKey(castlingRights);
+
+        enPassantSquare = NO_SQUARE;
+        if (PackedMove.isDoublePawnPush(move)) {
+            enPassantSquare = (from + to) >>> 1;
+            key ^= Zobrist.getEnPassantKey(Attacks.fileOf(enPassantSquare));
+        }
+
+        if (!whiteToMove) {
+            fullmoveNumber++;
+        }
+        whiteToMove = !whiteToMove;
+        key ^= Zobrist.getSideToMoveKey();
+
+        boolean irreversible = captured != NO_PIECE || piece % 6 == PAWN;
+        positionHistory.push(key, irreversible ? 0 : (short) (positionHistory.getCurrentHalfmoveClock() + 1));
+        if (CONSISTENCY_CHECKS) {
+            checkConsistency();
+        }
+    }
+
+    /**
+     * Unmakes the last move made on the board.
+     *
+     * @param move The packed move which was made last.
+     */
+    public void unmakeMove(int move) {
+        int from = PackedMove.getFrom(move);
+        int to = PackedMove.getTo(move);
+        int piece = PackedMove.getPiece(move);
+        int captured = PackedMove.getCapturedPiece(move);
+        int promotion = PackedMove.getPromotionPiece(move);
+
+        positionHistory.pop();
+        int undoState = undoStates[--ply];
+        castlingRights = undoState & 0xF;
+        enPassantSquare = (undoState >> 4) - 1;
+        whiteToMove = !whiteToMove;
+        if (!whiteToMove) {
+            fullmoveNumber--;
+        }
+
+        if (PackedMove.isCastling(move)) {
+            int rook = whiteToMove ? EPieceAbbreviation.WR.ordinal() : EPieceAbbreviation.BR.ordinal();
+            togglePiece(rook, to < from ? from - 3 : from + 4);
+            togglePiece(rook, to < from ? from - 1 : from + 1);
+        }
+
+        togglePiece(promotion != NO_PIECE ? promotion : piece, to);
+        togglePiece(piece, from);
+
+        if (captured != NO_PIECE) {
+            togglePiece(captured, PackedMove.isEnPassant(move) ? (whiteToMove ? to - 8 : to + 8) : to);
+        }
+        if (CONSISTENCY_CHECKS) {
+            checkConsistency();
+        }
+    }
+
+    /**
+     * Passes the move to the opponent without moving a piece, as used by the null move pruning of the {@link Search}.
+     *
+     * <p>
+     * The en passant square is cleared. The null move is recorded as an irreversible move in the position history, so
+     * positions before and after it are never detected as repetitions of each other.
+     * </p>
+     */
+    public void makeNullMove() {
+        if (ply == undoStates.length) {
+            undoStates = Arrays.copyOf(undoStates, ply * 2);
+        }
+        undoStates[ply++] = castlingRights | (enPassantSquare + 1) << 4;
+        long key = positionHistory.getCurrentKey();
+        if (enPassantSquare != NO_SQUARE) {
+            key ^= Zobrist.getEnPassantKey(Attacks.fileOf(enPassantSquare));
+            enPassantSquare = NO_SQUARE;
+        }
+        whiteToMove = !whiteToMove;
+        positionHistory.push(key ^ Zobrist.getSideToMoveKey(), (short) 0);
+    }
+
+    /**
+     * Unmakes a null move made last.
+     */
+    public void unmakeNullMove() {
+        positionHistory.pop();
+        int undoState = undoStates[--ply];
+        castlingRights = undoState & 0xF;
+        enPassantSquare = (undoState >> 4) - 1;
+        whiteToMove = !whiteToMove;
+    }
+
+    /**
+     * Toggles a piece on a square in its bitboard, in the occupancy of its side and in the mailbox.
+     *
+     * <p>
+     * Moves remove pieces before placing pieces on the same square, so the mailbox holds the placed piece afterwards.
+     * </p>
+     *
+     * @param piece  The {@link EPieceAbbreviation} ordinal of the piece.
+     * @param square The bitboard position (0 to 63) of the square.
+     */
+    private void togglePiece(int piece, int square) {
+        long bit = 1L << square;
+        bitboards[piece] ^= bit;
+        mailbox[square] = (bitboards[piece] & bit) != 0 ? (byte) piece : (byte) NO_PIECE;
+        if (piece < 6) {
+            whitePieces ^= bit;
+        } else {
+            blackPieces ^= bit;
+        }
+    }
+
+    /**
+     * Retrieves the bitboard of a piece.
+     *
+     * @param piece The {@link EPieceAbbreviation} ordinal of the piece.
+     * @return The bitboard of the piece.
+     */
+    public long getBitboard(int piece) {
+        return bitboards[piece];
+    }
+
+    /**
+     * Retrieves the bitboard of all pieces of one side.
+     *
+     * @param white {@code true} for the white pieces, {@code false} for the black pieces.
+     * @return The bitboard of the pieces of the side.
+     */
+    public long getPieces(boolean white) {
+        return white ? whitePieces : blackPieces;
+    }
+
+    /**
+     * Retrieves the bitboard of all occupied squares.
+     *
+     * @return The bitboard of all pieces.
+     */
+    public long getOccupancy() {
+        return whitePieces | blackPieces;
+    }
+
+    // Getter methods for the state of the position
+    public boolean isWhiteToMove() {
+        return whiteToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public short getHalfmoveClock() {
+        return positionHistory.getCurrentHalfmoveClock();
+    }
+
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    public long getKey() {
+        return positionHistory.getCurrentKey();
+    }
+
+    /**
+     * Retrieves the history of all position keys reached on this board.
+     *
+     * @return The {@link PositionHistory} of the board.
+     */
+    public PositionHistory getPositionHistory() {
+        return positionHistory;
+    }
+
+    /**
+     * Returns the position in Forsyth-Edwards Notation.
+     *
+     * @return The FEN of the position.
+     */
+    @Override
+    public String toString() {
+        return toFen();
+    }
+}
@@ -0,0 +1,430 @@
+package chessengine;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code BoardComponent} class paints the chess board, its square descriptions and the pieces in one Swing component.
+ *
+ * <p>
+ * The board is centered in the component and scales with its size, leaving a margin around the board. The same
+ * geometry is used for painting and for hit-testing mouse positions with {@link #squareAt(int, int)}.
+ * </p>
+ *
+ * <p>
+ * The squares and descriptions are drawn once into a cached background image. The pieces are drawn from sprites,
+ * which are pre-rendered in the image format of the screen. Both are rendered in device pixels, so the board stays
+ * sharp on HiDPI screens, and painting only copies images and never scales them. The rendered images are kept in a
+ * small LRU cache by pixel size, so resizing back and forth or moving between screens does not render them again.
+ * </p>
+ *
+ * <p>
+ * The component is double-buffered and only paints the squares intersecting the clip, so repainting a single square
+ * by its bounds is cheap.
+ * </p>
+ *
+ * <p>
+ * While the user drags a piece, it is shown on a {@link DragLayer} above the board, its origin square is painted empty
+ * and the destination squares of its legal moves are highlighted.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class BoardComponent extends JComponent {
+    private static final Color BACKGROUND_COLOR = new Color(40, 44, 52);
+    private static final Color[] SQUARE_COLORS = {new Color(241, 217, 192), new Color(169, 122, 101)};
+    private static final int MARGIN_PERCENT = 10;
+    private static final int SPRITE_CACHE_SIZE = 4;
+    private static final Color HIGHLIGHT_COLOR = new Color(0, 0, 0, 56);
+
+    private final EPieceAbbreviation[] squarePieces;
+    private final BufferedImage[] pieceImages;
+    private final BufferedImage[] squareLetterImages;
+    private final BufferedImage[] squareNumberImages;
+    private final LinkedHashMap<Integer, Sprites> spriteCache;
+
+    private int boardX;
+    private int boardY;
+    private int squareSize;
+    private boolean imagesLoaded;
+    private Runnable firstFrameListener;
+    private Sprites currentSprites;
+    private DragLayer dragLayer;
+    private int draggedSquare = -1;
+    private boolean dragging;
+    private long highlightedSquares;
+
+    /**
+     * Constructs a {@code BoardComponent} showing the given pieces.
+     *
+     * @param squarePieces the array of 64 squares holding the shown pieces, counting from a8, {@code null} for empty squares.
+     * @param pieceImages  the source images of the pieces, indexed by {@link EPieceAbbreviation} ordinal.
+     */
+    public BoardComponent(EPieceAbbreviation[] squarePieces, BufferedImage[] pieceImages) {
+        this.squarePieces = squarePieces;
+        this.pieceImages = pieceImages;
+        squareLetterImages = new BufferedImage[64];
+        squareNumberImages = new BufferedImage[64];
+        // Keeps the sprites of the most recently used pixel sizes, in access order
+        spriteCache = new LinkedHashMap<>(SPRITE_CACHE_SIZE * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Sprites> eldest) {
+                return size() > SPRITE_CACHE_SIZE;
+            }
+        };
+
+        setOpaque(true);
+        setDoubleBuffered(true);
+    }
+
+    /**
+     * Marks the piece images as loaded, so the board is painted from now on.
+     */
+    public void setImagesLoaded() {
+        imagesLoaded = true;
+        repaint();
+    }
+
+    /**
+     * Lays out the board for the current size of the component.
+     * The board is the largest square fitting the component with a margin and is centered.
+     */
+    private void updateGeometry() {
+        int size = Math.min(getWidth(), getHeight()) * (100 - MARGIN_PERCENT) / 100;
+        squareSize = Math.max(1, size / 8);
+        boardX = (getWidth() - squareSize * 8) / 2;
+        boardY = (getHeight() - squareSize * 8) / 2;
+    }
+
+    /**
+     * Lays out the board whenever the size of the component changes.
+     */
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        updateGeometry();
+    }
+
+    /**
+     * Finds the square at a position of the component, using the geometry the board is painted with.
+     *
+     * @param x the x coordinate relative to the component.
+     * @param y the y coordinate relative to the component.
+     * @return the index of the square counting from a8, or {@code -1} if the position is outside the board.
+     */
+    public int squareAt(int x, int y) {
+        int col = Math.floorDiv(x - boardX, squareSize);
+        int row = Math.floorDiv(y - boardY, squareSize);
+        if (col < 0 || col > 7 || row < 0 || row > 7) {
+            return -1;
+        }
+        return col + row * 8;
+    }
+
+    /**
+     * Sets the description images drawn on the squares and invalidates the cached background images.
+     * Letters are drawn in the bottom left corner, numbers in the top right corner of a square.
+     *
+     * @param letterImages the letter image of each square counting from a8, {@code null} for none.
+     * @param numberImages the number image of each square counting from a8, {@code null} for none.
+     */
+    public void setSquareDescriptions(BufferedImage[] letterImages, BufferedImage[] numberImages) {
+        System.arraycopy(letterImages, 0, squareLetterImages, 0, 64);
+        System.arraycopy(numberImages, 0, squareNumberImages, 0, 64);
+        // The board images of all sizes show the old descriptions
+        spriteCache.clear();
+        repaint();
+    }
+
+    /**
+     * Sets a listener which is run once, after the board is painted for the first time.
+     *
+     * @param firstFrameListener the listener, run on the event dispatch thread.
+     */
+    public void setFirstFrameListener(Runnable firstFrameListener) {
+        this.firstFrameListener = firstFrameListener;
+    }
+
+    /**
+     * Sets the layer showing the dragged piece.
+     *
+     * @param dragLayer the drag layer, installed above this component.
+     */
+    public void setDragLayer(DragLayer dragLayer) {
+        this.dragLayer = dragLayer;
+    }
+
+    /**
+     * Starts dragging the piece on a square.
+     * The piece is removed from its square and shown on the drag layer, and its destination squares are highlighted.
+     *
+     * @param square       the index of the square of the piece, counting from a8.
+     * @param destinations the bitboard of the destination squares, in bitboard positions like the game state.
+     * @param x            the x coordinate of the mouse relative to this component.
+     * @param y            the y coordinate of the mouse relative to this component.
+     * @return {@code true} if dragging started, {@code false} if the square is empty or the board is not painted yet.
+     */
+    public boolean startDrag(int square, long destinations, int x, int y) {
+        if (dragLayer == null || currentSprites == null || squarePieces[square] == null) {
+            return false;
+        }
+        draggedSquare = square;
+        dragging = true;
+        highlightedSquares = destinations;
+        repaintSquare(square);
+        repaintSquares(destinations);
+
+        Point point = SwingUtilities.convertPoint(this, x, y, dragLayer);
+        dragLayer.showPiece(currentSprites.pieces()[squarePieces[square].ordinal()], squareSize, point.x, point.y);
+        return true;
+    }
+
+    /**
+     * Moves the dragged piece with the mouse.
+     *
+     * @param x the x coordinate of the mouse relative to this component.
+     * @param y the y coordinate of the mouse relative to this component.
+     */
+    public void drag(int x, int y) {
+        if (dragging) {
+            Point point = SwingUtilities.convertPoint(this, x, y, dragLayer);
+            dragLayer.movePiece(point.x, point.y);
+        }
+    }
+
+    /**
+     * Ends dragging and removes the highlights.
+     *
+     * <p>
+     * If the piece was moved, its origin square stays empty until the moved pieces are rendered by
+     * {@link #piecesUpdated()}, so the piece does not jump back to its origin for one frame.
+     * </p>
+     *
+     * @param moved {@code true} if the dragged piece was moved, {@code false} if it returns to its square.
+     */
+    public void endDrag(boolean moved) {
+        if (!dragging) {
+            return;
+        }
+        dragging = false;
+        dragLayer.hidePiece();
+        repaintSquares(highlightedSquares);
+        highlightedSquares = 0L;
+        if (!moved) {
+            piecesUpdated();
+        }
+    }
+
+    /**
+     * Informs the board that the shown pieces were updated, which ends hiding the origin square of a moved piece.
+     */
+    public void piecesUpdated() {
+        if (!dragging && draggedSquare >= 0) {
+            repaintSquare(draggedSquare);
+            draggedSquare = -1;
+        }
+    }
+
+    /**
+     * Repaints all squares of a bitboard by their bounds.
+     *
+     * @param squares the bitboard of the squares, in bitboard positions like the game state.
+     */
+    private void repaintSquares(long squares) {
+        while (squares != 0) {
+            repaintSquare(63 - Long.numberOfTrailingZeros(squares));
+            squares &= squares - 1;
+        }
+    }
+
+    /**
+     * Repaints a single square by its bounds.
+     *
+     * @param index the index of the square, counting from a8.
+     */
+    public void repaintSquare(int index) {
+        repaint(boardX + index % 8 * squareSize, boardY + index / 8 * squareSize, squareSize, squareSize);
+    }
+
+    /**
+     * Paints the background, the cached board image and the pieces on the squares intersecting the clip.
+     *
+     * @param g the graphics context to paint to.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(BACKGROUND_COLOR);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (!imagesLoaded) {
+            return;
+        }
+
+        // Images are rendered in device pixels and drawn into the logical square size, which copies them 1:1
+        AffineTransform transform = ((Graphics2D) g).getTransform();
+        int pixelSize = Math.max(1, (int) Math.round(squareSize * transform.getScaleX()));
+        Sprites sprites = spriteCache.get(pixelSize);
+        if (sprites == null) {
+            sprites = renderSprites(pixelSize);
+            spriteCache.put(pixelSize, sprites);
+        }
+        currentSprites = sprites;
+        int boardSize = squareSize * 8;
+        g.drawImage(sprites.board(), boardX, boardY, boardSize, boardSize, null);
+
+        // Draws only the pieces and highlights on squares intersecting the clip, the dragged piece is on the drag layer
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int firstColumn = Math.max(0, Math.floorDiv(clip.x - boardX, squareSize));
+        int lastColumn = Math.min(7, Math.floorDiv(clip.x + clip.width - 1 - boardX, squareSize));
+        int firstRow = Math.max(0, Math.floorDiv(clip.y - boardY, squareSize));
+        int lastRow = Math.min(7, Math.floorDiv(clip.y + clip.height - 1 - boardY, squareSize));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstColumn; col <= lastColumn; col++) {
+                int index = col + row * 8;
+                int x = boardX + col * squareSize;
+                int y = boardY + row * squareSize;
+                EPieceAbbreviation piece = squarePieces[index];
+                if (piece != null && index != draggedSquare) {
+                    g.drawImage(sprites.pieces()[piece.ordinal()], x, y, squareSize, squareSize, null);
+                }
+                if (BitHelper.isBitSet(highlightedSquares, 63 - index)) {
+                    paintHighlight(g2, x, y, piece != null);
+                }
+            }
+        }
+
+        if (firstFrameListener != null) {
+            Runnable listener = firstFrameListener;
+            firstFrameListener = null;
+            listener.run();
+        }
+    }
+
+    /**
+     * Paints the highlight of a destination square, a dot on empty squares and a ring around capturable pieces.
+     *
+     * @param g       the graphics context to paint to.
+     * @param x       the x coordinate of the square.
+     * @param y       the y coordinate of the square.
+     * @param capture {@code true} if a piece stands on the square.
+     */
+    private void paintHighlight(Graphics2D g, int x, int y, boolean capture) {
+        g.setColor(HIGHLIGHT_COLOR);
+        if (capture) {
+            int width = Math.max(2, squareSize / 12);
+            g.setStroke(new BasicStroke(width));
+            g.drawOval(x + width / 2, y + width / 2, squareSize - width, squareSize - width);
+        } else {
+            int diameter = squareSize / 3;
+            g.fillOval(x + (squareSize - diameter) / 2, y + (squareSize - diameter) / 2, diameter, diameter);
+        }
+    }
+
+    /**
+     * Renders the background image of the board and the piece sprites at a square size in device pixels.
+     *
+     * @param pixelSize the width and height of a square in device pixels.
+     * @return the rendered images.
+     */
+    private Sprites renderSprites(int pixelSize) {
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+
+        BufferedImage[] pieces = new BufferedImage[pieceImages.length];
+        for (int i = 0; i < pieceImages.length; i++) {
+            pieces[i] = scaleImage(pieceImages[i], pixelSize, pixelSize, configuration);
+        }
+
+        BufferedImage board = createImage(configuration, pixelSize * 8, pixelSize * 8, Transparency.OPAQUE);
+        Graphics2D g = board.createGraphics();
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 8; col++) {
+                int index = col + row * 8;
+                int x = col * pixelSize;
+                int y = row * pixelSize;
+                g.setColor(SQUARE_COLORS[(row + col) % 2]);
+                g.fillRect(x, y, pixelSize, pixelSize);
+
+                if (squareLetterImages[index] != null) {
+                    BufferedImage letter = scaleImage(squareLetterImages[index], pixelSize / 6, pixelSize / 6, configuration);
+                    g.drawImage(letter, x, y + pixelSize - letter.getHeight(), null);
+                }
+                if (squareNumberImages[index] != null) {
+                    BufferedImage number = scaleImage(squareNumberImages[index], pixelSize / 5, pixelSize / 5, configuration);
+                    g.drawImage(number, x + pixelSize - number.getWidth(), y, null);
+                }
+            }
+        }
+        g.dispose();
+        return new Sprites(board, pieces);
+    }
+
+    /**
+     * Scales an image to the given size in the image format of the screen.
+     * Large reductions are done in steps of halving the size, which keeps the quality of bilinear interpolation.
+     *
+     * @param source        the image to scale.
+     * @param width         the target width.
+     * @param height        the target height.
+     * @param configuration the graphics configuration of the screen, {@code null} if the component is not displayed.
+     * @return the scaled image.
+     */
+    private static BufferedImage scaleImage(BufferedImage source, int width, int height, GraphicsConfiguration configuration) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        BufferedImage image = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            // Enlargements and small reductions are done in one step
+            if (currentWidth * 2 < image.getWidth() || image.getWidth() <= width) {
+                currentWidth = width;
+                currentHeight = height;
+            }
+            BufferedImage scaled = createImage(configuration, currentWidth, currentHeight, Transparency.TRANSLUCENT);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, currentWidth, currentHeight, null);
+            g.dispose();
+            image = scaled;
+        } while (currentWidth != width || currentHeight != height);
+        return image;
+    }
+
+    /**
+     * Creates an image in the image format of the screen, or a default format if the component is not displayed.
+     *
+     * @param configuration the graphics configuration of the screen, may be {@code null}.
+     * @param width         the width of the image.
+     * @param height        the height of the image.
+     * @param transparency  the transparency of the image as defined by {@link Transparency}.
+     * @return the created image.
+     */
+    private static BufferedImage createImage(GraphicsConfiguration configuration, int width, int height, int transparency) {
+        if (configuration != null) {
+            return configuration.createCompatibleImage(width, height, transparency);
+        }
+        int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        return new BufferedImage(width, height, type);
+    }
+
+    /**
+     * The {@code Sprites} record holds the images rendered for one square size.
+     *
+     * @param board  the background image of the board including the square descriptions.
+     * @param pieces the piece sprites, indexed by {@link EPieceAbbreviation} ordinal.
+     */
+    private record Sprites(BufferedImage board, BufferedImage[] pieces) {
+    }
+}
@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Utility class providing helper methods for chess board operations.
  * This class includes methods to convert board indices to ranks and files.
@@ -0,0 +1,832 @@
+package chessengine;
+
+import java.awt.EventQueue;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * The {@code ChessEngine} class represents the core logic of a chess engine.
+ *
+ * <p>
+ * It manages the game state, validates moves, handles move history, and interacts with the graphical user interface (GUI).
+ * </p>
+ *
+ * <p>
+ * The best move of the current position is found by a {@link Search}, whose {@link SearchMetrics} can be inspected.
+ * </p>
+ *
+ * <p>
+ * The game state is mirrored by a {@link Board}, which applies the full rules including castling, en passant and
+ * promotion. Its {@link PositionHistory} holds the key and halfmove clock of every reached position to detect draws by
+ * threefold repetition and by the fifty-move rule.
+ * </p>
+ *
+ * <p>
+ * The engine can play one side against the human by an {@link EnginePlayer}, which thinks on a background thread and
+ * ponders on the time of the human. Its moves are executed on the event dispatch thread like the moves of the human.
+ * </p>
+ *
+ * <p>
+ * The legal moves of the current position are generated once per position and cached as a table of the destination
+ * squares of every origin square, which serves both the validation of entered moves and the highlighting in the GUI.
+ * </p>
+ *
+ * <p>
+ * The game state is stored using a {@link HashMap} where each {@link EPieceAbbreviation} is mapped to its corresponding bitboard.
+ * </p>
+ *
+ * <p>
+ * This class initializes the game with default positions and provides methods to check move validity, execute moves,
+ * and undo the last move.
+ * </p>
+ *
+ * <p>
+ * Note: This class assumes a 64-square chessboard represented by bitboards for efficient move generation and validation.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2024-06-26
+ */
+public class ChessEngine {
+    private final GUI cGUI;
+    private final MouseKeyboard cMouseKeyboard;
+    private final Sound cSound;
+
+    private final HashMap<EPieceAbbreviation, Long> gameState;
+    private final Stack<Move> moveHistory;
+    private final long[] legalDestinations;
+    private final int[] legalMoves;
+    private final TranspositionTable transpositionTable;
+    private final Search search;
+    private final Analysis analysis;
+    private final EnginePlayer enginePlayer;
+    private MateSolver mateSolver;
+    private Thread mateSolverThread;
+
+    private Board board;
+    private boolean whiteToMove;
+    private EGameResult gameResult;
+    private int legalMoveCount;
+    private long legalMovesKey;
+    private boolean legalMovesValid;
+    private boolean enginePlaying;
+    private boolean engineWhite;
+
+    // Constant bitboards for default position
+    private static final long DEFAULT_BB_WP = 0x000000000000FF00L;
+    private static final long DEFAULT_BB_WN = 0x0000000000000042L;
+    private static final long DEFAULT_BB_WB = 0x0000000000000024L;
+    private static final long DEFAULT_BB_WR = 0x0000000000000081L;
+    private static final long DEFAULT_BB_WQ = 0x0000000000000010L;
+    private static final long DEFAULT_BB_WK = 0x0000000000000008L;
+    private static final long DEFAULT_BB_BP = 0x00FF000000000000L;
+    private static final long DEFAULT_BB_BN = 0x4200000000000000L;
+    private static final long DEFAULT_BB_BB = 0x2400000000000000L;
+    private static final long DEFAULT_BB_BR = 0x8100000000000000L;
+    private static final long DEFAULT_BB_BQ = 0x1000000000000000L;
+    private static final long DEFAULT_BB_BK = 0x0800000000000000L;
+
+    /**
+     * Constructs a new {@code ChessEngine} instance.
+     *
+     * <p>
+     * Initializes the game state, move history, position history, and GUI components.
+     * </p>
+     */
+    public ChessEngine() {
+        this(true);
+    }
+
+    /**
+     * Constructs a new {@code ChessEngine} instance with or without GUI.
+     *
+     * <p>
+     * Initializes the game state, move history, and position history. Without GUI no components are created and
+     * moves are neither logged, rendered nor played as sound, which allows the engine to run headless, e.g. in benchmarks.
+     * </p>
+     *
+     * @param withGUI {@code true} to create the GUI components; {@code false} to run headless.
+     */
+    public ChessEngine(boolean withGUI) {
+        gameState = new HashMap<>();
+        moveHistory = new Stack<>();
+        legalDestinations = new long[64];
+        legalMoves = new int[MoveGenerator.MAX_MOVES];
+        transpositionTable = new TranspositionTable(
+                Integer.getInteger("chessengine.transposition.size.mb", TranspositionTable.DEFAULT_SIZE_MB));
+        search = new Search(transpositionTable);
+        analysis = new Analysis(transpositionTable);
+        // The replies of the engine are executed on the event dispatch thread, which handles the moves of the human
+        enginePlayer = new EnginePlayer(transpositionTable, reply -> EventQueue.invokeLater(() -> playEngineMove(reply)));
+        initializeGameState();
+
+        if (withGUI) {
+            cSound = new Sound();
+            Runtime.getRuntime().addShutdownHook(new Thread(cSound::close));
+            cMouseKeyboard = new MouseKeyboard(this);
+            cGUI = new GUI(this, cMouseKeyboard);
+        } else {
+            cSound = null;
+            cMouseKeyboard = null;
+            cGUI = null;
+        }
+    }
+
+    /**
+     * Initializes the game state with default chess piece positions.
+     *
+     * <p>
+     * Each chess piece is mapped to its corresponding bitboard value in the game state.
+     * The board and its position history are reset to the default position.
+     * </p>
+     */
+    public void initializeGameState() {
+        // Initializes the game state as a hashmap with the piece abbreviation as the key and the bitboard as the value
+        EPieceAbbreviation[] pieces = EPieceAbbreviation.values();
+
+        gameState.put(pieces[0], DEFAULT_BB_WP);
+        gameState.put(pieces[1], DEFAULT_BB_WN);
+        gameState.put(pieces[2], DEFAULT_BB_WB);
+        gameState.put(pieces[3], DEFAULT_BB_WR);
+        gameState.put(pieces[4], DEFAULT_BB_WQ);
+        gameState.put(pieces[5], DEFAULT_BB_WK);
+        gameState.put(pieces[6], DEFAULT_BB_BP);
+        gameState.put(pieces[7], DEFAULT_BB_BN);
+        gameState.put(pieces[8], DEFAULT_BB_BB);
+        gameState.put(pieces[9], DEFAULT_BB_BR);
+        gameState.put(pieces[10], DEFAULT_BB_BQ);
+        gameState.put(pieces[11], DEFAULT_BB_BK);
+
+        board = Board.fromFen(Board.START_FEN);
+        whiteToMove = true;
+        moveHistory.clear();
+        legalMovesValid = false;
+        updateGameResult();
+        restartAnalysis();
+    }
+
+    /**
+     * Validates and executes a move from one square to another.
+     *
+     * <p>
+     * Checks if the move is legal, updates the board and the game state, adds the move to history, and refreshes the GUI.
+     * A pawn reaching the last rank is promoted to a queen. The game result is updated afterwards.
+     * Once the game is over or while the engine is to move, no moves are accepted.
+     * </p>
+     *
+     * @param squareFrom The starting square index of the move.
+     * @param squareTo   The target square index of the move.
+     */
+    public void checkMove(byte squareFrom, byte squareTo) {
+        // Checks if move is valid
+        if (gameResult == EGameResult.ONGOING && isHumanToMove() && isMoveValid(squareFrom, squareTo)) {
+            int packedMove = findLegalMove(squareFrom, squareTo);
+            executeMove(squareFrom, squareTo, packedMove);
+
+            // Lets the engine answer, which resolves its ponder search
+            if (enginePlaying) {
+                if (gameResult == EGameResult.ONGOING) {
+                    enginePlayer.opponentMoved(board, packedMove);
+                } else {
+                    enginePlayer.stop();
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes a legal move of the human or the engine.
+     *
+     * @param squareFrom The starting square index of the move, counting from a8.
+     * @param squareTo   The target square index of the move, counting from a8.
+     * @param packedMove The legal {@link PackedMove} between the squares.
+     */
+    private void executeMove(byte squareFrom, byte squareTo, int packedMove) {
+        // Create new move with entered data from the user and the game state bevor the move is executed
+        @SuppressWarnings("unchecked")
+        Move move = new Move(squareFrom, squareTo, (HashMap<EPieceAbbreviation, Long>) gameState.clone(), packedMove);
+
+        // Adds move to move history
+        moveHistory.push(move);
+        if (cGUI != null) {
+            System.out.println(move);
+        }
+
+        // Executes the move on the board and copies the bitboards back into the game state
+        board.makeMove(packedMove);
+        updateGameState();
+
+        // Refreshes graphics and reports the end of the game
+        updateGameResult();
+        restartAnalysis();
+        if (cGUI != null) {
+            cGUI.render();
+            playMoveSound(packedMove);
+            if (gameResult != EGameResult.ONGOING) {
+                cGUI.showGameResult(gameResult);
+            }
+        }
+    }
+
+    /**
+     * Executes a move of the engine and starts pondering on the reply of the human.
+     *
+     * <p>
+     * The move is dropped if the engine was switched off or the position changed while the engine was thinking,
+     * e.g. because a move was undone.
+     * </p>
+     *
+     * @param reply The reply of the engine.
+     */
+    private void playEngineMove(EnginePlayer.Reply reply) {
+        if (!enginePlaying || gameResult != EGameResult.ONGOING || whiteToMove != engineWhite
+                || board.getKey() != reply.positionKey() || !isLegalMove(reply.move())) {
+            return;
+        }
+        int move = reply.move();
+        executeMove((byte) (63 - PackedMove.getFrom(move)), (byte) (63 - PackedMove.getTo(move)), move);
+        if (gameResult == EGameResult.ONGOING) {
+            enginePlayer.ponder(board, reply);
+        }
+    }
+
+    /**
+     * Plays the sound of the move just executed.
+     * A check takes precedence over castling and captures, all other moves play the move sound.
+     *
+     * @param packedMove The {@link PackedMove} just executed.
+     */
+    private void playMoveSound(int packedMove) {
+        if (board.isInCheck()) {
+            cSound.playCheckSound();
+        } else if (PackedMove.isCastling(packedMove)) {
+            cSound.playCastleSound();
+        } else if (PackedMove.isCapture(packedMove)) {
+            cSound.playCaptureSound();
+        } else {
+            cSound.playMoveSound();
+        }
+    }
+
+    /**
+     * Copies the bitboards and the side to move of the board into the game state.
+     */
+    private void updateGameState() {
+        for (EPieceAbbreviation piece : EPieceAbbreviation.values()) {
+            gameState.put(piece, board.getBitboard(piece.ordinal()));
+        }
+        whiteToMove = board.isWhiteToMove();
+    }
+
+    /**
+     * Updates the game result based on the legal moves and the position history.
+     *
+     * <p>
+     * Checks for checkmate and stalemate, then for a draw by threefold repetition and by the fifty-move rule.
+     * </p>
+     */
+    private void updateGameResult() {
+        updateLegalMoves();
+        PositionHistory positionHistory = board.getPositionHistory();
+        if (legalMoveCount == 0) {
+            if (board.isInCheck()) {
+                gameResult = whiteToMove ? EGameResult.BLACK_WINS_CHECKMATE : EGameResult.WHITE_WINS_CHECKMATE;
+            } else {
+                gameResult = EGameResult.DRAW_STALEMATE;
+            }
+        } else if (positionHistory.isThreefoldRepetition()) {
+            gameResult = EGameResult.DRAW_THREEFOLD_REPETITION;
+        } else if (positionHistory.isFiftyMoveRule()) {
+            gameResult = EGameResult.DRAW_FIFTY_MOVE_RULE;
+        } else {
+            gameResult = EGameResult.ONGOING;
+        }
+    }
+
+    /**
+     * Generates the legal moves of the current position, unless they are cached already.
+     *
+     * <p>
+     * The moves are cached together with the key of the position they were generated for, so going back to a position
+     * by undoing a move reuses the table if the position did not change in between. Besides the move list, the
+     * destination squares of every origin square are collected into a bitboard.
+     * </p>
+     */
+    private void updateLegalMoves() {
+        long key = board.getKey();
+        if (legalMovesValid && legalMovesKey == key) {
+            return;
+        }
+
+        Arrays.fill(legalDestinations, 0L);
+        legalMoveCount = MoveGenerator.generateLegalMoves(board, legalMoves);
+        for (int i = 0; i < legalMoveCount; i++) {
+            legalDestinations[PackedMove.getFrom(legalMoves[i])] |= 1L << PackedMove.getTo(legalMoves[i]);
+        }
+        legalMovesKey = key;
+        legalMovesValid = true;
+    }
+
+    /**
+     * Finds the legal move between two squares of the GUI, promoting to a queen if the move is a promotion.
+     *
+     * @param squareFrom The starting square index of the move, counting from a8.
+     * @param squareTo   The target square index of the move, counting from a8.
+     * @return The {@link PackedMove}, or {@link PackedMove#NO_MOVE} if no legal move connects the squares.
+     */
+    private int findLegalMove(byte squareFrom, byte squareTo) {
+        updateLegalMoves();
+        // Recalculates index to bitboard index
+        int from = 63 - squareFrom;
+        int to = 63 - squareTo;
+        for (int i = 0; i < legalMoveCount; i++) {
+            int move = legalMoves[i];
+            // The move generator lists the queen promotion first
+            if (PackedMove.getFrom(move) == from && PackedMove.getTo(move) == to) {
+                return move;
+            }
+        }
+        return PackedMove.NO_MOVE;
+    }
+
+    /**
+     * Checks if a move is one of the legal moves of the current position.
+     *
+     * @param packedMove The {@link PackedMove} to check.
+     * @return {@code true} if the move is legal; {@code false} otherwise.
+     */
+    private boolean isLegalMove(int packedMove) {
+        updateLegalMoves();
+        for (int i = 0; i < legalMoveCount; i++) {
+            if (legalMoves[i] == packedMove) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a move from one square to another is legal in the current position.
+     *
+     * <p>
+     * The check is a lookup in the cached table of legal destination squares.
+     * </p>
+     *
+     * @param squareFrom The starting square index of the move, counting from a8.
+     * @param squareTo   The target square index of the move, counting from a8.
+     * @return {@code true} if the move is valid; {@code false} otherwise.
+     */
+    public boolean isMoveValid(byte squareFrom, byte squareTo) {
+        if (squareFrom < 0 || squareFrom > 63 || squareTo < 0 || squareTo > 63) {
+            return false;
+        }
+        return BitHelper.isBitSet(getLegalDestinations(squareFrom), 63 - squareTo);
+    }
+
+    /**
+     * Retrieves the destination squares of the legal moves starting on a square.
+     *
+     * @param squareFrom The starting square index, counting from a8.
+     * @return The bitboard of the destination squares, in bitboard positions like the game state.
+     */
+    public long getLegalDestinations(byte squareFrom) {
+        updateLegalMoves();
+        return legalDestinations[63 - squareFrom];
+    }
+
+    /**
+     * Undoes the last move.
+     *
+     * <p>
+     * Restores the game state to the state before the last move, updates the GUI, and removes the move from history.
+     * The move is unmade on the board, which also removes the latest position from the position history and reopens
+     * a finished game.
+     * </p>
+     *
+     * <p>
+     * While the engine is playing, its search is stopped and moves are undone until the human is to move again.
+     * If the engine is to move after undoing its first move, it thinks again.
+     * </p>
+     */
+    public void undoMove() {
+        if (!enginePlaying) {
+            undoLastMove();
+            return;
+        }
+
+        enginePlayer.stop();
+        undoLastMove();
+        if (!isHumanToMove()) {
+            undoLastMove();
+        }
+        if (!isHumanToMove() && gameResult == EGameResult.ONGOING) {
+            enginePlayer.think(board);
+        }
+    }
+
+    /**
+     * Undoes the last move of the move history, if there is one.
+     */
+    private void undoLastMove() {
+        // Checks if there are moves to take back
+        if (!moveHistory.empty()) {
+            // Gets latest move and the game state bevor the move was executed
+            Move move = moveHistory.pop();
+            HashMap<EPieceAbbreviation, Long> lastGameState = move.getGameState();
+
+            // Replaces current game state with game state move - 1
+            for (Map.Entry<EPieceAbbreviation, Long> entry : lastGameState.entrySet()) {
+                gameState.replace(entry.getKey(), entry.getValue());
+            }
+
+            // Unmakes the move on the board, which switches the side to move back
+            board.unmakeMove(move.getPackedMove());
+            whiteToMove = board.isWhiteToMove();
+            updateGameResult();
+            restartAnalysis();
+
+            // Refreshes graphics
+            if (cGUI != null) {
+                cGUI.render();
+            }
+        }
+    }
+
+    /**
+     * Searches the best move of the current position.
+     *
+     * <p>
+     * The search runs on the calling thread on a copy of the board, which includes the position history of the game
+     * to detect repetitions. Its metrics are available
+     * through {@link #getSearchMetrics()} while and after searching.
+     * </p>
+     *
+     * @param limits The limits of the search.
+     * @return The result of the search.
+     */
+    public SearchResult findBestMove(SearchLimits limits) {
+        search.prepareRun();
+        return search.search(board.copy(), limits);
+    }
+
+    /**
+     * Stops a running search as soon as possible.
+     */
+    public void stopSearch() {
+        search.stop();
+    }
+
+    /**
+     * Switches the background analysis of the current position on or off.
+     *
+     * <p>
+     * While enabled, the {@link Analysis} restarts with the new position after every executed or undone move.
+     * </p>
+     *
+     * @param enabled {@code true} to start analysing; {@code false} to stop.
+     */
+    public void setAnalysisEnabled(boolean enabled) {
+        if (enabled) {
+            analysis.start(board);
+        } else {
+            analysis.stop();
+        }
+    }
+
+    /**
+     * Checks if the background analysis is enabled.
+     *
+     * @return {@code true} if the analysis is enabled; {@code false} otherwise.
+     */
+    public boolean isAnalysisEnabled() {
+        return analysis.isActive();
+    }
+
+    /**
+     * Sets the number of lines searched by {@link #findBestMove(SearchLimits)} and the analysis.
+     * Each line starts with a different move, the lines of a result are available through {@link SearchResult#lines()}.
+     *
+     * @param multiPv The number of lines, {@code 1} for a normal search.
+     * @throws IllegalArgumentException if the number of lines is not positive.
+     */
+    public void setMultiPv(int multiPv) {
+        search.setMultiPv(multiPv);
+        analysis.setMultiPv(multiPv, board);
+    }
+
+    public int getMultiPv() {
+        return search.getMultiPv();
+    }
+
+    /**
+     * Reviews the moves of the game on the calling thread, flagging mistakes and blunders.
+     *
+     * <p>
+     * Every position of the game is searched in parallel by a {@link GameReview} sharing the transposition table of
+     * the engine.
+     * </p>
+     *
+     * @param depth       The search depth per position in plies.
+     * @param threadCount The number of worker threads.
+     * @return The review of the game.
+     * @throws InterruptedException if the thread is interrupted while reviewing.
+     */
+    public GameReview.Result reviewGame(int depth, int threadCount) throws InterruptedException {
+        return new GameReview(transpositionTable, threadCount).review(Board.fromFen(Board.START_FEN), getMoves(), depth);
+    }
+
+    /**
+     * Reviews the moves of the game on a background thread with all cores and prints the review.
+     * The moves are taken when the review starts, later moves are not reviewed.
+     */
+    public void startReview() {
+        int[] moves = getMoves();
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        Thread.ofPlatform().name("review").daemon().start(() -> {
+            try {
+                System.out.println(new GameReview(transpositionTable, threadCount)
+                        .review(Board.fromFen(Board.START_FEN), moves, GameReview.DEFAULT_DEPTH));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    /**
+     * Proves or disproves on the calling thread that the side to move in the current position can force mate.
+     *
+     * @param maxNodes The maximum number of nodes to search.
+     * @return The result of the {@link MateSolver}.
+     */
+    public MateSolver.Result solveMate(long maxNodes) {
+        return new MateSolver(MateSolver.DEFAULT_TABLE_SIZE_MB).solve(board, maxNodes);
+    }
+
+    /**
+     * Searches a forced mate for the side to move on a background thread and prints the result, stopping the solver
+     * of the previous position first. The position is taken when the solver starts, later moves are not considered.
+     */
+    public synchronized void startMateSolver() {
+        stopMateSolver();
+        if (mateSolver == null) {
+            mateSolver = new MateSolver(MateSolver.DEFAULT_TABLE_SIZE_MB);
+        }
+        MateSolver solver = mateSolver;
+        Board position = board.copy();
+        solver.prepareRun();
+        mateSolverThread = Thread.ofPlatform().name("mate-solver").daemon().start(() -> System.out.println(
+                solver.solve(position, MateSolver.DEFAULT_MAX_NODES)));
+    }
+
+    /**
+     * Stops the background mate solver and waits until its thread finished, so only one node table is in use.
+     */
+    private void stopMateSolver() {
+        if (mateSolverThread == null) {
+            return;
+        }
+        mateSolver.stop();
+        try {
+            mateSolverThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        mateSolverThread = null;
+    }
+
+    /**
+     * Computes perft or a fixed-depth search of the current position with the workers of a coordinator. The moves of
+     * the game are sent along, so the workers detect repetitions of earlier positions.
+     *
+     * @param coordinator The coordinator of the workers.
+     * @param type        The work to compute.
+     * @param depth       The depth in plies, larger than the split plies.
+     * @param splitPlies  The plies after which the tree is split into units, {@code 1} or {@code 2}.
+     * @return The combined result.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public DistributedCoordinator.Result runDistributed(DistributedCoordinator coordinator, EWorkType type, int depth,
+                                                        int splitPlies) throws InterruptedException {
+        return coordinator.run(Board.fromFen(Board.START_FEN), getMoves(), type, depth, splitPlies);
+    }
+
+    /**
+     * Saves the transposition table shared by the search, the analysis and the engine player to a file.
+     *
+     * @param path The path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void saveTranspositionTable(Path path) throws IOException {
+        transpositionTable.save(path);
+    }
+
+    /**
+     * Loads the transposition table from a file, so the analysis of a known position starts with deep entries.
+     *
+     * @param path The path of the file.
+     * @throws IOException if the file cannot be read or is no saved transposition table.
+     */
+    public void loadTranspositionTable(Path path) throws IOException {
+        transpositionTable.load(path);
+    }
+
+    /**
+     * Retrieves the moves of the game in the order they were played.
+     *
+     * @return The {@link PackedMove}s of the move history.
+     */
+    public int[] getMoves() {
+        int[] moves = new int[moveHistory.size()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = moveHistory.get(i).getPackedMove();
+        }
+        return moves;
+    }
+
+    /**
+     * Lets the engine play the side to move against the human, or switches the engine off.
+     *
+     * @param enabled {@code true} to let the engine play the side to move; {@code false} to switch it off.
+     */
+    public void setEnginePlaying(boolean enabled) {
+        if (enabled == enginePlaying) {
+            return;
+        }
+        enginePlaying = enabled;
+        if (enabled) {
+            engineWhite = whiteToMove;
+            if (gameResult == EGameResult.ONGOING) {
+                enginePlayer.think(board);
+            }
+        } else {
+            enginePlayer.stop();
+        }
+    }
+
+    public boolean isEnginePlaying() {
+        return enginePlaying;
+    }
+
+    /**
+     * Checks if the human may move, i.e. the engine is not playing or plays the other side.
+     *
+     * @return {@code true} if the human is to move; {@code false} if the engine is to move.
+     */
+    public boolean isHumanToMove() {
+        return !enginePlaying || whiteToMove != engineWhite;
+    }
+
+    /**
+     * Switches pondering of the engine on the time of the human on or off.
+     * The setting takes effect with the next move of the engine.
+     *
+     * @param enabled {@code true} to ponder; {@code false} otherwise.
+     */
+    public void setPonderEnabled(boolean enabled) {
+        enginePlayer.setPonderEnabled(enabled);
+    }
+
+    public boolean isPonderEnabled() {
+        return enginePlayer.isPonderEnabled();
+    }
+
+    /**
+     * Sets the time the engine thinks per move.
+     *
+     * @param moveTimeMillis The time per move in milliseconds.
+     * @throws IllegalArgumentException if the time is not positive.
+     */
+    public void setEngineMoveTimeMillis(long moveTimeMillis) {
+        enginePlayer.setMoveTimeMillis(moveTimeMillis);
+    }
+
+    /**
+     * Retrieves how often the engine predicted the reply of the human while pondering.
+     *
+     * @return The {@link EnginePlayer.PonderStatistics} of the game session.
+     */
+    public EnginePlayer.PonderStatistics getPonderStatistics() {
+        return enginePlayer.getPonderStatistics();
+    }
+
+    /**
+     * Retrieves the background analysis of the engine.
+     *
+     * @return The {@link Analysis} of the engine.
+     */
+    public Analysis getAnalysis() {
+        return analysis;
+    }
+
+    /**
+     * Restarts the background analysis with the current position if it is enabled.
+     */
+    private void restartAnalysis() {
+        if (analysis.isActive()) {
+            analysis.start(board);
+        }
+    }
+
+    /**
+     * Retrieves the metrics of the search of the engine.
+     *
+     * @return The {@link SearchMetrics} of the search.
+     */
+    public SearchMetrics getSearchMetrics() {
+        return search.getMetrics();
+    }
+
+    // Getter methods for default bitboards
+    // (These methods are static because they access constants)
+    public static long getDefaultBbWp() {
+        return DEFAULT_BB_WP;
+    }
+
+    public static long getDefaultBbWn() {
+        return DEFAULT_BB_WN;
+    }
+
+    public static long getDefaultBbWb() {
+        return DEFAULT_BB_WB;
+    }
+
+    public static long getDefaultBbWr() {
+        return DEFAULT_BB_WR;
+    }
+
+    public static long getDefaultBbWq() {
+        return DEFAULT_BB_WQ;
+    }
+
+    public static long getDefaultBbWk() {
+        return DEFAULT_BB_WK;
+    }
+
+    public static long getDefaultBbBp() {
+        return DEFAULT_BB_BP;
+    }
+
+    public static long getDefaultBbBn() {
+        return DEFAULT_BB_BN;
+    }
+
+    public static long getDefaultBbBb() {
+        return DEFAULT_BB_BB;
+    }
+
+    public static long getDefaultBbBr() {
+        return DEFAULT_BB_BR;
+    }
+
+    public static long getDefaultBbBq() {
+        return DEFAULT_BB_BQ;
+    }
+
+    public static long getDefaultBbBk() {
+        return DEFAULT_BB_BK;
+    }
+
+    /**
+     * Retrieves the current game state.
+     *
+     * <p>
+     * Returns the {@link HashMap} representing the current game state where each piece is mapped to its bitboard.
+     * </p>
+     *
+     * @return The current game state as a {@link HashMap} of {@link EPieceAbbreviation} to {@code long} values.
+     */
+    public HashMap<EPieceAbbreviation, Long> getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Checks if white is to move in the current position.
+     *
+     * @return {@code true} if white is to move; {@code false} otherwise.
+     */
+    public boolean isWhiteToMove() {
+        return whiteToMove;
+    }
+
+    /**
+     * Retrieves the result of the game.
+     *
+     * @return The current {@link EGameResult}, {@link EGameResult#ONGOING} if the game is not over.
+     */
+    public EGameResult getGameResult() {
+        return gameResult;
+    }
+
+    /**
+     * Retrieves the history of all position keys reached in the game.
+     *
+     * @return The {@link PositionHistory} of the game.
+     */
+    public PositionHistory getPositionHistory() {
+        return board.getPositionHistory();
+    }
+}
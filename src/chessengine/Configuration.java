@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Singleton enum representing configuration constants for a chess game application.
  * This enum provides paths to images used for pieces, square names, and square numbers,
@@ -56,6 +58,10 @@
  *     <li>{@code pathD8} - Path to the dark brown square number image files.</li>
  *     <li>{@code pathL8} - Path to the light brown square number image files.</li>
  *     <li>{@code pathII} - Path to the image file for the application frame icon.</li>
+ *     <li>{@code pathSoundMove} - Path to the sound file played for a move.</li>
+ *     <li>{@code pathSoundCapture} - Path to the sound file played for a capture.</li>
+ *     <li>{@code pathSoundCheck} - Path to the sound file played for a check.</li>
+ *     <li>{@code pathSoundCastle} - Path to the sound file played for castling.</li>
  * </ul>
  * </p>
  *
@@ -206,4 +212,10 @@ public enum Configuration {
 
     // Constant for application frame icon path
     public final String pathII = "./gameFiles/images/FrameIcon.png";
+
+    // Constants for sound file paths
+    public final String pathSoundMove = "./gameFiles/sounds/move.wav";
+    public final String pathSoundCapture = "./gameFiles/sounds/capture.wav";
+    public final String pathSoundCheck = "./gameFiles/sounds/check.wav";
+    public final String pathSoundCastle = "./gameFiles/sounds/castle.wav";
 }
@@ -0,0 +1,457 @@
+package chessengine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code DistributedCoordinator} class splits perft and fixed-depth searches into work units and distributes them
+ * to {@link DistributedWorker} processes connected over local sockets.
+ *
+ * <p>
+ * The coordinator listens on a port of the loopback address, and every connecting worker is served by its own thread.
+ * A run splits the tree of a position after the root moves, or after the root moves and their replies, into one unit
+ * per resulting position and puts the units into a queue. A perft unit is sent as the FEN of its position. A search
+ * unit is sent as the FEN of the root of the game followed by the moves of the game and of its path, so the worker
+ * replays the position history. Like in a local {@link Search}, a unit whose position repeats an earlier one or
+ * reaches the fifty-move rule is a draw, it is scored by the coordinator without sending it. Every worker thread takes
+ * one unit after the other, so fast workers compute more units and the load is balanced without any planning.
+ * </p>
+ *
+ * <p>
+ * If a worker fails, i.e. its connection breaks or it answers nonsense, its thread puts the current unit back at the
+ * front of the queue, where the next free worker takes it, and drops the worker. A run fails only if no worker is
+ * connected for {@value #WORKER_WAIT_MILLIS} ms, so workers may also be started or restarted during a run.
+ * </p>
+ *
+ * <p>
+ * The results are combined like the tree they come from: perft counts are summed, and search scores are converted to
+ * the side to move of the root and combined by minimax over the split plies. The nodes of all units divided by the
+ * duration of the run give the aggregate speed of all workers.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class DistributedCoordinator implements Closeable {
+    public static final long WORKER_WAIT_MILLIS = 30_000;
+
+    private final ServerSocket serverSocket;
+    private final LinkedBlockingDeque<WorkUnit> queue;
+    private final ConcurrentHashMap<Socket, Thread> workerThreads;
+    private final AtomicInteger workerCount;
+    private final AtomicInteger reassignments;
+    private final ReentrantLock runLock;
+
+    /**
+     * Constructs a {@code DistributedCoordinator} listening on a local port for workers.
+     *
+     * @param port The port on the loopback address, {@code 0} for any free port.
+     * @throws IOException if the port cannot be opened.
+     */
+    public DistributedCoordinator(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        queue = new LinkedBlockingDeque<>();
+        workerThreads = new ConcurrentHashMap<>();
+        workerCount = new AtomicInteger();
+        reassignments = new AtomicInteger();
+        runLock = new ReentrantLock();
+        Thread.ofPlatform().name("coordinator").daemon().start(this::acceptWorkers);
+    }
+
+    /**
+     * Accepts connecting workers until the coordinator is closed.
+     */
+    private void acceptWorkers() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Thread thread = Thread.ofPlatform().name("coordinator-worker").daemon().unstarted(() -> serveWorker(socket));
+                workerThreads.put(socket, thread);
+                workerCount.incrementAndGet();
+                thread.start();
+            } catch (IOException e) {
+                // The server socket was closed
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hands units to a worker until it fails or the coordinator is closed.
+     *
+     * @param socket The connection of the worker.
+     */
+    private void serveWorker(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            while (true) {
+                WorkUnit unit = queue.take();
+                try {
+                    writer.write(unit.message());
+                    writer.write('\n');
+                    writer.flush();
+                    String line = reader.readLine();
+                    if (line == null) {
+                        throw new EOFException("Worker closed the connection");
+                    }
+                    unit.run().complete(unit.id(), line);
+                } catch (IOException | RuntimeException e) {
+                    // Another worker takes the unit next
+                    queue.addFirst(unit);
+                    reassignments.incrementAndGet();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // The worker is dropped, its unit was put back
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workerThreads.remove(socket);
+            workerCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Starts a worker process on the local machine with the Java runtime and class path of this JVM.
+     *
+     * @return The process of the worker, which ends when the coordinator is closed.
+     * @throws IOException if the process cannot be started.
+     */
+    public Process startLocalWorker() throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), Application.class.getName(),
+                "--worker", String.valueOf(getPort()))
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    /**
+     * Computes perft or a fixed-depth search of a position without game history with the connected workers.
+     *
+     * @param board      The board of the position, which is not changed.
+     * @param type       The work to compute.
+     * @param depth      The depth in plies, larger than the split plies.
+     * @param splitPlies The plies after which the tree is split into units, {@code 1} or {@code 2}.
+     * @return The combined result.
+     * @throws IllegalArgumentException if the depth or the split plies are illegal or the position has no legal moves.
+     * @throws IllegalStateException    if no worker was connected for {@value #WORKER_WAIT_MILLIS} ms.
+     * @throws InterruptedException     if the thread is interrupted while waiting for the workers.
+     */
+    public Result run(Board board, EWorkType type, int depth, int splitPlies) throws InterruptedException {
+        return run(board, new int[0], type, depth, splitPlies);
+    }
+
+    /**
+     * Computes perft or a fixed-depth search of the position after the moves of a game with the connected workers.
+     *
+     * @param root       The board of the root position of the game, which is not changed.
+     * @param gameMoves  The {@link PackedMove}s played from the root position.
+     * @param type       The work to compute.
+     * @param depth      The depth in plies, larger than the split plies.
+     * @param splitPlies The plies after which the tree is split into units, {@code 1} or {@code 2}.
+     * @return The combined result.
+     * @throws IllegalArgumentException if the depth or the split plies are illegal or the position has no legal moves.
+     * @throws IllegalStateException    if no worker was connected for {@value #WORKER_WAIT_MILLIS} ms.
+     * @throws InterruptedException     if the thread is interrupted while waiting for the workers.
+     */
+    public Result run(Board root, int[] gameMoves, EWorkType type, int depth, int splitPlies)
+            throws InterruptedException {
+        Board board = root.copy();
+        StringBuilder history = new StringBuilder(root.toFen()).append(" moves");
+        for (int move : gameMoves) {
+            board.makeMove(move);
+            history.append(' ').append(PackedMove.toString(move));
+        }
+        if (splitPlies < 1 || splitPlies > 2 || depth <= splitPlies) {
+            throw new IllegalArgumentException("Illegal depth or split plies: " + depth + ", " + splitPlies);
+        }
+        List<int[]> paths = splitTree(board.copy(), splitPlies, type == EWorkType.SEARCH);
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("No legal moves: " + board.toFen());
+        }
+
+        runLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            int startReassignments = reassignments.get();
+            Run run = new Run(paths.size());
+            Board position = board.copy();
+            for (int id = 0; id < paths.size(); id++) {
+                int[] path = paths.get(id);
+                for (int move : path) {
+                    position.makeMove(move);
+                }
+                if (type == EWorkType.SEARCH && isDrawnByHistory(position)) {
+                    run.complete(id, "result " + id + " 1 0");
+                } else {
+                    queue.add(new WorkUnit(run, id, "unit " + id + " " + type.name() + " " + (depth - path.length)
+                            + " " + (type == EWorkType.PERFT ? position.toFen() : history + formatMoves(path))));
+                }
+                for (int i = path.length - 1; i >= 0; i--) {
+                    position.unmakeMove(path[i]);
+                }
+            }
+
+            // Waits for the units, failing once no worker is left to compute them
+            int maxWorkers = 0;
+            long lastWorkerNanos = System.nanoTime();
+            while (!run.remaining.await(100, TimeUnit.MILLISECONDS)) {
+                int workers = workerCount.get();
+                maxWorkers = Math.max(maxWorkers, workers);
+                if (workers > 0) {
+                    lastWorkerNanos = System.nanoTime();
+                } else if (System.nanoTime() - lastWorkerNanos > WORKER_WAIT_MILLIS * 1_000_000) {
+                    queue.clear();
+                    throw new IllegalStateException("No worker connected for " + WORKER_WAIT_MILLIS + " ms");
+                }
+            }
+            maxWorkers = Math.max(maxWorkers, workerCount.get());
+            return combine(type, depth, paths, run, maxWorkers, reassignments.get() - startReassignments,
+                    System.nanoTime() - startNanos);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Splits the tree of a position into the move paths of the units. A root move without replies is a unit of its
+     * own when splitting after two plies, as is a root move drawn by the position history in a search.
+     *
+     * @param board      The board of the position.
+     * @param splitPlies The plies after which the tree is split, {@code 1} or {@code 2}.
+     * @param search     {@code true} to end the paths at positions drawn by the position history.
+     * @return The paths of {@link PackedMove}s from the root to the positions of the units.
+     */
+    private static List<int[]> splitTree(Board board, int splitPlies, boolean search) {
+        List<int[]> paths = new ArrayList<>();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] replies = new int[MoveGenerator.MAX_MOVES];
+        int moveCount = MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moveCount; i++) {
+            board.makeMove(moves[i]);
+            boolean split = splitPlies == 2 && !(search && isDrawnByHistory(board));
+            int replyCount = split ? MoveGenerator.generateLegalMoves(board, replies) : 0;
+            if (replyCount == 0) {
+                paths.add(new int[]{moves[i]});
+            }
+            for (int j = 0; j < replyCount; j++) {
+                paths.add(new int[]{moves[i], replies[j]});
+            }
+            board.unmakeMove(moves[i]);
+        }
+        return paths;
+    }
+
+    /**
+     * Formats the moves of a path in long algebraic notation, each preceded by a space.
+     *
+     * @param path The {@link PackedMove}s of the path.
+     * @return The moves of the path.
+     */
+    private static String formatMoves(int[] path) {
+        StringBuilder moves = new StringBuilder();
+        for (int move : path) {
+            moves.append(' ').append(PackedMove.toString(move));
+        }
+        return moves.toString();
+    }
+
+    /**
+     * Checks if a position below the root is a draw for the {@link Search}, i.e. it repeats an earlier position or
+     * reaches the fifty-move rule.
+     *
+     * @param board The board of the position.
+     * @return {@code true} if the search scores the position as a draw; {@code false} otherwise.
+     */
+    private static boolean isDrawnByHistory(Board board) {
+        PositionHistory history = board.getPositionHistory();
+        return history.isRepetition() || history.isFiftyMoveRule();
+    }
+
+    /**
+     * Combines the results of the units.
+     *
+     * @param type          The computed work.
+     * @param depth         The depth in plies.
+     * @param paths         The paths of the units.
+     * @param run           The results of the units.
+     * @param workers       The maximum number of connected workers.
+     * @param reassignments The number of units put back after a worker failed.
+     * @param nanos         The duration of the run in nanoseconds.
+     * @return The combined result.
+     */
+    private static Result combine(EWorkType type, int depth, List<int[]> paths, Run run, int workers,
+                                  int reassignments, long nanos) {
+        LinkedHashMap<String, Long> rootMoves = new LinkedHashMap<>();
+        long nodes = 0L;
+        for (int id = 0; id < paths.size(); id++) {
+            int[] path = paths.get(id);
+            String rootMove = PackedMove.toString(path[0]);
+            nodes += run.nodes[id];
+            if (type == EWorkType.PERFT) {
+                rootMoves.merge(rootMove, run.nodes[id], Long::sum);
+                continue;
+            }
+            // Converts the score to the side to move of the root, mates are one ply further away per ply of the path
+            int score = path.length % 2 == 1 ? -run.scores[id] : run.scores[id];
+            if (Math.abs(score) >= Search.MATE_BOUND) {
+                score -= Integer.signum(score) * path.length;
+            }
+            // The opponent chooses the worst reply for the root side
+            rootMoves.merge(rootMove, (long) score, Math::min);
+        }
+
+        int bestMove = PackedMove.NO_MOVE;
+        int bestScore = -Search.INFINITY;
+        if (type == EWorkType.SEARCH) {
+            for (int[] path : paths) {
+                int score = rootMoves.get(PackedMove.toString(path[0])).intValue();
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = path[0];
+                }
+            }
+        }
+        return new Result(type, depth, nodes, bestMove, type == EWorkType.SEARCH ? bestScore : 0, rootMoves,
+                paths.size(), workers, reassignments, nanos);
+    }
+
+    /**
+     * Retrieves the port the coordinator listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Retrieves the number of connected workers.
+     *
+     * @return The number of workers.
+     */
+    public int getWorkerCount() {
+        return workerCount.get();
+    }
+
+    /**
+     * Stops accepting workers and closes the connections of all workers, which end their processes.
+     *
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (var worker : workerThreads.entrySet()) {
+            worker.getKey().close();
+            worker.getValue().interrupt();
+        }
+    }
+
+    /**
+     * The {@code WorkUnit} record is a unit in the queue.
+     *
+     * @param run     The run the unit belongs to.
+     * @param id      The number of the unit within its run.
+     * @param message The unit message sent to the worker.
+     */
+    private record WorkUnit(Run run, int id, String message) {
+    }
+
+    /**
+     * The {@code Run} class collects the results of the units of one run.
+     */
+    private static final class Run {
+        private final long[] nodes;
+        private final int[] scores;
+        private final CountDownLatch remaining;
+
+        private Run(int unitCount) {
+            nodes = new long[unitCount];
+            scores = new int[unitCount];
+            remaining = new CountDownLatch(unitCount);
+        }
+
+        /**
+         * Stores the result of a unit, which happens before the run sees the unit as completed.
+         *
+         * @param id   The number of the unit.
+         * @param line The result message of the worker.
+         * @throws IllegalArgumentException if the message does not answer the unit.
+         */
+        private void complete(int id, String line) {
+            String[] fields = line.split(" ");
+            if (fields.length != 4 || !fields[0].equals("result") || Integer.parseInt(fields[1]) != id) {
+                throw new IllegalArgumentException("Illegal result for unit " + id + ": " + line);
+            }
+            nodes[id] = Long.parseLong(fields[2]);
+            scores[id] = Integer.parseInt(fields[3]);
+            remaining.countDown();
+        }
+    }
+
+    /**
+     * The {@code Result} record holds the combined result of a run.
+     *
+     * @param type          The computed work.
+     * @param depth         The depth in plies.
+     * @param nodes         The number of nodes of all units, the leaf nodes for perft.
+     * @param bestMove      The best {@link PackedMove} of a search, {@link PackedMove#NO_MOVE} for perft.
+     * @param score         The score of the best move from the side to move, {@code 0} for perft.
+     * @param rootMoves     Every root move in long algebraic notation with its leaf nodes for perft or its score for a
+     *                      search.
+     * @param units         The number of units.
+     * @param workers       The maximum number of connected workers.
+     * @param reassignments The number of units put back after a worker failed.
+     * @param nanos         The duration of the run in nanoseconds.
+     */
+    public record Result(EWorkType type, int depth, long nodes, int bestMove, int score,
+                         LinkedHashMap<String, Long> rootMoves, int units, int workers, int reassignments, long nanos) {
+        /**
+         * Calculates the aggregate speed of all workers.
+         *
+         * @return The number of nodes per second.
+         */
+        public double nodesPerSecond() {
+            return nodes / (nanos / 1e9);
+        }
+
+        /**
+         * Formats the result in one line.
+         *
+         * @return The result.
+         */
+        @Override
+        public String toString() {
+            String best = type == EWorkType.SEARCH
+                    ? String.format(" bestmove %s score %d,", PackedMove.toString(bestMove), score)
+                    : "";
+            return String.format("%s depth %d:%s %,d nodes in %.2f s, %,.0f nodes/s, %d units, %d workers, %d reassigned",
+                    type.getDescription(), depth, best, nodes, nanos / 1e9, nodesPerSecond(), units, workers,
+                    reassignments);
+        }
+    }
+}
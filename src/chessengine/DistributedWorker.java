@@ -0,0 +1,122 @@
+package chessengine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code DistributedWorker} class computes work units for a {@link DistributedCoordinator} on the local machine.
+ *
+ * <p>
+ * The worker connects to the port of the coordinator and answers one unit after the other until the coordinator closes
+ * the connection. The protocol is plain text, one line per message:
+ * <ul>
+ *     <li>{@code unit <id> <type> <depth> <fen> [moves <move> ...]} - From the coordinator, a {@link EWorkType} to
+ *     compute for the position after the moves in long algebraic notation, which are replayed from the FEN to
+ *     restore the position history.</li>
+ *     <li>{@code result <id> <nodes> <score>} - From the worker, the number of nodes and for a search the score
+ *     from the side to move of the position, {@code 0} for perft.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * A worker uses one thread, so a machine runs one worker process per core. The transposition table of the worker is
+ * kept between units, positions of different units often transpose.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class DistributedWorker {
+    private static final int TRANSPOSITION_TABLE_SIZE_MB = 64;
+
+    private final int port;
+    private final Search search;
+
+    /**
+     * Constructs a {@code DistributedWorker} for a coordinator listening on a local port.
+     *
+     * @param port The port of the coordinator.
+     */
+    public DistributedWorker(int port) {
+        this.port = port;
+        search = new Search(new TranspositionTable(TRANSPOSITION_TABLE_SIZE_MB));
+    }
+
+    /**
+     * Connects to the coordinator and computes units until the coordinator closes the connection.
+     *
+     * @return The number of computed units.
+     * @throws IOException if the coordinator cannot be reached.
+     */
+    public int run() throws IOException {
+        int units = 0;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.write(compute(line));
+                writer.write('\n');
+                writer.flush();
+                units++;
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Computes one unit.
+     *
+     * @param line The unit message of the coordinator.
+     * @return The result message.
+     * @throws IllegalArgumentException if the message is malformed.
+     */
+    private String compute(String line) {
+        String[] fields = line.split(" ", 5);
+        if (fields.length != 5 || !fields[0].equals("unit")) {
+            throw new IllegalArgumentException("Illegal unit: " + line);
+        }
+        EWorkType type = EWorkType.valueOf(fields[2]);
+        int depth = Integer.parseInt(fields[3]);
+        String[] position = fields[4].split(" moves ?", 2);
+        Board board = Board.fromFen(position[0]);
+        if (position.length == 2 && !position[1].isBlank()) {
+            for (String notation : position[1].split(" ")) {
+                board.makeMove(parseMove(board, notation));
+            }
+        }
+
+        if (type == EWorkType.PERFT) {
+            return "result " + fields[1] + " " + Perft.perft(board, depth) + " 0";
+        }
+        SearchResult result = search.search(board, SearchLimits.depth(depth));
+        return "result " + fields[1] + " " + result.metrics().nodes() + " " + result.score();
+    }
+
+    /**
+     * Finds the legal move of a position matching a move in long algebraic notation.
+     *
+     * @param board    The board of the position.
+     * @param notation The move, e.g. {@code e2e4} or {@code e7e8q}.
+     * @return The {@link PackedMove}.
+     * @throws IllegalArgumentException if the move is not legal in the position.
+     */
+    private static int parseMove(Board board, String notation) {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int moveCount = MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moveCount; i++) {
+            if (PackedMove.toString(moves[i]).equals(notation)) {
+                return moves[i];
+            }
+        }
+        throw new IllegalArgumentException("Illegal move: " + notation);
+    }
+}
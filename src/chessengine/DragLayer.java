@@ -0,0 +1,93 @@
+package chessengine;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code DragLayer} class shows the piece dragged by the user on top of the board.
+ *
+ * <p>
+ * The layer is installed as the visible glass pane of the frame, so the dragged piece can move freely over the board.
+ * It has no mouse listeners, so all mouse events pass through to the components below. Moving the piece only repaints
+ * its old and new bounds, the board itself is neither rendered nor scaled again: Swing fills these bounds from the
+ * cached images of the {@link BoardComponent} below.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class DragLayer extends JComponent {
+    private BufferedImage sprite;
+    private int spriteSize;
+    private int x;
+    private int y;
+
+    /**
+     * Constructs an empty, transparent {@code DragLayer}.
+     */
+    public DragLayer() {
+        setOpaque(false);
+    }
+
+    /**
+     * Shows a piece centered on a position of the layer.
+     *
+     * @param sprite     the sprite of the piece, drawn at the given size.
+     * @param spriteSize the width and height the sprite is drawn with.
+     * @param x          the x coordinate of the center of the piece.
+     * @param y          the y coordinate of the center of the piece.
+     */
+    public void showPiece(BufferedImage sprite, int spriteSize, int x, int y) {
+        this.sprite = sprite;
+        this.spriteSize = spriteSize;
+        this.x = x;
+        this.y = y;
+        repaintPiece();
+    }
+
+    /**
+     * Moves the shown piece, repainting only its old and new bounds.
+     *
+     * @param x the x coordinate of the new center of the piece.
+     * @param y the y coordinate of the new center of the piece.
+     */
+    public void movePiece(int x, int y) {
+        if (sprite == null) {
+            return;
+        }
+        repaintPiece();
+        this.x = x;
+        this.y = y;
+        repaintPiece();
+    }
+
+    /**
+     * Removes the shown piece.
+     */
+    public void hidePiece() {
+        if (sprite != null) {
+            repaintPiece();
+            sprite = null;
+        }
+    }
+
+    /**
+     * Repaints the bounds of the shown piece.
+     */
+    private void repaintPiece() {
+        repaint(x - spriteSize / 2, y - spriteSize / 2, spriteSize, spriteSize);
+    }
+
+    /**
+     * Paints the shown piece.
+     *
+     * @param g the graphics context to paint to.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (sprite != null) {
+            g.drawImage(sprite, x - spriteSize / 2, y - spriteSize / 2, spriteSize, spriteSize, null);
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Enumeration representing chess files (columns) on a standard 8x8 chess board.
  * Each enumeration value corresponds to a specific file on the chess board,
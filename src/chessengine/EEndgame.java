@@ -0,0 +1,42 @@
+package chessengine;
+
+/**
+ * Enumeration representing the material signatures with a specialised evaluation, as classified by the
+ * {@link MaterialTable}.
+ *
+ * <p>
+ * Endgames:
+ * <ul>
+ *     <li>{@code GENERIC} - No specialised evaluation</li>
+ *     <li>{@code KBNK} - King, bishop and knight against the bare king, which is driven to a corner of the colour of
+ *     the bishop</li>
+ *     <li>{@code OPPOSITE_BISHOPS} - One bishop per side and pawns, drawish if the bishops have opposite colours</li>
+ *     <li>{@code WRONG_BISHOP} - King, bishop and pawns against the bare king, drawn if the pawns are on a rook file
+ *     whose promotion square the bishop does not control and the defending king holds it</li>
+ * </ul>
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public enum EEndgame {
+    GENERIC("Generic"),
+    KBNK("King, bishop and knight against king"),
+    OPPOSITE_BISHOPS("Bishops of opposite colours"),
+    WRONG_BISHOP("Rook pawns with the wrong bishop");
+
+    private final String description;
+
+    EEndgame(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Retrieves the description of the endgame.
+     *
+     * @return The human readable description of the endgame.
+     */
+    public String getDescription() {
+        return description;
+    }
+}
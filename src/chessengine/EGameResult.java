@@ -0,0 +1,47 @@
+package chessengine;
+
+/**
+ * Enumeration representing the result of a chess game.
+ *
+ * <p>
+ * Results:
+ * <ul>
+ *     <li>{@code ONGOING} - The game is not finished yet</li>
+ *     <li>{@code WHITE_WINS_CHECKMATE} - White checkmated black</li>
+ *     <li>{@code BLACK_WINS_CHECKMATE} - Black checkmated white</li>
+ *     <li>{@code DRAW_STALEMATE} - The side to move has no legal move but is not in check</li>
+ *     <li>{@code DRAW_THREEFOLD_REPETITION} - The same position occurred three times</li>
+ *     <li>{@code DRAW_FIFTY_MOVE_RULE} - No capture or pawn move was played in the last fifty moves</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Each result carries a description which is shown to the user once the game is over.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public enum EGameResult {
+    ONGOING("Game in progress"),
+    WHITE_WINS_CHECKMATE("White wins by checkmate"),
+    BLACK_WINS_CHECKMATE("Black wins by checkmate"),
+    DRAW_STALEMATE("Draw by stalemate"),
+    DRAW_THREEFOLD_REPETITION("Draw by threefold repetition"),
+    DRAW_FIFTY_MOVE_RULE("Draw by the fifty-move rule");
+
+    private final String description;
+
+    EGameResult(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Retrieves the description of the result.
+     *
+     * @return The human readable description of the result.
+     */
+    public String getDescription() {
+        return description;
+    }
+}
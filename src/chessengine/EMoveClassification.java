@@ -0,0 +1,65 @@
+package chessengine;
+
+/**
+ * Enumeration representing the classification of a move by a {@link GameReview}.
+ *
+ * <p>
+ * Classifications:
+ * <ul>
+ *     <li>{@code GOOD} - The move loses less than a pawn compared to the best move</li>
+ *     <li>{@code MISTAKE} - The move loses at least a pawn</li>
+ *     <li>{@code BLUNDER} - The move loses at least three pawns</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Each classification carries the minimal loss in centipawns and a symbol which is appended to the move in the report.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public enum EMoveClassification {
+    GOOD(0, ""),
+    MISTAKE(100, "?"),
+    BLUNDER(300, "??");
+
+    private final int minimalLoss;
+    private final String symbol;
+
+    EMoveClassification(int minimalLoss, String symbol) {
+        this.minimalLoss = minimalLoss;
+        this.symbol = symbol;
+    }
+
+    /**
+     * Classifies a move by the loss of evaluation compared to the best move.
+     *
+     * @param loss The loss in centipawns, {@code 0} for the best move.
+     * @return The classification of the move.
+     */
+    public static EMoveClassification of(int loss) {
+        if (loss >= BLUNDER.minimalLoss) {
+            return BLUNDER;
+        }
+        return loss >= MISTAKE.minimalLoss ? MISTAKE : GOOD;
+    }
+
+    /**
+     * Retrieves the minimal loss of the classification.
+     *
+     * @return The minimal loss in centipawns.
+     */
+    public int getMinimalLoss() {
+        return minimalLoss;
+    }
+
+    /**
+     * Retrieves the symbol of the classification.
+     *
+     * @return The annotation symbol, empty for a good move.
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+}
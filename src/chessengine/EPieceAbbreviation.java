@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Enumeration representing abbreviations for chess piece types.
  * Each enumeration value corresponds to a specific type of chess piece,
@@ -0,0 +1,37 @@
+package chessengine;
+
+/**
+ * Enumeration representing the outcome of a {@link MateSolver}.
+ *
+ * <p>
+ * Statuses:
+ * <ul>
+ *     <li>{@code MATE} - The side to move forces mate</li>
+ *     <li>{@code NO_MATE} - The side to move cannot force mate</li>
+ *     <li>{@code UNKNOWN} - The node limit was reached or the solver was stopped before the position was solved</li>
+ * </ul>
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public enum EProofStatus {
+    MATE("Forced mate"),
+    NO_MATE("No forced mate"),
+    UNKNOWN("Not solved");
+
+    private final String description;
+
+    EProofStatus(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Retrieves the description of the status.
+     *
+     * @return The human readable description of the status.
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,39 @@
+package chessengine;
+
+/**
+ * Enumeration representing the selectivity techniques of the {@link Search}, which can be switched on and off.
+ *
+ * <p>
+ * Features:
+ * <ul>
+ *     <li>{@code NULL_MOVE_PRUNING} - Skips the move and cuts off if a reduced search still fails high. Not used in
+ *     check or without pieces besides pawns, where zugzwang is likely, and verified by a reduced search at high depths</li>
+ *     <li>{@code LATE_MOVE_REDUCTIONS} - Searches late quiet moves with a depth reduced by a logarithmic table and
+ *     searches them again at full depth if they raise alpha</li>
+ *     <li>{@code REVERSE_FUTILITY_PRUNING} - Cuts off near the leaves if the static evaluation exceeds beta by a
+ *     margin growing with the depth</li>
+ *     <li>{@code FUTILITY_PRUNING} - Skips quiet moves near the leaves which cannot raise the static evaluation to
+ *     alpha</li>
+ *     <li>{@code CHECK_EXTENSIONS} - Searches positions with the side to move in check one ply deeper</li>
+ * </ul>
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public enum ESearchFeature {
+    NULL_MOVE_PRUNING,
+    LATE_MOVE_REDUCTIONS,
+    REVERSE_FUTILITY_PRUNING,
+    FUTILITY_PRUNING,
+    CHECK_EXTENSIONS;
+
+    /**
+     * Retrieves the bit of the feature in a set of features.
+     *
+     * @return The bit mask of the feature.
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+}
@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Enumeration representing descriptions and abbreviations for squares on a chess board.
  * Each enumeration value corresponds to a specific square's description or abbreviation.
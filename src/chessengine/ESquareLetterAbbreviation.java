@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Enumeration representing abbreviations for square letters on a chess board.
  * Each abbreviation corresponds to a specific square letter from A to H.
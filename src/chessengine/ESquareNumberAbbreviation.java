@@ -1,3 +1,5 @@
+package chessengine;
+
 /**
  * Enumeration representing abbreviations for square numbers on a chess board.
  * Each abbreviation corresponds to a specific square number from 1 to 8.
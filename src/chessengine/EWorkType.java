@@ -0,0 +1,35 @@
+package chessengine;
+
+/**
+ * Enumeration representing the kind of work distributed by a {@link DistributedCoordinator}.
+ *
+ * <p>
+ * Types:
+ * <ul>
+ *     <li>{@code PERFT} - Counts the leaf nodes of the legal move tree</li>
+ *     <li>{@code SEARCH} - Searches the best move and its score to a fixed depth</li>
+ * </ul>
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public enum EWorkType {
+    PERFT("Perft"),
+    SEARCH("Search");
+
+    private final String description;
+
+    EWorkType(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Retrieves the description of the work type.
+     *
+     * @return The human readable description of the work type.
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,140 @@
+package chessengine;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@code EngineClient} class plays games on an {@link EngineServer} running on the local machine.
+ *
+ * <p>
+ * The client is thread-safe, one client can play many games at the same time. Failed requests throw an
+ * {@link IllegalStateException} with the status and the message of the server.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class EngineClient {
+    private final HttpClient httpClient;
+    private final URI baseUri;
+
+    /**
+     * Constructs an {@code EngineClient} for a server listening on a local port.
+     *
+     * @param port The port of the server.
+     */
+    public EngineClient(int port) {
+        baseUri = URI.create("http://127.0.0.1:" + port + "/games");
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Starts a new game from the standard start position.
+     *
+     * @return The id of the game.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     */
+    public long newGame() throws IOException, InterruptedException {
+        return newGame("");
+    }
+
+    /**
+     * Starts a new game from a position.
+     *
+     * @param fen The FEN of the start position.
+     * @return The id of the game.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     */
+    public long newGame(String fen) throws IOException, InterruptedException {
+        return Long.parseLong(send(HttpRequest.newBuilder(baseUri).POST(HttpRequest.BodyPublishers.ofString(fen))));
+    }
+
+    /**
+     * Applies a move to a game.
+     *
+     * @param id   The id of the game.
+     * @param move The move in long algebraic notation, e.g. {@code e2e4}.
+     * @return The FEN of the position after the move.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     */
+    public String applyMove(long id, String move) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(gameUri(id, "/moves")).POST(HttpRequest.BodyPublishers.ofString(move)));
+    }
+
+    /**
+     * Searches the best move of a game.
+     *
+     * @param id             The id of the game.
+     * @param depth          The maximum search depth in plies, {@code 0} for no limit.
+     * @param moveTimeMillis The maximum search time in milliseconds, {@code 0} for no limit.
+     * @return The best move in long algebraic notation, {@code 0000} if the game is over.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     */
+    public String bestMove(long id, int depth, long moveTimeMillis) throws IOException, InterruptedException {
+        String response = send(HttpRequest.newBuilder(gameUri(id, "/bestmove?depth=" + depth + "&movetime=" + moveTimeMillis)).GET());
+        // The response starts with "bestmove <move>"
+        return response.split(" ")[1];
+    }
+
+    /**
+     * Retrieves the position of a game.
+     *
+     * @param id The id of the game.
+     * @return The position in Forsyth-Edwards Notation.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     */
+    public String getFen(long id) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(gameUri(id, "/fen")).GET());
+    }
+
+    /**
+     * Ends a game.
+     *
+     * @param id The id of the game.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     */
+    public void endGame(long id) throws IOException, InterruptedException {
+        send(HttpRequest.newBuilder(gameUri(id, "")).DELETE());
+    }
+
+    /**
+     * Builds the URI of a resource of a game.
+     *
+     * @param id       The id of the game.
+     * @param resource The path of the resource relative to the game, including the leading slash.
+     * @return The URI.
+     */
+    private URI gameUri(long id, String resource) {
+        return URI.create(baseUri + "/" + id + resource);
+    }
+
+    /**
+     * Sends a request and returns the body of a successful response.
+     *
+     * @param request The request.
+     * @return The body of the response without the trailing line break.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for the response.
+     * @throws IllegalStateException if the server answers with an error.
+     */
+    private String send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        String body = response.body().strip();
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Request failed with status " + response.statusCode() + ": " + body);
+        }
+        return body;
+    }
+}
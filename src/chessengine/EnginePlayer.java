@@ -0,0 +1,368 @@
+package chessengine;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * The {@code EnginePlayer} class plays the moves of the engine against a human opponent on a background thread.
+ *
+ * <p>
+ * The engine thinks for a fixed time per move. After its move it ponders: it predicts the reply of the opponent,
+ * usually the second move of its principal variation, and searches the position after the predicted reply while the
+ * opponent is thinking. If the opponent plays the predicted move (a ponder hit), the running search turns into the
+ * search of the engine's next move. The time spent pondering counts towards the time per move, so the engine mostly
+ * answers at once. If the opponent plays another move (a ponder miss), the search is discarded and the actual position
+ * is searched. The ponder search shares the transposition table, so its entries still help the new search.
+ * </p>
+ *
+ * <p>
+ * Replies are passed to a listener on the thread of the engine, together with the key of the position they were
+ * searched for. The listener has to check that the position is still on the board, as the opponent may have undone a
+ * move in the meantime. Results of stopped and discarded searches are never passed on.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class EnginePlayer {
+    public static final long DEFAULT_MOVE_TIME_MILLIS = 2000;
+
+    private final TranspositionTable transpositionTable;
+    private final Search search;
+    private final ExecutorService executor;
+    private final Consumer<Reply> replyListener;
+
+    private long moveTimeMillis = DEFAULT_MOVE_TIME_MILLIS;
+    private boolean ponderEnabled = true;
+    private Job job;
+
+    // Ponder statistics, the reply times are added by the thread of the engine
+    private int ponderHits;
+    private int ponderMisses;
+    private final AtomicLong hitReplies = new AtomicLong();
+    private final AtomicLong hitReplyNanos = new AtomicLong();
+    private final AtomicLong missReplies = new AtomicLong();
+    private final AtomicLong missReplyNanos = new AtomicLong();
+
+    /**
+     * Constructs an {@code EnginePlayer} using the given transposition table.
+     *
+     * @param transpositionTable The transposition table, may be shared with other searches.
+     * @param replyListener      The listener receiving the moves of the engine on the thread of the engine.
+     */
+    public EnginePlayer(TranspositionTable transpositionTable, Consumer<Reply> replyListener) {
+        this.transpositionTable = transpositionTable;
+        this.replyListener = replyListener;
+        search = new Search(transpositionTable);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts searching the move of the engine, stopping a running search first.
+     *
+     * @param board The board of the position, which is copied and not used by the engine.
+     */
+    public synchronized void think(Board board) {
+        stop();
+        start(new Job(board.copy(), PackedMove.NO_MOVE, System.nanoTime(), false));
+    }
+
+    /**
+     * Starts pondering after a move of the engine, unless pondering is disabled.
+     *
+     * <p>
+     * The predicted reply is the second move of the principal variation of the engine's move. If the variation ends
+     * after the engine's move, the best move stored in the transposition table for the position is used.
+     * Without a legal prediction the engine does not ponder.
+     * </p>
+     *
+     * @param board The board of the position after the engine's move, which is copied and not used by the engine.
+     * @param reply The reply of the engine which was just played.
+     */
+    public synchronized void ponder(Board board, Reply reply) {
+        stop();
+        if (!ponderEnabled) {
+            return;
+        }
+
+        Board copy = board.copy();
+        int[] principalVariation = reply.result().principalVariation();
+        int ponderMove = principalVariation.length > 1 ? principalVariation[1] : PackedMove.NO_MOVE;
+        if (ponderMove == PackedMove.NO_MOVE) {
+            long entry = transpositionTable.probe(copy.getKey());
+            ponderMove = entry != 0 ? TranspositionTable.getMove(entry) : PackedMove.NO_MOVE;
+        }
+        // The move of a transposition table entry may belong to another position with a colliding key
+        if (!isLegal(copy, ponderMove)) {
+            return;
+        }
+
+        copy.makeMove(ponderMove);
+        start(new Job(copy, ponderMove, 0, false));
+    }
+
+    /**
+     * Handles a move of the opponent, which is already executed on the given board.
+     *
+     * <p>
+     * A ponder hit lets the running search continue as the search of the engine's move. Otherwise the running search
+     * is discarded and the position on the board is searched.
+     * </p>
+     *
+     * @param board The board of the position after the opponent's move.
+     * @param move  The {@link PackedMove} of the opponent.
+     */
+    public synchronized void opponentMoved(Board board, int move) {
+        long replyStartNanos = System.nanoTime();
+        if (job == null || !job.isPondering()) {
+            think(board);
+            return;
+        }
+
+        if (job.ponderMove == move && job.boardKey == board.getKey()) {
+            ponderHits++;
+            synchronized (job) {
+                job.replyStartNanos = replyStartNanos;
+                job.ponderHit = true;
+                search.ponderHit();
+                // A ponder search which found a mate finished already and waits for the hit
+                if (job.result != null) {
+                    complete(job);
+                }
+            }
+            return;
+        }
+
+        ponderMisses++;
+        stop();
+        start(new Job(board.copy(), PackedMove.NO_MOVE, replyStartNanos, true));
+    }
+
+    /**
+     * Stops the running search and waits until the thread of the engine finished searching. The result of the search
+     * is discarded.
+     */
+    public synchronized void stop() {
+        if (job == null) {
+            return;
+        }
+        job.discarded = true;
+        search.stop();
+        try {
+            job.task.get();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Engine search failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        job = null;
+    }
+
+    /**
+     * Submits the search of a job to the thread of the engine.
+     *
+     * @param newJob The job, which becomes the running job.
+     */
+    private void start(Job newJob) {
+        SearchLimits limits = SearchLimits.time(moveTimeMillis);
+        // A stop or ponder hit sent before the engine thread starts the search is applied when it starts
+        search.prepareRun();
+        newJob.task = executor.submit(() -> {
+            SearchResult result = search.search(newJob.board, limits, newJob.ponderMove != PackedMove.NO_MOVE);
+            synchronized (newJob) {
+                newJob.result = result;
+                // A ponder search only ends on its own if it found a mate, it waits for the opponent then
+                if (!newJob.isPondering()) {
+                    complete(newJob);
+                }
+            }
+        });
+        job = newJob;
+    }
+
+    /**
+     * Passes the result of a finished search to the listener, unless the search was discarded.
+     * Called while holding the lock of the job.
+     *
+     * @param job The job of the finished search.
+     */
+    private void complete(Job job) {
+        if (job.discarded || job.result.bestMove() == PackedMove.NO_MOVE) {
+            return;
+        }
+        long replyNanos = System.nanoTime() - job.replyStartNanos;
+        if (job.ponderMove != PackedMove.NO_MOVE) {
+            hitReplies.incrementAndGet();
+            hitReplyNanos.addAndGet(replyNanos);
+        } else if (job.afterPonderMiss) {
+            missReplies.incrementAndGet();
+            missReplyNanos.addAndGet(replyNanos);
+        }
+        replyListener.accept(new Reply(job.boardKey, job.result));
+    }
+
+    /**
+     * Checks if a move is legal on a board.
+     *
+     * @param board The board.
+     * @param move  The {@link PackedMove} to check.
+     * @return {@code true} if the move is one of the legal moves; {@code false} otherwise.
+     */
+    private static boolean isLegal(Board board, int move) {
+        if (move == PackedMove.NO_MOVE) {
+            return false;
+        }
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the time the engine thinks per move. The setting takes effect with the next search.
+     *
+     * @param moveTimeMillis The time per move in milliseconds.
+     * @throws IllegalArgumentException if the time is not positive.
+     */
+    public synchronized void setMoveTimeMillis(long moveTimeMillis) {
+        if (moveTimeMillis <= 0) {
+            throw new IllegalArgumentException("Move time must be positive: " + moveTimeMillis);
+        }
+        this.moveTimeMillis = moveTimeMillis;
+    }
+
+    public synchronized long getMoveTimeMillis() {
+        return moveTimeMillis;
+    }
+
+    /**
+     * Switches pondering on or off. The setting takes effect with the next move of the engine.
+     *
+     * @param ponderEnabled {@code true} to ponder on the time of the opponent; {@code false} otherwise.
+     */
+    public synchronized void setPonderEnabled(boolean ponderEnabled) {
+        this.ponderEnabled = ponderEnabled;
+    }
+
+    public synchronized boolean isPonderEnabled() {
+        return ponderEnabled;
+    }
+
+    /**
+     * Retrieves the statistics of all ponder searches resolved by a move of the opponent.
+     *
+     * @return The ponder statistics.
+     */
+    public synchronized PonderStatistics getPonderStatistics() {
+        return new PonderStatistics(ponderHits, ponderMisses, averageMillis(hitReplyNanos, hitReplies),
+                averageMillis(missReplyNanos, missReplies));
+    }
+
+    /**
+     * Calculates the average of summed up nanoseconds in milliseconds.
+     *
+     * @param nanos The sum in nanoseconds.
+     * @param count The number of summands.
+     * @return The average in milliseconds, {@code 0} without summands.
+     */
+    private static double averageMillis(AtomicLong nanos, AtomicLong count) {
+        long n = count.get();
+        return n == 0 ? 0 : nanos.get() / 1_000_000.0 / n;
+    }
+
+    /**
+     * The {@code Reply} record holds a move of the engine.
+     *
+     * @param positionKey The key of the position the move was searched for.
+     * @param result      The result of the search, its best move is the move of the engine.
+     */
+    public record Reply(long positionKey, SearchResult result) {
+        public int move() {
+            return result.bestMove();
+        }
+    }
+
+    /**
+     * The {@code PonderStatistics} record holds how often the engine predicted the reply of the opponent.
+     *
+     * <p>
+     * The reply times are measured from the move of the opponent to the move of the engine and averaged over the
+     * searches which finished, so a game ended or undone while the engine was thinking is not counted.
+     * </p>
+     *
+     * @param hits                   The number of correctly predicted replies.
+     * @param misses                 The number of wrongly predicted replies.
+     * @param averageHitReplyMillis  The average reply time after a ponder hit in milliseconds.
+     * @param averageMissReplyMillis The average reply time after a ponder miss in milliseconds.
+     */
+    public record PonderStatistics(int hits, int misses, double averageHitReplyMillis, double averageMissReplyMillis) {
+        /**
+         * Calculates the share of correctly predicted replies.
+         *
+         * @return The hit rate between {@code 0} and {@code 1}, {@code 0} without any ponder search.
+         */
+        public double hitRate() {
+            int total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ponder hits %d/%d (%.0f%%), reply %.0f ms after hits, %.0f ms after misses",
+                    hits, hits + misses, hitRate() * 100, averageHitReplyMillis, averageMissReplyMillis);
+        }
+    }
+
+    /**
+     * The {@code Job} class holds the state of one search submitted to the thread of the engine.
+     * The result and the reply start are guarded by the lock of the job.
+     */
+    private static class Job {
+        private final Board board;
+        private final long boardKey;
+        private final int ponderMove;
+        private final boolean afterPonderMiss;
+        private Future<?> task;
+        private volatile boolean discarded;
+        private long replyStartNanos;
+        private SearchResult result;
+        private boolean ponderHit;
+
+        /**
+         * Constructs a job searching the given board.
+         *
+         * @param board           The board to search, owned by the job.
+         * @param ponderMove      The predicted reply leading to the board, or {@link PackedMove#NO_MOVE}.
+         * @param replyStartNanos The time the engine's reply is measured from.
+         * @param afterPonderMiss {@code true} if the search follows a ponder miss.
+         */
+        Job(Board board, int ponderMove, long replyStartNanos, boolean afterPonderMiss) {
+            this.board = board;
+            this.boardKey = board.getKey();
+            this.ponderMove = ponderMove;
+            this.replyStartNanos = replyStartNanos;
+            this.afterPonderMiss = afterPonderMiss;
+        }
+
+        /**
+         * Checks if the job is a ponder search still waiting for the move of the opponent.
+         *
+         * @return {@code true} if the job is pondering; {@code false} otherwise.
+         */
+        synchronized boolean isPondering() {
+            return ponderMove != PackedMove.NO_MOVE && !ponderHit;
+        }
+    }
+}
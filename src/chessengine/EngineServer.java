@@ -0,0 +1,482 @@
+package chessengine;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * The {@code EngineServer} class serves many concurrent games from one JVM over HTTP on a local port.
+ *
+ * <p>
+ * The server is headless and answers in plain text. Its resources are:
+ * <ul>
+ *     <li>{@code POST /games} - Starts a new game from the start position or the FEN in the body, answers its id.</li>
+ *     <li>{@code POST /games/{id}/moves} - Applies the move in long algebraic notation in the body, answers the FEN.</li>
+ *     <li>{@code GET /games/{id}/bestmove?depth=&movetime=} - Searches the best move, answers e.g.
+ *     {@code bestmove e2e4 score 35 depth 9 nodes 812345}.</li>
+ *     <li>{@code GET /games/{id}/fen} - Answers the position in Forsyth-Edwards Notation.</li>
+ *     <li>{@code DELETE /games/{id}} - Ends the game and releases its state.</li>
+ * </ul>
+ * Malformed requests are answered with status 400, unknown games with 404 and a full server with 503.
+ * </p>
+ *
+ * <p>
+ * Every request is handled on its own virtual thread, so thousands of connections cost little memory. Virtual threads
+ * waiting for a lock or a future release their carrier thread, which is why the games are guarded by
+ * {@link ReentrantLock}s instead of {@code synchronized} blocks.
+ * </p>
+ *
+ * <p>
+ * Searches are CPU bound, and a virtual thread running a search would never yield its carrier thread, so with enough
+ * searches every other request would stall. Searches therefore run on a fixed pool of platform threads, one per core,
+ * which is the global search budget: a search request queues its search on the pool and waits for the result. Each
+ * search takes a pooled {@link Search}, whose move lists and tables are allocated once. The searches share one
+ * {@link TranspositionTable}. Ended games return their {@link Board} to a pool, from which new games are initialized by
+ * loading their FEN instead of allocating a board.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class EngineServer {
+    public static final int DEFAULT_PORT = 8765;
+    public static final int DEFAULT_MAX_GAMES = 10_000;
+    public static final long MAX_MOVE_TIME_MILLIS = 60_000;
+    public static final long DEFAULT_MOVE_TIME_MILLIS = 1000;
+
+    private static final int TRANSPOSITION_TABLE_SIZE_MB = 64;
+    private static final int MAX_POOLED_GAMES = 1024;
+
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final ExecutorService searchExecutor;
+    private final TranspositionTable transpositionTable;
+    private final ConcurrentLinkedQueue<Search> searchPool;
+    private final Set<Search> runningSearches;
+    private final ConcurrentLinkedQueue<Game> gamePool;
+    private final ConcurrentHashMap<Long, Game> games;
+    private final AtomicLong nextGameId;
+    private final AtomicInteger pooledGames;
+    private final AtomicInteger openGames;
+    private final int maxGames;
+    private volatile boolean stopping;
+
+    /**
+     * Constructs an {@code EngineServer} listening on a local port, which is started by {@link #start()}.
+     *
+     * @param port          The port on the loopback address, {@code 0} for any free port.
+     * @param searchThreads The number of searches running at the same time, usually the number of cores.
+     * @param maxGames      The maximum number of open games.
+     * @throws IOException if the port cannot be bound.
+     */
+    public EngineServer(int port, int searchThreads, int maxGames) throws IOException {
+        if (searchThreads < 1 || maxGames < 1) {
+            throw new IllegalArgumentException("Search threads and games must be positive: " + searchThreads + ", " + maxGames);
+        }
+        this.maxGames = maxGames;
+        transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE_MB);
+        AtomicInteger searchThreadCount = new AtomicInteger();
+        searchExecutor = Executors.newFixedThreadPool(searchThreads, runnable -> Thread.ofPlatform()
+                .name("server-search-" + searchThreadCount.incrementAndGet()).daemon().unstarted(runnable));
+        searchPool = new ConcurrentLinkedQueue<>();
+        runningSearches = ConcurrentHashMap.newKeySet();
+        gamePool = new ConcurrentLinkedQueue<>();
+        games = new ConcurrentHashMap<>();
+        nextGameId = new AtomicLong(1);
+        pooledGames = new AtomicInteger();
+        openGames = new AtomicInteger();
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/games", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stops accepting requests, stops running searches after at most the given delay and closes the server.
+     *
+     * <p>
+     * Searches do not react to interrupts, so the searches still running after the delay are stopped through their
+     * stop flag. Queued searches are cancelled, and their requests are answered with status 503.
+     * </p>
+     *
+     * @param delaySeconds The time given to running requests to complete.
+     */
+    public void stop(int delaySeconds) {
+        httpServer.stop(delaySeconds);
+        stopping = true;
+        runningSearches.forEach(Search::stop);
+        for (Runnable queued : searchExecutor.shutdownNow()) {
+            ((Future<?>) queued).cancel(false);
+        }
+        executor.shutdownNow();
+        searchExecutor.close();
+        executor.close();
+    }
+
+    /**
+     * Retrieves the port the server listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Handles a request to the games resource and sends the response.
+     *
+     * @param exchange The request and response.
+     * @throws IOException if the response cannot be sent.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        int status;
+        String body;
+        try {
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            // The path is split into "", "games", the id and the sub-resource
+            if (path.length == 2 && method.equals("POST")) {
+                status = 201;
+                body = Long.toString(newGame(readBody(exchange)));
+            } else if (path.length >= 3) {
+                long id = parseId(path[2]);
+                String resource = path.length == 4 ? path[3] : "";
+                status = 200;
+                body = switch (method + " " + resource) {
+                    case "POST moves" -> applyMove(id, readBody(exchange));
+                    case "GET bestmove" -> bestMove(id, parseLimits(exchange.getRequestURI()));
+                    case "GET fen" -> withGame(id, board -> board.toFen());
+                    case "DELETE " -> {
+                        endGame(id);
+                        yield "";
+                    }
+                    default -> throw new RequestException(404, "Unknown resource: " + method + " " + exchange.getRequestURI());
+                };
+            } else {
+                throw new RequestException(404, "Unknown resource: " + method + " " + exchange.getRequestURI());
+            }
+        } catch (RequestException e) {
+            status = e.status;
+            body = e.getMessage();
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = 503;
+            body = "Server stopping";
+        } catch (RuntimeException e) {
+            status = 500;
+            body = "Internal error: " + e;
+        }
+
+        byte[] bytes = (body + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Starts a new game, reusing a pooled game if possible. The slot of the game is reserved first and released again
+     * if the game cannot be started, so concurrent requests never open more than the maximum number of games.
+     *
+     * @param fen The FEN of the start position, empty for the standard start position.
+     * @return The id of the game.
+     * @throws RequestException if the maximum number of games is open.
+     */
+    private long newGame(String fen) {
+        if (openGames.incrementAndGet() > maxGames) {
+            openGames.decrementAndGet();
+            throw new RequestException(503, "Too many open games: " + maxGames);
+        }
+        Game game = gamePool.poll();
+        if (game == null) {
+            game = new Game();
+        } else {
+            pooledGames.decrementAndGet();
+        }
+
+        game.lock.lock();
+        try {
+            try {
+                game.board.loadFen(fen.isBlank() ? Board.START_FEN : fen);
+            } catch (IllegalArgumentException e) {
+                releaseGame(game);
+                openGames.decrementAndGet();
+                throw e;
+            }
+            game.id = nextGameId.getAndIncrement();
+            games.put(game.id, game);
+            return game.id;
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a move to a game.
+     *
+     * @param id   The id of the game.
+     * @param move The move in long algebraic notation, e.g. {@code e2e4} or {@code e7e8q}.
+     * @return The FEN of the position after the move.
+     * @throws IllegalArgumentException if the move is not legal.
+     */
+    private String applyMove(long id, String move) {
+        String notation = move.trim();
+        return withGame(id, board -> {
+            int[] moves = new int[MoveGenerator.MAX_MOVES];
+            int count = MoveGenerator.generateLegalMoves(board, moves);
+            for (int i = 0; i < count; i++) {
+                if (PackedMove.toString(moves[i]).equals(notation)) {
+                    board.makeMove(moves[i]);
+                    return board.toFen();
+                }
+            }
+            throw new IllegalArgumentException("Illegal move: " + notation);
+        });
+    }
+
+    /**
+     * Searches the best move of a game within the global search budget.
+     *
+     * <p>
+     * The board is copied while holding the lock of the game, so other requests to the game are not blocked by the
+     * search. The search runs on the search pool, the time it waits in the queue does not count towards the time
+     * limit.
+     * </p>
+     *
+     * @param id     The id of the game.
+     * @param limits The limits of the search.
+     * @return The best move, its score, the reached depth and the searched nodes.
+     * @throws InterruptedException if the server is stopped before the search finished.
+     */
+    private String bestMove(long id, SearchLimits limits) throws InterruptedException {
+        Board board = withGame(id, Board::copy);
+        Future<String> task;
+        try {
+            task = searchExecutor.submit(() -> runSearch(board, limits));
+        } catch (RejectedExecutionException e) {
+            throw new InterruptedException("Server stopping");
+        }
+        try {
+            return task.get();
+        } catch (CancellationException e) {
+            throw new InterruptedException("Server stopping");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                throw new InterruptedException("Server stopping");
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs a search on a thread of the search pool with a pooled {@link Search}.
+     *
+     * @param board  The board of the position, which is owned by the search.
+     * @param limits The limits of the search.
+     * @return The best move, its score, the reached depth and the searched nodes.
+     * @throws InterruptedException if the server is stopping.
+     */
+    private String runSearch(Board board, SearchLimits limits) throws InterruptedException {
+        Search search = searchPool.poll();
+        if (search == null) {
+            search = new Search(transpositionTable);
+            search.setAgePerSearch(false);
+        }
+        runningSearches.add(search);
+        search.prepareRun();
+        try {
+            // Checked after registering, so a stopping server either sees the search or the search sees the flag
+            if (stopping) {
+                throw new InterruptedException("Server stopping");
+            }
+            transpositionTable.incrementAge();
+            SearchResult result = search.search(board, limits);
+            return "bestmove " + PackedMove.toString(result.bestMove()) + " score " + result.score()
+                    + " depth " + result.depth() + " nodes " + result.metrics().nodes();
+        } finally {
+            runningSearches.remove(search);
+            searchPool.offer(search);
+        }
+    }
+
+    /**
+     * Ends a game and returns its state to the pool.
+     *
+     * @param id The id of the game.
+     * @throws RequestException if the game does not exist.
+     */
+    private void endGame(long id) {
+        Game game = games.remove(id);
+        if (game == null) {
+            throw new RequestException(404, "Unknown game: " + id);
+        }
+        openGames.decrementAndGet();
+        game.lock.lock();
+        try {
+            releaseGame(game);
+        } finally {
+            game.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a game to the pool unless the pool is full. Called while holding the lock of the game.
+     *
+     * @param game The game, which must not be in the map of open games.
+     */
+    private void releaseGame(Game game) {
+        game.id = 0;
+        if (pooledGames.incrementAndGet() <= MAX_POOLED_GAMES) {
+            gamePool.offer(game);
+        } else {
+            pooledGames.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs an action on the board of a game while holding the lock of the game.
+     *
+     * @param id     The id of the game.
+     * @param action The action.
+     * @param <T>    The type of the result of the action.
+     * @return The result of the action.
+     * @throws RequestException if the game does not exist.
+     */
+    private <T> T withGame(long id, Function<Board, T> action) {
+        Game game = games.get(id);
+        if (game != null) {
+            game.lock.lock();
+            try {
+                // The game may have been ended and reused for another game after it was looked up
+                if (game.id == id) {
+                    return action.apply(game.board);
+                }
+            } finally {
+                game.lock.unlock();
+            }
+        }
+        throw new RequestException(404, "Unknown game: " + id);
+    }
+
+    /**
+     * Parses the id of a game.
+     *
+     * @param id The id in the path.
+     * @return The id.
+     * @throws RequestException if the id is not a number.
+     */
+    private static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new RequestException(404, "Unknown game: " + id);
+        }
+    }
+
+    /**
+     * Parses the search limits of the query, {@code depth} in plies and {@code movetime} in milliseconds.
+     * Without limits the search runs for {@link #DEFAULT_MOVE_TIME_MILLIS}, the time is capped to
+     * {@link #MAX_MOVE_TIME_MILLIS}.
+     *
+     * @param uri The URI of the request.
+     * @return The search limits.
+     * @throws IllegalArgumentException if a limit is malformed.
+     */
+    private static SearchLimits parseLimits(URI uri) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int separator = parameter.indexOf('=');
+                if (separator > 0) {
+                    parameters.put(parameter.substring(0, separator), parameter.substring(separator + 1));
+                }
+            }
+        }
+        try {
+            int depth = Integer.parseInt(parameters.getOrDefault("depth", "0"));
+            long moveTime = Long.parseLong(parameters.getOrDefault("movetime", "0"));
+            if (depth < 0 || depth >= Search.MAX_PLY || moveTime < 0) {
+                throw new IllegalArgumentException("Illegal limits: " + query);
+            }
+            if (depth == 0 && moveTime == 0) {
+                moveTime = DEFAULT_MOVE_TIME_MILLIS;
+            }
+            return new SearchLimits(depth, moveTime == 0 ? MAX_MOVE_TIME_MILLIS : Math.min(moveTime, MAX_MOVE_TIME_MILLIS), 0);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Illegal limits: " + query, e);
+        }
+    }
+
+    /**
+     * Reads the body of a request.
+     *
+     * @param exchange The request.
+     * @return The body as text.
+     * @throws IOException if the body cannot be read.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The {@code Game} class holds the pooled state of one game.
+     * The id is {@code 0} while the game is in the pool.
+     */
+    private static class Game {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Board board = new Board();
+        private long id;
+    }
+
+    /**
+     * The {@code RequestException} class signals a request which cannot be served, with the status to answer.
+     */
+    private static class RequestException extends RuntimeException {
+        private final int status;
+
+        /**
+         * Constructs a {@code RequestException}.
+         *
+         * @param status  The HTTP status of the response.
+         * @param message The message sent as body of the response.
+         */
+        RequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package chessengine;
+
+/**
+ * Utility class providing the static evaluation of a {@link Board} position.
+ *
+ * <p>
+ * The evaluation sums material and piece-square values for the middlegame and the endgame separately and blends both
+ * scores by the game phase, which is derived from the remaining knights, bishops, rooks and queens.
+ * </p>
+ *
+ * <p>
+ * Everything which depends on the material only, i.e. the material values, the bishop pair bonus and the game phase,
+ * is cached in a {@link MaterialTable} shared by all threads. The table also recognises endgames which the generic
+ * evaluation misjudges: king, bishop and knight against king gets a bonus for driving the bare king into a corner of
+ * the colour of the bishop, bishops of opposite colours halve the score, and rook pawns with a bishop of the wrong
+ * colour are a draw once the defending king holds the promotion square.
+ * </p>
+ *
+ * <p>
+ * The piece-square tables are written from white's perspective with a8 in the top left corner, like the board is
+ * shown by the {@link GUI}. Black pieces look up the vertically mirrored square.
+ * </p>
+ *
+ * <p>
+ * The material values and piece-square tables can be replaced as one parameter vector, e.g. by the values of the
+ * {@link EvaluationTuner}. The vector holds the middlegame values, the endgame values, the six middlegame tables and
+ * the six endgame tables, each in the order pawn, knight, bishop, rook, queen and king.
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Evaluation {
+    public static final int[] MIDDLEGAME_VALUES = {82, 337, 365, 477, 1025, 0};
+    public static final int[] ENDGAME_VALUES = {94, 281, 297, 512, 936, 0};
+    public static final int[] PHASE_WEIGHTS = {0, 1, 1, 2, 4, 0};
+    public static final int MAX_PHASE = 24;
+
+    // Layout of the parameter vector
+    public static final int PARAMETER_COUNT = 2 * (6 + 6 * 64);
+    static final int ENDGAME_VALUES_OFFSET = 6;
+    static final int MIDDLEGAME_TABLES_OFFSET = 12;
+    static final int ENDGAME_TABLES_OFFSET = MIDDLEGAME_TABLES_OFFSET + 6 * 64;
+
+    // Specialised endgames, scale factors are in 64ths of the score
+    private static final int NORMAL_SCALE = 64;
+    private static final int OPPOSITE_BISHOPS_SCALE = 32;
+    private static final int KBNK_CORNER_BONUS = 40;
+    private static final int KBNK_KING_BONUS = 10;
+
+    private static final MaterialTable MATERIAL_TABLE = new MaterialTable(MaterialTable.DEFAULT_ENTRIES);
+
+    private static final int[][] MIDDLEGAME_TABLES = {
+            // Pawn
+            {
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    98, 134, 61, 95, 68, 126, 34, -11,
+                    -6, 7, 26, 31, 65, 56, 25, -20,
+                    -14, 13, 6, 21, 23, 12, 17, -23,
+                    -27, -2, -5, 12, 17, 6, 10, -25,
+                    -26, -4, -4, -10, 3, 3, 33, -12,
+                    -35, -1, -20, -23, -15, 24, 38, -22,
+                    0, 0, 0, 0, 0, 0, 0, 0
+            },
+            // Knight
+            {
+                    -167, -89, -34, -49, 61, -97, -15, -107,
+                    -73, -41, 72, 36, 23, 62, 7, -17,
+                    -47, 60, 37, 65, 84, 129, 73, 44,
+                    -9, 17, 19, 53, 37, 69, 18, 22,
+                    -13, 4, 16, 13, 28, 19, 21, -8,
+                    -23, -9, 12, 10, 19, 17, 25, -16,
+                    -29, -53, -12, -3, -1, 18, -14, -19,
+                    -105, -21, -58, -33, -17, -28, -19, -23
+            },
+            // Bishop
+            {
+                    -29, 4, -82, -37, -25, -42, 7, -8,
+                    -26, 16, -18, -13, 30, 59, 18, -47,
+                    -16, 37, 43, 40, 35, 50, 37, -2,
+                    -4, 5, 19, 50, 37, 37, 7, -2,
+                    -6, 13, 13, 26, 34, 12, 10, 4,
+                    0, 15, 15, 15, 14, 27, 18, 10,
+                    4, 15, 16, 0, 7, 21, 33, 1,
+                    -33, -3, -14, -21, -13, -12, -39, -21
+            },
+            // Rook
+            {
+                    32, 42, 32, 51, 63, 9, 31, 43,
+                    27, 32, 58, 62, 80, 67, 26, 44,
+                    -5, 19, 26, 36, 17, 45, 61, 16,
+                    -24, -11, 7, 26, 24, 35, -8, -20,
+                    -36, -26, -12, -1, 9, -7, 6, -23,
+                    -45, -25, -16, -17, 3, 0, -5, -33,
+                    -44, -16, -20, -9, -1, 11, -6, -71,
+                    -19, -13, 1, 17, 16, 7, -37, -26
+            },
+            // Queen
+            {
+                    -28, 0, 29, 12, 59, 44, 43, 45,
+                    -24, -39, -5, 1, -16, 57, 28, 54,
+                    -13, -17, 7, 8, 29, 56, 47, 57,
+                    -27, -27, -16, -16, -1, 17, -2, 1,
+                    -9, -26, -9, -10, -2, -4, 3, -3,
+                    -14, 2, -11, -2, -5, 2, 14, 5,
+                    -35, -8, 11, 2, 8, 15, -3, 1,
+                    -1, -18, -9, 10, -15, -25, -31, -50
+            },
+            // King
+            {
+                    -65, 23, 16, -15, -56, -34, 2, 13,
+                    29, -1, -20, -7, -8, -4, -38, -29,
+                    -9, 24, 2, -16, -20, 6, 22, -22,
+                    -17, -20, -12, -27, -30, -25, -14, -36,
+                    -49, -1, -27, -39, -46, -44, -33, -51,
+                    -14, -14, -22, -46, -44, -30, -15, -27,
+                    1, 7, -8, -64, -43, -16, 9, 8,
+                    -15, 36, 12, -54, 8, -28, 24, 14
+            }
+    };
+
+    private static final int[][] ENDGAME_TABLES = {
+            // Pawn
+            {
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    178, 173, 158, 134, 147, 132, 165, 187,
+                    94, 100, 85, 67, 56, 53, 82, 84,
+                    32, 24, 13, 5, -2, 4, 17, 17,
+                    13, 9, -3, -7, -7, -8, 3, -1,
+                    4, 7, -6, 1, 0, -5, -1, -8,
+                    13, 8, 8, 10, 13, 0, 2, -7,
+                    0, 0, 0, 0, 0, 0, 0, 0
+            },
+            // Knight
+            {
+                    -58, -38, -13, -28, -31, -27, -63, -99,
+                    -25, -8, -25, -2, -9, -25, -24, -52,
+                    -24, -20, 10, 9, -1, -9, -19, -41,
+                    -17, 3, 22, 22, 22, 11, 8, -18,
+                    -18, -6, 16, 25, 16, 17, 4, -18,
+                    -23, -3, -1, 15, 10, -3, -20, -22,
+                    -42, -20, -10, -5, -2, -20, -23, -44,
+                    -29, -51, -23, -15, -22, -18, -50, -64
+            },
+            // Bishop
+            {
+                    -14, -21, -11, -8, -7, -9, -17, -24,
+                    -8, -4, 7, -12, -3, -13, -4, -14,
+                    2, -8, 0, -1, -2, 6, 0, 4,
+                    -3, 9, 12, 9, 14, 10, 3, 2,
+                    -6, 3, 13, 19, 7, 10, -3, -9,
+                    -12, -3, 8, 10, 13, 3, -7, -15,
+                    -14, -18, -7, -1, 4, -9, -15, -27,
+                    -23, -9, -23, -5, -9, -16, -5, -17
+            },
+            // Rook
+            {
+                    13, 10, 18, 15, 12, 12, 8, 5,
+                    11, 13, 13, 11, -3, 3, 8, 3,
+                    7, 7, 7, 5, 4, -3, -5, -3,
+                    4, 3, 13, 1, 2, 1, -1, 2,
+                    3, 5, 8, 4, -5, -6, -8, -11,
+                    -4, 0, -5, -1, -7, -12, -8, -16,
+                    -6, -6, 0, 2, -9, -9, -11, -3,
+                    -9, 2, 3, -1, -5, -13, 4, -20
+            },
+            // Queen
+            {
+                    -9, 22, 22, 27, 27, 19, 10, 20,
+                    -17, 20, 32, 41, 58, 25, 30, 0,
+                    -20, 6, 9, 49, 47, 35, 19, 9,
+                    3, 22, 24, 45, 57, 40, 57, 36,
+                    -18, 28, 19, 47, 31, 34, 39, 23,
+                    -16, -27, 15, 6, 9, 17, 10, 5,
+                    -22, -23, -30, -16, -16, -23, -36, -32,
+                    -33, -28, -22, -43, -5, -32, -20, -41
+            },
+            // King
+            {
+                    -74, -35, -18, -18, -11, 15, 4, -17,
+                    -12, 17, 14, 17, 17, 38, 23, 11,
+                    10, 17, 23, 15, 20, 45, 44, 13,
+                    -8, 22, 24, 27, 26, 33, 26, 3,
+                    -18, -4, 21, 24, 27, 23, 9, -11,
+                    -19, -3, 11, 21, 23, 16, 7, -9,
+                    -27, -11, 4, 13, 14, 4, -5, -17,
+                    -53, -34, -21, -11, -28, -14, -24, -43
+            }
+    };
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private Evaluation() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Evaluates the position from the perspective of the side to move.
+     *
+     * @param board The board to evaluate.
+     * @return The score in centipawns, positive if the side to move is better.
+     */
+    public static int evaluate(Board board) {
+        int score = evaluateWhite(board);
+        return board.isWhiteToMove() ? score : -score;
+    }
+
+    /**
+     * Evaluates the position from the perspective of white.
+     *
+     * @param board The board to evaluate.
+     * @return The score in centipawns, positive if white is better.
+     */
+    public static int evaluateWhite(Board board) {
+        // The material, the imbalance and the phase come from the material table
+        long material = MATERIAL_TABLE.probe(MaterialTable.computeKey(board));
+        int middlegame = MaterialTable.getMiddlegame(material);
+        int endgame = MaterialTable.getEndgame(material);
+        int phase = MaterialTable.getPhase(material);
+
+        for (int piece = 0; piece < 12; piece++) {
+            int type = piece % 6;
+            boolean white = piece < 6;
+            long bitboard = board.getBitboard(piece);
+            while (bitboard != 0) {
+                int square = Long.numberOfTrailingZeros(bitboard);
+                bitboard &= bitboard - 1;
+
+                int index = tableIndex(white, square);
+                int sign = white ? 1 : -1;
+                middlegame += sign * MIDDLEGAME_TABLES[type][index];
+                endgame += sign * ENDGAME_TABLES[type][index];
+            }
+        }
+
+        int score = (middlegame * phase + endgame * (MAX_PHASE - phase)) / MAX_PHASE;
+        boolean strongWhite = MaterialTable.isStrongSideWhite(material);
+        return switch (MaterialTable.getEndgameType(material)) {
+            case GENERIC -> score;
+            case KBNK -> score + (strongWhite ? 1 : -1) * evaluateKbnk(board, strongWhite);
+            case OPPOSITE_BISHOPS -> hasOppositeBishops(board) ? score * OPPOSITE_BISHOPS_SCALE / NORMAL_SCALE : score;
+            case WRONG_BISHOP -> isWrongBishopDraw(board, strongWhite) ? 0 : score;
+        };
+    }
+
+    /**
+     * Evaluates king, bishop and knight against king. The bare king can only be mated in a corner of the colour of
+     * the bishop, so the stronger side is rewarded for driving it there with its own king close by.
+     *
+     * @param board       The board to evaluate.
+     * @param strongWhite {@code true} if white has the bishop and the knight.
+     * @return The bonus for the stronger side in centipawns.
+     */
+    private static int evaluateKbnk(Board board, boolean strongWhite) {
+        int strong = strongWhite ? 0 : 6;
+        int weak = 6 - strong;
+        int bishop = BitHelper.lowestBit(board.getBitboard(strong + Board.BISHOP));
+        int strongKing = BitHelper.lowestBit(board.getBitboard(strong + Board.KING));
+        int weakKing = BitHelper.lowestBit(board.getBitboard(weak + Board.KING));
+
+        // The dark corners are a1 and h8, the light corners h1 and a8
+        boolean dark = Attacks.isDarkSquare(bishop);
+        int cornerDistance = Math.min(Attacks.distance(weakKing, Attacks.squareOf(dark ? 0 : 7, 0)),
+                Attacks.distance(weakKing, Attacks.squareOf(dark ? 7 : 0, 7)));
+        return KBNK_CORNER_BONUS * (7 - cornerDistance) + KBNK_KING_BONUS * (7 - Attacks.distance(strongKing, weakKing));
+    }
+
+    /**
+     * Checks if the single bishops of both sides move on squares of different colours.
+     *
+     * @param board The board to evaluate.
+     * @return {@code true} if the bishops have opposite colours; {@code false} otherwise.
+     */
+    private static boolean hasOppositeBishops(Board board) {
+        int whiteBishop = BitHelper.lowestBit(board.getBitboard(Board.BISHOP));
+        int blackBishop = BitHelper.lowestBit(board.getBitboard(6 + Board.BISHOP));
+        return Attacks.isDarkSquare(whiteBishop) != Attacks.isDarkSquare(blackBishop);
+    }
+
+    /**
+     * Checks if king, bishop and pawns against king is a draw because all pawns are on one rook file, the bishop does
+     * not control the promotion square and the defending king already holds it.
+     *
+     * @param board       The board to evaluate.
+     * @param strongWhite {@code true} if white has the bishop and the pawns.
+     * @return {@code true} if the position is a draw; {@code false} otherwise.
+     */
+    private static boolean isWrongBishopDraw(Board board, boolean strongWhite) {
+        int strong = strongWhite ? 0 : 6;
+        long pawns = board.getBitboard(strong + Board.PAWN);
+        int bishop = BitHelper.lowestBit(board.getBitboard(strong + Board.BISHOP));
+        int weakKing = BitHelper.lowestBit(board.getBitboard(6 - strong + Board.KING));
+        for (int file = 0; file < 8; file += 7) {
+            if ((pawns & ~BitHelper.fileMask(file)) == 0) {
+                int promotionSquare = Attacks.squareOf(file, strongWhite ? 7 : 0);
+                return Attacks.isDarkSquare(promotionSquare) != Attacks.isDarkSquare(bishop)
+                        && Attacks.distance(weakKing, promotionSquare) <= 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the index of a square in the piece-square tables.
+     *
+     * @param white  {@code true} for a white piece, {@code false} for a black piece.
+     * @param square The bitboard position (0 to 63) of the square.
+     * @return The table index, counting from a8 for white and from a1 for black.
+     */
+    static int tableIndex(boolean white, int square) {
+        return 63 - (white ? square : BitHelper.flipSquare(square));
+    }
+
+    /**
+     * Retrieves the material values and piece-square tables as one parameter vector.
+     *
+     * @return A new array of {@link #PARAMETER_COUNT} values.
+     */
+    public static int[] getParameters() {
+        int[] parameters = new int[PARAMETER_COUNT];
+        System.arraycopy(MIDDLEGAME_VALUES, 0, parameters, 0, 6);
+        System.arraycopy(ENDGAME_VALUES, 0, parameters, ENDGAME_VALUES_OFFSET, 6);
+        for (int type = 0; type < 6; type++) {
+            System.arraycopy(MIDDLEGAME_TABLES[type], 0, parameters, MIDDLEGAME_TABLES_OFFSET + type * 64, 64);
+            System.arraycopy(ENDGAME_TABLES[type], 0, parameters, ENDGAME_TABLES_OFFSET + type * 64, 64);
+        }
+        return parameters;
+    }
+
+    /**
+     * Replaces the material values and piece-square tables by a parameter vector.
+     *
+     * <p>
+     * The values are copied into the tables in place, so this should be called before any search is started.
+     * </p>
+     *
+     * @param parameters The {@link #PARAMETER_COUNT} values in the layout of {@link #getParameters()}.
+     * @throws IllegalArgumentException if the number of values is wrong.
+     */
+    public static void setParameters(int[] parameters) {
+        if (parameters.length != PARAMETER_COUNT) {
+            throw new IllegalArgumentException("Expected " + PARAMETER_COUNT + " parameters: " + parameters.length);
+        }
+        System.arraycopy(parameters, 0, MIDDLEGAME_VALUES, 0, 6);
+        System.arraycopy(parameters, ENDGAME_VALUES_OFFSET, ENDGAME_VALUES, 0, 6);
+        for (int type = 0; type < 6; type++) {
+            System.arraycopy(parameters, MIDDLEGAME_TABLES_OFFSET + type * 64, MIDDLEGAME_TABLES[type], 0, 64);
+            System.arraycopy(parameters, ENDGAME_TABLES_OFFSET + type * 64, ENDGAME_TABLES[type], 0, 64);
+        }
+        // The cached material scores depend on the material values
+        MATERIAL_TABLE.clear();
+    }
+}
@@ -0,0 +1,463 @@
+package chessengine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code EvaluationTuner} class tunes the parameters of the {@link Evaluation} on positions labelled with the
+ * result of their game (Texel tuning).
+ *
+ * <p>
+ * The evaluation of a position is mapped to an expected result between {@code 0} (black wins) and {@code 1} (white
+ * wins) by the sigmoid {@code 1 / (1 + 10^(-k * eval / 400))}. The tuner minimises the mean squared error between
+ * expected and actual results. The scaling constant {@code k} is fitted to the initial parameters first, then the
+ * parameters are tuned by full batch gradient descent with Adam step sizes.
+ * </p>
+ *
+ * <p>
+ * The tuned part of the evaluation is linear in its parameters, so a position is stored as its phase, its result, its
+ * bishop pair balance and one feature per piece, which is the piece type, the table index and the colour packed into a
+ * {@code short}. All positions are kept in a few primitive arrays instead of one object per position, so millions of
+ * positions take a few dozen bytes each and are scanned sequentially. The gradient is computed in parallel: every
+ * worker sums the gradient of a contiguous slice of the positions into its own array, which are added up afterwards.
+ * </p>
+ *
+ * <p>
+ * The bishop pair bonus of the {@link MaterialTable} is not tuned but added as a fixed term, so the material values do
+ * not absorb it. The special endgames of the {@link MaterialTable}, e.g. the scaling of opposite-coloured bishops, are
+ * not modelled, such positions are evaluated as if no endgame rule applied.
+ * </p>
+ *
+ * <p>
+ * Every input line holds a position in Forsyth-Edwards Notation or an EPD record followed by the result, e.g.
+ * {@code 1-0}, {@code 1/2-1/2}, {@code 0.5} or {@code c9 "0-1";}, optionally in brackets or quotes. The tuned
+ * parameters are written as a text file, which is read by {@link #readParameters(Path)}.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class EvaluationTuner {
+    public static final int DEFAULT_EPOCHS = 100;
+
+    private static final double LEARNING_RATE = 1.0;
+    private static final double BETA1 = 0.9;
+    private static final double BETA2 = 0.999;
+    private static final double EPSILON = 1e-8;
+
+    // Feature packing: bits 0 to 8 hold the piece type times 64 plus the table index, bit 9 is set for black
+    private static final int BLACK_FEATURE = 1 << 9;
+    private static final int INDEX_MASK = BLACK_FEATURE - 1;
+
+    private static final String[] TYPE_NAMES = {"pawn", "knight", "bishop", "rook", "queen", "king"};
+
+    private final int threadCount;
+
+    // Positions in primitive arrays, the features of position i are features[offsets[i]] to features[offsets[i + 1] - 1]
+    private int positionCount;
+    private int[] offsets;
+    private short[] features;
+    private byte[] phases;
+    private byte[] results;
+    private byte[] bishopPairs;
+
+    private double k;
+
+    /**
+     * Constructs an {@code EvaluationTuner} without positions.
+     *
+     * @param threadCount The number of threads computing the gradient.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public EvaluationTuner(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+        }
+        this.threadCount = threadCount;
+        offsets = new int[1024];
+        features = new short[32 * 1024];
+        phases = new byte[1024];
+        results = new byte[1024];
+        bishopPairs = new byte[1024];
+    }
+
+    /**
+     * Loads labelled positions, one per line. Empty lines and lines starting with {@code #} are skipped.
+     *
+     * @param input The input of labelled positions.
+     * @return The number of loaded positions.
+     * @throws IOException              if the input cannot be read.
+     * @throws IllegalArgumentException if a line holds no valid position or result, with its line number.
+     */
+    public int load(BufferedReader input) throws IOException {
+        Board board = new Board();
+        int loaded = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                int separator = line.lastIndexOf(' ');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Missing result");
+                }
+                int halfPoints = parseResult(line.substring(separator + 1));
+                board.loadFen(line.substring(0, separator));
+                addPosition(board, halfPoints);
+                loaded++;
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Parses the result of a game.
+     *
+     * @param token The result, optionally surrounded by brackets, quotes or a semicolon.
+     * @return The result in half points for white: {@code 0}, {@code 1} or {@code 2}.
+     * @throws IllegalArgumentException if the result is unknown.
+     */
+    private static int parseResult(String token) {
+        String result = token.replaceAll("[\\[\\]\";]", "");
+        return switch (result) {
+            case "1-0", "1.0", "1" -> 2;
+            case "1/2-1/2", "0.5" -> 1;
+            case "0-1", "0.0", "0" -> 0;
+            default -> throw new IllegalArgumentException("Illegal result: " + token);
+        };
+    }
+
+    /**
+     * Appends the features of a position to the arrays, growing them when full.
+     *
+     * @param board      The board of the position.
+     * @param halfPoints The result in half points for white.
+     */
+    private void addPosition(Board board, int halfPoints) {
+        if (positionCount + 1 >= offsets.length) {
+            int capacity = offsets.length * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            phases = Arrays.copyOf(phases, capacity);
+            results = Arrays.copyOf(results, capacity);
+            bishopPairs = Arrays.copyOf(bishopPairs, capacity);
+        }
+        int end = offsets[positionCount];
+        if (end + 64 > features.length) {
+            features = Arrays.copyOf(features, features.length * 2);
+        }
+
+        int phase = 0;
+        for (int piece = 0; piece < 12; piece++) {
+            int type = piece % 6;
+            boolean white = piece < 6;
+            for (long bits = board.getBitboard(piece); bits != 0; bits = BitHelper.clearLowestBit(bits)) {
+                int index = type * 64 + Evaluation.tableIndex(white, BitHelper.lowestBit(bits));
+                features[end++] = (short) (white ? index : index | BLACK_FEATURE);
+                phase += Evaluation.PHASE_WEIGHTS[type];
+            }
+        }
+        phases[positionCount] = (byte) Math.min(phase, Evaluation.MAX_PHASE);
+        results[positionCount] = (byte) halfPoints;
+        // 1 if only white has the bishop pair, -1 if only black has it
+        int whitePair = BitHelper.countBits(board.getBitboard(Board.BISHOP)) >= 2 ? 1 : 0;
+        int blackPair = BitHelper.countBits(board.getBitboard(6 + Board.BISHOP)) >= 2 ? 1 : 0;
+        bishopPairs[positionCount] = (byte) (whitePair - blackPair);
+        offsets[++positionCount] = end;
+    }
+
+    /**
+     * Retrieves the number of loaded positions.
+     *
+     * @return The number of positions.
+     */
+    public int getPositionCount() {
+        return positionCount;
+    }
+
+    /**
+     * Shrinks the arrays to the loaded positions and computes the memory they take.
+     *
+     * @return The number of bytes per position, including the feature and offset arrays.
+     */
+    public double trimToSize() {
+        offsets = Arrays.copyOf(offsets, positionCount + 1);
+        features = Arrays.copyOf(features, offsets[positionCount]);
+        phases = Arrays.copyOf(phases, positionCount);
+        results = Arrays.copyOf(results, positionCount);
+        bishopPairs = Arrays.copyOf(bishopPairs, positionCount);
+        long bytes = 4L * offsets.length + 2L * features.length + phases.length + results.length + bishopPairs.length;
+        return positionCount == 0 ? 0 : (double) bytes / positionCount;
+    }
+
+    /**
+     * Tunes the parameters, starting from the current parameters of the {@link Evaluation}, and prints the error and
+     * the duration of every epoch.
+     *
+     * @param epochs The number of gradient descent steps.
+     * @return The tuned parameters, rounded to centipawns.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public int[] tune(int epochs) throws InterruptedException {
+        if (positionCount == 0) {
+            throw new IllegalStateException("No positions loaded");
+        }
+        double[] parameters = Arrays.stream(Evaluation.getParameters()).asDoubleStream().toArray();
+        double[] moment = new double[parameters.length];
+        double[] velocity = new double[parameters.length];
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            k = fitScalingConstant(executor, parameters);
+            System.out.printf("%,d positions, k %.3f, initial error %.6f%n", positionCount, k,
+                    computeGradient(executor, parameters, null));
+
+            long totalNanos = 0;
+            double[] gradient = new double[parameters.length];
+            for (int epoch = 1; epoch <= epochs; epoch++) {
+                long startNanos = System.nanoTime();
+                Arrays.fill(gradient, 0);
+                double error = computeGradient(executor, parameters, gradient);
+                for (int i = 0; i < parameters.length; i++) {
+                    moment[i] = BETA1 * moment[i] + (1 - BETA1) * gradient[i];
+                    velocity[i] = BETA2 * velocity[i] + (1 - BETA2) * gradient[i] * gradient[i];
+                    double correctedMoment = moment[i] / (1 - Math.pow(BETA1, epoch));
+                    double correctedVelocity = velocity[i] / (1 - Math.pow(BETA2, epoch));
+                    parameters[i] -= LEARNING_RATE * correctedMoment / (Math.sqrt(correctedVelocity) + EPSILON);
+                }
+                long nanos = System.nanoTime() - startNanos;
+                totalNanos += nanos;
+                System.out.printf("Epoch %d: error %.6f, %.1f ms%n", epoch, error, nanos / 1e6);
+            }
+            System.out.printf("Final error %.6f, %.1f ms per epoch with %d threads%n",
+                    computeGradient(executor, parameters, null), totalNanos / 1e6 / epochs, threadCount);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int[] tuned = new int[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            tuned[i] = (int) Math.round(parameters[i]);
+        }
+        return tuned;
+    }
+
+    /**
+     * Fits the scaling constant of the sigmoid to the parameters by a ternary search over the error.
+     *
+     * @param executor   The executor of the workers.
+     * @param parameters The parameters of the evaluation.
+     * @return The scaling constant with the smallest error.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    private double fitScalingConstant(ExecutorService executor, double[] parameters) throws InterruptedException {
+        double low = 0.1;
+        double high = 3.0;
+        while (high - low > 0.001) {
+            double first = low + (high - low) / 3;
+            double second = high - (high - low) / 3;
+            k = first;
+            double firstError = computeGradient(executor, parameters, null);
+            k = second;
+            double secondError = computeGradient(executor, parameters, null);
+            if (firstError < secondError) {
+                high = second;
+            } else {
+                low = first;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    /**
+     * Computes the mean squared error and optionally its gradient, split into one slice of positions per thread.
+     *
+     * @param executor   The executor of the workers.
+     * @param parameters The parameters of the evaluation.
+     * @param gradient   The array receiving the gradient, {@code null} to compute the error only.
+     * @return The mean squared error.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    private double computeGradient(ExecutorService executor, double[] parameters, double[] gradient)
+            throws InterruptedException {
+        List<Future<Double>> workers = new ArrayList<>(threadCount);
+        double[][] partialGradients = new double[threadCount][];
+        for (int i = 0; i < threadCount; i++) {
+            int worker = i;
+            int from = (int) ((long) positionCount * i / threadCount);
+            int to = (int) ((long) positionCount * (i + 1) / threadCount);
+            workers.add(executor.submit(() -> {
+                double[] partial = gradient != null ? new double[parameters.length] : null;
+                partialGradients[worker] = partial;
+                return computeSlice(parameters, partial, from, to);
+            }));
+        }
+
+        double error = 0;
+        try {
+            for (Future<Double> worker : workers) {
+                error += worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Gradient computation failed", e.getCause());
+        }
+        if (gradient != null) {
+            for (double[] partial : partialGradients) {
+                for (int i = 0; i < gradient.length; i++) {
+                    gradient[i] += partial[i] / positionCount;
+                }
+            }
+        }
+        return error / positionCount;
+    }
+
+    /**
+     * Sums the squared error and optionally the gradient of a slice of the positions.
+     *
+     * @param parameters The parameters of the evaluation.
+     * @param gradient   The array receiving the gradient of the slice, {@code null} to compute the error only.
+     * @param from       The first position of the slice.
+     * @param to         The position after the last position of the slice.
+     * @return The summed squared error of the slice.
+     */
+    private double computeSlice(double[] parameters, double[] gradient, int from, int to) {
+        double scale = k * Math.log(10) / 400;
+        double error = 0;
+        for (int position = from; position < to; position++) {
+            int start = offsets[position];
+            int end = offsets[position + 1];
+            double middlegameWeight = phases[position] / (double) Evaluation.MAX_PHASE;
+            double endgameWeight = 1 - middlegameWeight;
+
+            // The bishop pair bonus is a fixed term without parameter
+            double middlegame = bishopPairs[position] * MaterialTable.BISHOP_PAIR_MIDDLEGAME;
+            double endgame = bishopPairs[position] * MaterialTable.BISHOP_PAIR_ENDGAME;
+            for (int i = start; i < end; i++) {
+                int feature = features[i];
+                int index = feature & INDEX_MASK;
+                int type = index >>> 6;
+                double sign = (feature & BLACK_FEATURE) == 0 ? 1 : -1;
+                middlegame += sign * (parameters[type] + parameters[Evaluation.MIDDLEGAME_TABLES_OFFSET + index]);
+                endgame += sign * (parameters[Evaluation.ENDGAME_VALUES_OFFSET + type]
+                        + parameters[Evaluation.ENDGAME_TABLES_OFFSET + index]);
+            }
+            double evaluation = middlegame * middlegameWeight + endgame * endgameWeight;
+
+            double expected = 1 / (1 + Math.exp(-scale * evaluation));
+            double difference = results[position] / 2.0 - expected;
+            error += difference * difference;
+
+            if (gradient != null) {
+                // Derivative of the squared error by the evaluation, the features add it with their weight and sign
+                double slope = -2 * difference * expected * (1 - expected) * scale;
+                double middlegameSlope = slope * middlegameWeight;
+                double endgameSlope = slope * endgameWeight;
+                for (int i = start; i < end; i++) {
+                    int feature = features[i];
+                    int index = feature & INDEX_MASK;
+                    int type = index >>> 6;
+                    double sign = (feature & BLACK_FEATURE) == 0 ? 1 : -1;
+                    gradient[type] += sign * middlegameSlope;
+                    gradient[Evaluation.MIDDLEGAME_TABLES_OFFSET + index] += sign * middlegameSlope;
+                    gradient[Evaluation.ENDGAME_VALUES_OFFSET + type] += sign * endgameSlope;
+                    gradient[Evaluation.ENDGAME_TABLES_OFFSET + index] += sign * endgameSlope;
+                }
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Writes parameters as a text file with one named line per material value group and piece-square table.
+     *
+     * @param path       The path of the file.
+     * @param parameters The parameters in the layout of {@link Evaluation#getParameters()}.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeParameters(Path path, int[] parameters) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write("# Evaluation parameters, tables from white's side starting with a8");
+            writer.newLine();
+            String[] names = parameterNames();
+            int offset = 0;
+            for (String name : names) {
+                int length = name.endsWith("values") ? 6 : 64;
+                StringBuilder line = new StringBuilder(name);
+                for (int i = offset; i < offset + length; i++) {
+                    line.append(' ').append(parameters[i]);
+                }
+                writer.write(line.toString());
+                writer.newLine();
+                offset += length;
+            }
+        }
+    }
+
+    /**
+     * Reads parameters written by {@link #writeParameters(Path, int[])}.
+     *
+     * @param path The path of the file.
+     * @return The parameters in the layout of {@link Evaluation#getParameters()}.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if a line is missing or malformed.
+     */
+    public static int[] readParameters(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path).stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        String[] names = parameterNames();
+        if (lines.size() != names.length) {
+            throw new IllegalArgumentException("Expected " + names.length + " parameter lines: " + lines.size());
+        }
+        int[] parameters = new int[Evaluation.PARAMETER_COUNT];
+        int offset = 0;
+        for (int i = 0; i < names.length; i++) {
+            String[] fields = lines.get(i).split("\\s+");
+            int length = names[i].endsWith("values") ? 6 : 64;
+            if (!fields[0].equals(names[i]) || fields.length != length + 1) {
+                throw new IllegalArgumentException("Expected " + length + " values of " + names[i] + ": " + lines.get(i));
+            }
+            try {
+                for (int j = 0; j < length; j++) {
+                    parameters[offset + j] = Integer.parseInt(fields[j + 1]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Illegal value of " + names[i], e);
+            }
+            offset += length;
+        }
+        return parameters;
+    }
+
+    /**
+     * Retrieves the names of the parameter lines in the order of the parameter vector.
+     *
+     * @return The names of the value groups and tables.
+     */
+    private static String[] parameterNames() {
+        String[] names = new String[14];
+        names[0] = "middlegame-values";
+        names[1] = "endgame-values";
+        for (int type = 0; type < 6; type++) {
+            names[2 + type] = "middlegame-" + TYPE_NAMES[type];
+            names[8 + type] = "endgame-" + TYPE_NAMES[type];
+        }
+        return names;
+    }
+}
@@ -0,0 +1,405 @@
+package chessengine;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code GUI} class manages the graphical user interface for a chess game.
+ * It includes methods for initializing the frame, drawing squares, pieces, and other GUI elements.
+ * The class handles user input through a {@link MouseKeyboard} instance and updates based on the game state from {@link ChessEngine}.
+ *
+ * <p>
+ * The GUI supports both white and black perspectives and uses various images and configurations to represent the chess board and pieces.
+ * </p>
+ *
+ * <p>
+ * The whole board is painted by a single {@link BoardComponent} from a cached board image and pre-rendered piece sprites.
+ * </p>
+ *
+ * <p>
+ * Note: This class assumes specific configurations and images are available in the project's resources.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2024-06-26
+ */
+public class GUI {
+    private final ChessEngine cChessEngine;
+    private final MouseKeyboard cMouseKeyboard;
+
+    private final JFrame frame;
+    private final BoardComponent boardComponent;
+    private final DragLayer dragLayer;
+    private final AnalysisPanel analysisPanel;
+    private final BufferedImage[] pieces;
+    private final HashMap<ESquareLetterAbbreviation, BufferedImage> squareLettersMap;
+    private final HashMap<ESquareNumberAbbreviation, BufferedImage> squareNumbersMap;
+    private final HashMap<Double, ESquareDescription> squareDescriptionWhitePerspective;
+    private final HashMap<Double, ESquareDescription> squareDescriptionBlackPerspective;
+    private final long[] renderedBitboards;
+    private final EPieceAbbreviation[] squarePieces;
+    private final long startNanos;
+    private final Timer renderTimer;
+
+    private volatile boolean renderRequested;
+    private boolean perspectiveWhite;
+
+    private static final EPieceAbbreviation[] PIECE_ABBREVIATIONS = EPieceAbbreviation.values();
+
+    private static final int MINIMUM_FRAME_SIZE = 400;
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    /**
+     * Constructs a {@code GUI} object initialized with a {@code ChessEngine} and {@code MouseKeyboard} instance.
+     * Initializes GUI components and sets up the initial game state representation.
+     *
+     * @param chessEngine   the {@code ChessEngine} instance managing the game logic.
+     * @param mouseKeyboard the {@code MouseKeyboard} instance handling user input.
+     */
+    public GUI(ChessEngine chessEngine, MouseKeyboard mouseKeyboard) {
+        cChessEngine = chessEngine;
+        cMouseKeyboard = mouseKeyboard;
+        startNanos = System.nanoTime();
+
+        frame = new JFrame();
+        pieces = new BufferedImage[PIECE_ABBREVIATIONS.length];
+        squareLettersMap = new HashMap<>();
+        squareNumbersMap = new HashMap<>();
+        squareDescriptionWhitePerspective = new HashMap<>();
+        squareDescriptionBlackPerspective = new HashMap<>();
+        renderedBitboards = new long[PIECE_ABBREVIATIONS.length];
+        squarePieces = new EPieceAbbreviation[64];
+        boardComponent = new BoardComponent(squarePieces, pieces);
+        dragLayer = new DragLayer();
+        analysisPanel = new AnalysisPanel(chessEngine);
+        renderTimer = new Timer(1000 / getRefreshRate(), e -> renderIfRequested());
+        renderTimer.setCoalesce(true);
+
+        perspectiveWhite = true;
+
+        initializeGUI();
+    }
+
+    /**
+     * Initializes the GUI components, including the piece images, square descriptions, and the frame.
+     *
+     * <p>
+     * The image files are decoded concurrently on a thread pool while the frame is built and shown. The board is
+     * painted once all images are available, and the time to the first painted frame is logged.
+     * </p>
+     */
+    private void initializeGUI() {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<BufferedImage>> pieceFutures = preloadPieces(executor);
+            HashMap<ESquareLetterAbbreviation, Future<BufferedImage>> letterFutures = new HashMap<>();
+            HashMap<ESquareNumberAbbreviation, Future<BufferedImage>> numberFutures = new HashMap<>();
+            preloadSquareNames(executor, letterFutures, numberFutures);
+
+            initializeSquareDescriptions();
+            initializeFrame();
+            long frameNanos = System.nanoTime();
+
+            // Waits for the decoded images, the frame was built in the meantime
+            for (int i = 0; i < pieceFutures.size(); i++) {
+                pieces[i] = awaitImage(pieceFutures.get(i));
+            }
+            for (Map.Entry<ESquareLetterAbbreviation, Future<BufferedImage>> entry : letterFutures.entrySet()) {
+                squareLettersMap.put(entry.getKey(), awaitImage(entry.getValue()));
+            }
+            for (Map.Entry<ESquareNumberAbbreviation, Future<BufferedImage>> entry : numberFutures.entrySet()) {
+                squareNumbersMap.put(entry.getKey(), awaitImage(entry.getValue()));
+            }
+            long assetsNanos = System.nanoTime();
+
+            boardComponent.setFirstFrameListener(() -> System.out.printf(
+                    "startup frame %dms assets %dms first frame %dms (jvm uptime %dms)%n",
+                    (frameNanos - startNanos) / 1_000_000, (assetsNanos - startNanos) / 1_000_000,
+                    (System.nanoTime() - startNanos) / 1_000_000, ManagementFactory.getRuntimeMXBean().getUptime()));
+            drawSquareDescription();
+            drawPieces();
+            boardComponent.setImagesLoaded();
+            renderTimer.start();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Initializes the main frame of the GUI with specific configurations and settings.
+     * Sets up the frame's appearance, size, background, and event listeners.
+     * The board component fills the content pane besides the analysis panel and scales the board with the size of the frame.
+     * Mouse events are received by the board component, so their coordinates match the geometry of the board.
+     */
+    private void initializeFrame() {
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setIconImage(new ImageIcon(Configuration.INSTANCE.pathII).getImage());
+        frame.setMinimumSize(new Dimension(MINIMUM_FRAME_SIZE, MINIMUM_FRAME_SIZE));
+        frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        frame.getContentPane().setBackground(new Color(40, 44, 52));
+        frame.setLayout(new BorderLayout());
+        frame.add(boardComponent, BorderLayout.CENTER);
+        frame.add(analysisPanel, BorderLayout.EAST);
+        frame.setGlassPane(dragLayer);
+        dragLayer.setVisible(true);
+        boardComponent.setDragLayer(dragLayer);
+        frame.setVisible(true);
+        frame.addKeyListener(cMouseKeyboard);
+        boardComponent.addMouseListener(cMouseKeyboard);
+        boardComponent.addMouseMotionListener(cMouseKeyboard);
+    }
+
+    /**
+     * Initializes descriptions for specific squares on the chess board for both white and black perspectives.
+     * Uses {@link ESquareDescription} for mapping square numbers to descriptions.
+     */
+    private void initializeSquareDescriptions() {
+        double[] squareNumber = {7, 15, 23, 31, 39, 47, 55, 56, 57, 58, 59, 60, 61, 62, 63.0, 63.1};
+
+        // Initialize descriptions for white perspective
+        String[] squareDescription = {"L8", "D7", "L6", "D5", "L4", "D3", "L2", "LA", "DB", "LC", "DD", "LE", "DF", "LG", "DH", "D1"};
+        for (int i = 0; i < squareNumber.length; i++) {
+            double key = squareNumber[i];
+            String value = squareDescription[i];
+            squareDescriptionWhitePerspective.put(key, ESquareDescription.valueOf(value));
+        }
+
+        // Initialize descriptions for black perspective
+        squareDescription = new String[]{"L1", "D2", "L3", "D4", "L5", "D6", "L7", "LH", "DG", "LF", "DE", "LD", "DC", "LB", "DA", "D8"};
+        for (int i = 0; i < squareNumber.length; i++) {
+            double key = squareNumber[i];
+            String value = squareDescription[i];
+            squareDescriptionBlackPerspective.put(key, ESquareDescription.valueOf(value));
+        }
+    }
+
+    /**
+     * Starts decoding the source images for chess pieces based on {@link EPieceAbbreviation} values.
+     * The images are kept at their original size, the {@link BoardComponent} renders sprites at the square size from them.
+     *
+     * @param executor the executor decoding the images.
+     * @return the pending images, indexed by {@link EPieceAbbreviation} ordinal.
+     */
+    private List<Future<BufferedImage>> preloadPieces(ExecutorService executor) {
+        List<Future<BufferedImage>> futures = new ArrayList<>(PIECE_ABBREVIATIONS.length);
+        for (EPieceAbbreviation piece : PIECE_ABBREVIATIONS) {
+            String path = Configuration.INSTANCE.getImagePath(piece.toString());
+            futures.add(executor.submit(() -> readImage(path)));
+        }
+        return futures;
+    }
+
+    /**
+     * Starts decoding the images for square letters (a-h) and square numbers (1-8) based on {@link ESquareLetterAbbreviation} and {@link ESquareNumberAbbreviation} values.
+     * The images are kept at their original size and scaled once into the cached board image.
+     *
+     * @param executor      the executor decoding the images.
+     * @param letterFutures the map receiving the pending letter images.
+     * @param numberFutures the map receiving the pending number images.
+     */
+    private void preloadSquareNames(ExecutorService executor, HashMap<ESquareLetterAbbreviation, Future<BufferedImage>> letterFutures,
+                                    HashMap<ESquareNumberAbbreviation, Future<BufferedImage>> numberFutures) {
+        // Preload square letter images
+        for (ESquareLetterAbbreviation letter : ESquareLetterAbbreviation.values()) {
+            String path = Configuration.INSTANCE.getLetterPath(letter.toString());
+            letterFutures.put(letter, executor.submit(() -> readImage(path)));
+        }
+
+        // Preload square number images
+        for (ESquareNumberAbbreviation number : ESquareNumberAbbreviation.values()) {
+            String path = Configuration.INSTANCE.getNumberPath(number.toString());
+            numberFutures.put(number, executor.submit(() -> readImage(path)));
+        }
+    }
+
+    /**
+     * Waits for an image decoded on the thread pool.
+     *
+     * @param future the pending image.
+     * @return the decoded image.
+     * @throws RuntimeException if decoding failed or the thread was interrupted.
+     */
+    private static BufferedImage awaitImage(Future<BufferedImage> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to load image", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading images", e);
+        }
+    }
+
+    /**
+     * Reads an image file completely into memory.
+     *
+     * @param path the path of the image file.
+     * @return the decoded image.
+     * @throws RuntimeException if the image file cannot be read.
+     */
+    private static BufferedImage readImage(String path) {
+        try {
+            BufferedImage image = ImageIO.read(new File(path));
+            if (image == null) {
+                throw new RuntimeException("Unsupported image format: " + path);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read image: " + path, e);
+        }
+    }
+
+    /**
+     * Requests rendering the GUI components with the current game state.
+     *
+     * <p>
+     * The request is only recorded and served by the render timer on its next tick, at most once per display frame.
+     * Any number of state changes between two ticks, e.g. from holding the undo key, are merged into one rendering of
+     * the final state, in which only the squares whose piece changed since the last rendering are redrawn.
+     * </p>
+     */
+    public void render() {
+        renderRequested = true;
+    }
+
+    /**
+     * Renders the GUI components if a rendering was requested since the last tick of the render timer.
+     * Runs on the event dispatch thread, which also executes the moves entered by the user.
+     */
+    private void renderIfRequested() {
+        if (renderRequested) {
+            renderRequested = false;
+            drawPieces();
+        }
+    }
+
+    /**
+     * Retrieves the refresh rate of the default screen, which sets the interval of the render timer.
+     *
+     * @return the refresh rate in hertz, or {@value #DEFAULT_REFRESH_RATE} if it is unknown.
+     */
+    private static int getRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : refreshRate;
+    }
+
+    /**
+     * Draws square descriptions on the chess board based on the current perspective (white or black).
+     * Uses {@link ESquareDescription} values to determine which description to display on specific squares.
+     * Squares 56 to 62 and key {@code 63.0} carry letters, squares 7 to 55 and key {@code 63.1} carry numbers.
+     */
+    private void drawSquareDescription() {
+        HashMap<Double, ESquareDescription> squareDescription = perspectiveWhite ? squareDescriptionWhitePerspective : squareDescriptionBlackPerspective;
+        BufferedImage[] letterImages = new BufferedImage[64];
+        BufferedImage[] numberImages = new BufferedImage[64];
+
+        for (Map.Entry<Double, ESquareDescription> entry : squareDescription.entrySet()) {
+            double key = entry.getKey();
+            int index = (int) key;
+            String description = entry.getValue().toString();
+
+            if (index >= 56 && key != 63.1) {
+                letterImages[index] = squareLettersMap.get(ESquareLetterAbbreviation.valueOf(description));
+            } else if (index % 8 == 7) {
+                numberImages[index] = squareNumbersMap.get(ESquareNumberAbbreviation.valueOf(description));
+            } else {
+                throw new RuntimeException("Illegal key in HashMap!");
+            }
+        }
+
+        boardComponent.setSquareDescriptions(letterImages, numberImages);
+    }
+
+    /**
+     * Draws chess pieces on the board based on the current game state.
+     * Compares the bitboards of the {@code ChessEngine} with the last rendered ones and only repaints the changed
+     * squares of the {@link BoardComponent} by their bounds.
+     */
+    private void drawPieces() {
+        long changedSquares = updateSquarePieces(cChessEngine.getGameState(), renderedBitboards, squarePieces);
+
+        // Visits only the changed squares, the GUI index counts from a8
+        while (changedSquares != 0) {
+            boardComponent.repaintSquare(63 - Long.numberOfTrailingZeros(changedSquares));
+            changedSquares &= changedSquares - 1;
+        }
+        boardComponent.piecesUpdated();
+    }
+
+    /**
+     * Updates the piece standing on each square of the GUI from the bitboards of a game state.
+     * Only squares whose bit changed compared to the previously rendered bitboards are written.
+     * The GUI counts squares from a8, so bitboard position {@code i} is stored at index {@code 63 - i}.
+     *
+     * @param gameState         the game state mapping each piece to its bitboard.
+     * @param renderedBitboards the bitboards rendered last, indexed by piece ordinal, updated to the game state.
+     * @param squarePieces      the array of 64 squares holding the shown pieces, {@code null} for empty squares.
+     * @return the bitboard of all squares whose piece changed.
+     */
+    public static long updateSquarePieces(HashMap<EPieceAbbreviation, Long> gameState, long[] renderedBitboards, EPieceAbbreviation[] squarePieces) {
+        long changedSquares = 0L;
+
+        for (EPieceAbbreviation piece : PIECE_ABBREVIATIONS) {
+            long bitboard = gameState.get(piece);
+            long changed = bitboard ^ renderedBitboards[piece.ordinal()];
+            renderedBitboards[piece.ordinal()] = bitboard;
+            changedSquares |= changed;
+
+            // Removes the piece from the squares it left, unless another piece already moved there
+            long removed = changed & ~bitboard;
+            while (removed != 0) {
+                int index = 63 - Long.numberOfTrailingZeros(removed);
+                removed &= removed - 1;
+                if (squarePieces[index] == piece) {
+                    squarePieces[index] = null;
+                }
+            }
+
+            // Places the piece on the squares it entered
+            long added = changed & bitboard;
+            while (added != 0) {
+                squarePieces[63 - Long.numberOfTrailingZeros(added)] = piece;
+                added &= added - 1;
+            }
+        }
+
+        return changedSquares;
+    }
+
+    /**
+     * Informs the user that the game is over.
+     * Shows a message dialog containing the description of the given result.
+     *
+     * @param gameResult the {@link EGameResult} the game ended with.
+     */
+    public void showGameResult(EGameResult gameResult) {
+        JOptionPane.showMessageDialog(frame, gameResult.getDescription(), "Game over", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /**
+     * Sets the perspective of the GUI to either white or black.
+     * Determines how square descriptions are displayed based on this perspective.
+     *
+     * @param perspectiveWhite {@code true} to set white perspective, {@code false} for black perspective.
+     */
+    public void setPerspectiveWhite(boolean perspectiveWhite) {
+        this.perspectiveWhite = perspectiveWhite;
+        drawSquareDescription();
+    }
+}
@@ -0,0 +1,201 @@
+package chessengine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code GameReview} class analyses every position of a game and classifies the played moves.
+ *
+ * <p>
+ * Every position of the game, including the final one, is searched to a fixed depth. The loss of a move is the score
+ * of the position before the move minus the negated score of the position after it, both from the perspective of the
+ * side which played the move. Moves are classified by their loss as {@link EMoveClassification}s.
+ * </p>
+ *
+ * <p>
+ * The positions are independent, so they are searched in parallel. Each worker thread owns a {@link Search} and takes
+ * the next unanalysed position from a shared counter, so workers finishing early take over the remaining positions.
+ * Every position is searched on its own copy of the board, which includes the position history to detect repetitions.
+ * All workers share one {@link TranspositionTable}: neighbouring positions of a game share most of their subtrees, so
+ * a worker often finds the entries another worker just stored. The review increments the age of the table once
+ * instead of once per search, so the deep entries of other workers are not replaced as stale.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class GameReview {
+    public static final int DEFAULT_DEPTH = 6;
+
+    // Mate scores are capped, so missing a mate counts like losing a large material advantage
+    private static final int SCORE_CAP = 2000;
+
+    private final TranspositionTable transpositionTable;
+    private final int threadCount;
+
+    /**
+     * Constructs a {@code GameReview} using the given transposition table.
+     *
+     * @param transpositionTable The transposition table shared by all workers.
+     * @param threadCount        The number of worker threads.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public GameReview(TranspositionTable transpositionTable, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+        }
+        this.transpositionTable = transpositionTable;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Reviews a game.
+     *
+     * @param start The board of the start position of the game, which is not changed.
+     * @param moves The {@link PackedMove}s of the game in the order they were played.
+     * @param depth The search depth per position in plies.
+     * @return The review of every move.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public Result review(Board start, int[] moves, int depth) throws InterruptedException {
+        long startNanos = System.nanoTime();
+
+        // Replays the game once, every worker searches its own copy of the positions
+        Board[] positions = new Board[moves.length + 1];
+        Board board = start.copy();
+        for (int ply = 0; ply < moves.length; ply++) {
+            positions[ply] = board.copy();
+            board.makeMove(moves[ply]);
+        }
+        positions[moves.length] = board;
+
+        SearchResult[] results = new SearchResult[positions.length];
+        AtomicInteger nextPosition = new AtomicInteger();
+        SearchLimits limits = SearchLimits.depth(depth);
+        // All positions of the review share one age, so the workers do not age out each other's entries
+        transpositionTable.incrementAge();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> workers = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                workers.add(executor.submit(() -> {
+                    Search search = new Search(transpositionTable);
+                    search.setAgePerSearch(false);
+                    int index;
+                    while ((index = nextPosition.getAndIncrement()) < positions.length) {
+                        results[index] = search.search(positions[index], limits);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Review failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<PlyReview> plies = new ArrayList<>(moves.length);
+        for (int ply = 0; ply < moves.length; ply++) {
+            int bestScore = cap(results[ply].score());
+            int playedScore = cap(-results[ply + 1].score());
+            int loss = Math.max(0, bestScore - playedScore);
+            plies.add(new PlyReview(ply, positions[ply].isWhiteToMove(), moves[ply], results[ply].bestMove(),
+                    bestScore, playedScore, loss, EMoveClassification.of(loss)));
+        }
+        return new Result(plies, depth, threadCount, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Caps a score to the range of {@link #SCORE_CAP}.
+     *
+     * @param score The score.
+     * @return The capped score.
+     */
+    private static int cap(int score) {
+        return Math.max(-SCORE_CAP, Math.min(SCORE_CAP, score));
+    }
+
+    /**
+     * The {@code PlyReview} record holds the review of one move.
+     *
+     * @param ply            The number of the ply, starting with {@code 0}.
+     * @param white          {@code true} if white played the move.
+     * @param move           The played {@link PackedMove}.
+     * @param bestMove       The best {@link PackedMove} found by the search.
+     * @param bestScore      The score of the best move from the perspective of the side which played the move.
+     * @param playedScore    The score of the played move from the perspective of the side which played the move.
+     * @param loss           The loss of the played move in centipawns.
+     * @param classification The classification of the played move.
+     */
+    public record PlyReview(int ply, boolean white, int move, int bestMove, int bestScore, int playedScore, int loss,
+                            EMoveClassification classification) {
+        /**
+         * Formats the review of the move, e.g. {@code 12. ... d7d5?? (-3.40, best e6e5 +0.20)}.
+         *
+         * @return The review in one line.
+         */
+        @Override
+        public String toString() {
+            String number = (ply / 2 + 1) + (white ? ". " : ". ... ");
+            String review = number + PackedMove.toString(move) + classification.getSymbol()
+                    + String.format(" (%+.2f", playedScore / 100.0);
+            if (classification != EMoveClassification.GOOD) {
+                review += String.format(", best %s %+.2f", PackedMove.toString(bestMove), bestScore / 100.0);
+            }
+            return review + ")";
+        }
+    }
+
+    /**
+     * The {@code Result} record holds the review of a game.
+     *
+     * @param plies       The review of every move.
+     * @param depth       The search depth per position in plies.
+     * @param threadCount The number of worker threads.
+     * @param nanos       The duration of the review in nanoseconds.
+     */
+    public record Result(List<PlyReview> plies, int depth, int threadCount, long nanos) {
+        /**
+         * Counts the moves of a side with a classification.
+         *
+         * @param white          {@code true} to count the moves of white; {@code false} for black.
+         * @param classification The classification.
+         * @return The number of moves.
+         */
+        public int count(boolean white, EMoveClassification classification) {
+            int count = 0;
+            for (PlyReview ply : plies) {
+                if (ply.white() == white && ply.classification() == classification) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Formats the review as one line per move followed by a summary.
+         *
+         * @return The report of the review.
+         */
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder();
+            for (PlyReview ply : plies) {
+                report.append(ply).append(System.lineSeparator());
+            }
+            report.append(String.format("White: %d mistakes, %d blunders; black: %d mistakes, %d blunders%n",
+                    count(true, EMoveClassification.MISTAKE), count(true, EMoveClassification.BLUNDER),
+                    count(false, EMoveClassification.MISTAKE), count(false, EMoveClassification.BLUNDER)));
+            report.append(String.format("Reviewed %d plies at depth %d with %d threads in %.2f s",
+                    plies.size(), depth, threadCount, nanos / 1e9));
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package chessengine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code LoadGenerator} class measures the latency of an {@link EngineServer} under concurrent games.
+ *
+ * <p>
+ * Every simulated user plays one game on its own virtual thread through an {@link EngineClient}: it repeatedly asks
+ * for the best move with a fixed time limit and applies it, until the game is over or the number of moves is reached.
+ * The latencies of all requests are collected per request type and reported as median (p50) and 99th percentile
+ * (p99) together with the throughput. With more users than search threads of the server, the best move latency
+ * includes the time the search waited in the queue.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class LoadGenerator {
+    private final EngineClient client;
+    private final int users;
+    private final int movesPerGame;
+    private final long moveTimeMillis;
+
+    /**
+     * Constructs a {@code LoadGenerator} for a server listening on a local port.
+     *
+     * @param port           The port of the server.
+     * @param users          The number of games played at the same time.
+     * @param movesPerGame   The maximum number of moves of every game.
+     * @param moveTimeMillis The search time per move in milliseconds.
+     */
+    public LoadGenerator(int port, int users, int movesPerGame, long moveTimeMillis) {
+        client = new EngineClient(port);
+        this.users = users;
+        this.movesPerGame = movesPerGame;
+        this.moveTimeMillis = moveTimeMillis;
+    }
+
+    /**
+     * Plays all games and prints the latency report.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting for the games.
+     */
+    public void run() throws InterruptedException {
+        List<Future<long[][]>> games = new ArrayList<>(users);
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                games.add(executor.submit(this::playGame));
+            }
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        // Merges the latencies of all games per request type
+        long[][] latencies = new long[2][0];
+        for (Future<long[][]> game : games) {
+            try {
+                long[][] gameLatencies = game.get();
+                for (int type = 0; type < latencies.length; type++) {
+                    latencies[type] = concat(latencies[type], gameLatencies[type]);
+                }
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Game failed", e.getCause());
+            }
+        }
+
+        int requests = latencies[0].length + latencies[1].length;
+        System.out.printf("%d users, %d requests in %.1f s, %.1f requests/s%n", users, requests, seconds, requests / seconds);
+        printLatencies("bestmove", latencies[0]);
+        printLatencies("other", latencies[1]);
+    }
+
+    /**
+     * Plays one game from the start position.
+     *
+     * @return The latencies in nanoseconds of the best move requests and of all other requests.
+     * @throws IOException          if the server cannot be reached.
+     * @throws InterruptedException if the thread is interrupted while waiting for a response.
+     */
+    private long[][] playGame() throws IOException, InterruptedException {
+        long[] searchLatencies = new long[movesPerGame];
+        long[] otherLatencies = new long[movesPerGame + 2];
+        int searches = 0;
+        int others = 0;
+
+        long start = System.nanoTime();
+        long id = client.newGame();
+        otherLatencies[others++] = System.nanoTime() - start;
+        for (int i = 0; i < movesPerGame; i++) {
+            start = System.nanoTime();
+            String move = client.bestMove(id, 0, moveTimeMillis);
+            searchLatencies[searches++] = System.nanoTime() - start;
+            if (move.equals("0000")) {
+                break;
+            }
+            start = System.nanoTime();
+            client.applyMove(id, move);
+            otherLatencies[others++] = System.nanoTime() - start;
+        }
+        start = System.nanoTime();
+        client.endGame(id);
+        otherLatencies[others++] = System.nanoTime() - start;
+        return new long[][]{Arrays.copyOf(searchLatencies, searches), Arrays.copyOf(otherLatencies, others)};
+    }
+
+    /**
+     * Prints the median and the 99th percentile of latencies.
+     *
+     * @param name      The name of the request type.
+     * @param latencies The latencies in nanoseconds.
+     */
+    private static void printLatencies(String name, long[] latencies) {
+        if (latencies.length == 0) {
+            return;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-8s %6d requests  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms%n", name, latencies.length,
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, latencies[latencies.length - 1] / 1e6);
+    }
+
+    /**
+     * Retrieves a percentile of sorted values by the nearest rank method.
+     *
+     * @param sorted   The sorted values.
+     * @param fraction The percentile as fraction between {@code 0} and {@code 1}.
+     * @return The value of the percentile.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Concatenates two arrays.
+     *
+     * @param first  The first array.
+     * @param second The second array.
+     * @return A new array with the values of both arrays.
+     */
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
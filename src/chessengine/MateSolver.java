@@ -0,0 +1,596 @@
+package chessengine;
+
+import java.util.Arrays;
+
+/**
+ * The {@code MateSolver} class proves or disproves that the side to move can force mate, using depth-first
+ * proof-number search (df-pn).
+ *
+ * <p>
+ * The side to move is the attacker. Positions with the attacker to move are OR nodes, which are proven if any move
+ * proves them; positions with the defender to move are AND nodes, which are proven if all moves prove them. Every
+ * position has a proof number, the minimum number of leaves which still have to be proven to prove it, and a disproof
+ * number for the opposite. The search always expands the most-proving leaf: at OR nodes the child with the smallest
+ * proof number, at AND nodes the child with the smallest disproof number. Unlike the alpha-beta {@link Search}, its
+ * effort does not grow with the length of the mate but with the number of defences, so long forced mates with few
+ * replies are proven quickly.
+ * </p>
+ *
+ * <p>
+ * Df-pn keeps only the current path on the stack and stores the numbers of all visited positions in a node table. It
+ * descends into a child until the numbers of the child exceed thresholds derived from its siblings, so the table
+ * replaces the explicit tree of the original proof-number search. The table has a fixed size:
+ * <ul>
+ *     <li>Every entry holds the key, the proof and disproof number, the shortest mate distance proven for the
+ *     position, the budget of a disproven position and the work, the number of nodes searched below the position. A
+ *     position missing from the table starts again with proof and disproof number {@code 1}.</li>
+ *     <li>If no slot near the home slot of a key is free and the table is filled to half, a garbage collection
+ *     removes the entries of the smallest subtrees until more than half of the table is free again. A solved subtree
+ *     is stored completely at its root, whose work is the largest of the subtree, so the entries below solved
+ *     positions are removed first.</li>
+ *     <li>If no slot is free in a table filled to less than half, the entry with the least work near the home slot
+ *     is replaced.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Df-pn stops at the first proof it finds, which is rarely the shortest mate. The distance of a proven position is the
+ * number of plies to mate along its proof: at OR nodes one more than the shortest proven child, at AND nodes one more
+ * than the longest child. The line is extracted along these distances. While nodes are left, the root is proven again
+ * with a ply limit below the distance of the last proof until no shorter mate is found. The line of a puzzle is
+ * therefore the shortest mate, for long mates like king and queen against king it is the shortest mate found before
+ * the nodes ran out.
+ * </p>
+ *
+ * <p>
+ * A position can be reached on paths of different lengths, so an entry is only reused if it holds for the plies left
+ * below the ply limit, the budget. A proof holds if its distance is below the budget. A disproof caused by the ply
+ * limit stores the budget it was searched with and holds for that budget and smaller ones, a disproof without the ply
+ * limit holds for any budget. An entry which does not hold counts as unknown, so the position is searched again. A
+ * proof is kept when the position is searched again, so the proofs of its ancestors still lead to a mate.
+ * </p>
+ *
+ * <p>
+ * Positions in which the attacker has only the king or in which neither side has mating material are disproven
+ * without searching them, so trivially drawn positions report {@link EProofStatus#NO_MATE} at once.
+ * </p>
+ *
+ * <p>
+ * Note: Repetitions count as a failure of the attacker, but they depend on the path to a position. Like most df-pn
+ * solvers this one ignores the graph history interaction, so in rare cases a mate which needs to pass a repeated
+ * position is not found. A disproof therefore means that no mate was found without repetitions within
+ * {@link Search#MAX_PLY} plies.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class MateSolver {
+    public static final int DEFAULT_TABLE_SIZE_MB = 32;
+    public static final long DEFAULT_MAX_NODES = 5_000_000;
+
+    private static final int INFINITE = 100_000_000;
+    private static final int ENTRY_BYTES = 32;
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final int PROBE_LIMIT = 8;
+
+    // Node table as parallel arrays, a key of 0 marks a free slot
+    private final long[] keys;
+    private final int[] proofNumbers;
+    private final int[] disproofNumbers;
+    private final int[] distances;
+    private final int[] budgets;
+    private final long[] works;
+    private final int mask;
+    private int entryCount;
+    private int garbageCollections;
+
+    // Moves and child keys of every ply, generated once per visit of a position
+    private final int[][] moveLists;
+    private final long[][] childKeys;
+
+    private Board board;
+    private boolean attackerWhite;
+    private int plyLimit;
+    private long nodes;
+    private long maxNodes;
+    private volatile boolean stopped;
+    private volatile boolean stopRequested;
+
+    /**
+     * Constructs a {@code MateSolver} with a node table of the given size.
+     *
+     * @param tableSizeMb The size of the node table in megabytes, rounded down to a power of two of entries.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public MateSolver(int tableSizeMb) {
+        if (tableSizeMb < 1) {
+            throw new IllegalArgumentException("Table size must be positive: " + tableSizeMb);
+        }
+        int capacity = Integer.highestOneBit((int) Math.min(1 << 30, ((long) tableSizeMb << 20) / ENTRY_BYTES));
+        keys = new long[capacity];
+        proofNumbers = new int[capacity];
+        disproofNumbers = new int[capacity];
+        distances = new int[capacity];
+        budgets = new int[capacity];
+        works = new long[capacity];
+        mask = capacity - 1;
+        moveLists = new int[Search.MAX_PLY][MoveGenerator.MAX_MOVES];
+        childKeys = new long[Search.MAX_PLY][MoveGenerator.MAX_MOVES];
+    }
+
+    /**
+     * Proves or disproves that the side to move can force mate.
+     *
+     * @param board    The board of the position, which is not changed.
+     * @param maxNodes The maximum number of nodes to search.
+     * @return The result of the proof.
+     */
+    public Result solve(Board board, long maxNodes) {
+        long startNanos = System.nanoTime();
+        this.board = board.copy();
+        this.maxNodes = maxNodes;
+        attackerWhite = board.isWhiteToMove();
+        nodes = 0;
+        stopped = stopRequested;
+        garbageCollections = 0;
+        plyLimit = Search.MAX_PLY - 1;
+
+        EProofStatus status = prove();
+        int[] line = new int[0];
+        if (status == EProofStatus.MATE) {
+            int distance = distances[find(this.board.getKey())];
+            line = extractLine();
+            // Searches shorter mates until the next shorter one is disproven or the nodes are used up
+            while (distance > 1 && !stopped) {
+                plyLimit = distance - 1;
+                if (prove() != EProofStatus.MATE) {
+                    break;
+                }
+                int shorterDistance = distances[find(this.board.getKey())];
+                if (shorterDistance >= distance) {
+                    break;
+                }
+                distance = shorterDistance;
+                line = extractLine();
+            }
+        }
+        return new Result(status, line, nodes, garbageCollections, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Clears the stop request of the previous proof. A thread which hands a proof to another thread calls it before,
+     * so a {@link #stop()} arriving before the proof starts is not lost.
+     */
+    public void prepareRun() {
+        stopRequested = false;
+    }
+
+    /**
+     * Stops a running proof, which then returns {@link EProofStatus#UNKNOWN} unless it was solved already. Can be
+     * called by any thread, the request lasts until the next {@link #prepareRun()}, so a proof which has not started
+     * yet stops right after starting.
+     */
+    public void stop() {
+        stopRequested = true;
+        stopped = true;
+    }
+
+    /**
+     * Proves or disproves the root with an empty node table and the current ply limit.
+     *
+     * @return The proof status of the root.
+     */
+    private EProofStatus prove() {
+        clear();
+        searchNode(0, INFINITE, INFINITE);
+
+        int slot = find(board.getKey());
+        if (slot >= 0 && proofNumbers[slot] == 0) {
+            return EProofStatus.MATE;
+        } else if (slot >= 0 && disproofNumbers[slot] == 0) {
+            return EProofStatus.NO_MATE;
+        }
+        return EProofStatus.UNKNOWN;
+    }
+
+    /**
+     * Searches the position on the board until it is solved or its proof or disproof number reaches its threshold,
+     * and stores its numbers in the node table.
+     *
+     * @param ply                The distance to the root in plies.
+     * @param proofThreshold     The proof number at which the search returns to the parent.
+     * @param disproofThreshold  The disproof number at which the search returns to the parent.
+     */
+    private void searchNode(int ply, int proofThreshold, int disproofThreshold) {
+        nodes++;
+        long startNodes = nodes;
+        long key = board.getKey();
+        int[] moves = moveLists[ply];
+        long[] keysOfChildren = childKeys[ply];
+        boolean orNode = board.isWhiteToMove() == attackerWhite;
+
+        if (!hasMatingMaterial()) {
+            store(key, INFINITE, 0, UNLIMITED, UNLIMITED, 1);
+            return;
+        }
+        int moveCount = MoveGenerator.generateLegalMoves(board, moves);
+        if (moveCount == 0) {
+            // Only a checkmated defender proves the position, stalemate and a checkmated attacker disprove it
+            boolean mate = !orNode && board.isInCheck();
+            store(key, mate ? 0 : INFINITE, mate ? INFINITE : 0, mate ? 0 : UNLIMITED, UNLIMITED, 1);
+            return;
+        }
+
+        // Repetitions and positions beyond the ply limit are marked with key 0, they count as disproven. Only the ply
+        // limit bounds the budget of such a disproof, and it cuts off either all children or none.
+        int childBudget = plyLimit - ply - 1;
+        int cutOffBudget = childBudget <= 0 ? 0 : UNLIMITED;
+        for (int i = 0; i < moveCount; i++) {
+            board.makeMove(moves[i]);
+            boolean cutOff = ply + 1 >= plyLimit || board.getPositionHistory().isRepetition();
+            keysOfChildren[i] = cutOff ? 0L : board.getKey();
+            board.unmakeMove(moves[i]);
+        }
+
+        int proofNumber;
+        int disproofNumber;
+        int distance;
+        int budget;
+        while (true) {
+            // Collects the numbers of the node and the best and second best child
+            int best = 0;
+            int bestNumber = INFINITE + 1;
+            int secondNumber = INFINITE + 1;
+            int bestProof = 0;
+            int bestDisproof = 0;
+            proofNumber = orNode ? INFINITE : 0;
+            disproofNumber = orNode ? 0 : INFINITE;
+            distance = orNode ? Integer.MAX_VALUE : 0;
+            budget = orNode ? UNLIMITED : 0;
+            for (int i = 0; i < moveCount; i++) {
+                int slot = keysOfChildren[i] == 0 ? -1 : find(keysOfChildren[i]);
+                if (slot >= 0 && !holds(slot, childBudget)) {
+                    slot = -1;
+                }
+                boolean proven = slot >= 0 && distances[slot] < childBudget;
+                int childProof = keysOfChildren[i] == 0 ? INFINITE : slot < 0 ? 1 : proven ? 0 : proofNumbers[slot];
+                int childDisproof = keysOfChildren[i] == 0 ? 0 : slot < 0 ? 1 : proven ? INFINITE
+                        : disproofNumbers[slot];
+                int number = orNode ? childProof : childDisproof;
+                if (orNode) {
+                    proofNumber = Math.min(proofNumber, childProof);
+                    disproofNumber = sum(disproofNumber, childDisproof);
+                } else {
+                    proofNumber = sum(proofNumber, childProof);
+                    disproofNumber = Math.min(disproofNumber, childDisproof);
+                }
+                // Only meaningful once the node is proven, then all children of an AND node are proven
+                if (childProof == 0) {
+                    distance = orNode ? Math.min(distance, distances[slot] + 1)
+                            : Math.max(distance, distances[slot] + 1);
+                }
+                // Only meaningful once the node is disproven, then all children of an OR node are disproven
+                if (childDisproof == 0) {
+                    int disproofBudget = increment(keysOfChildren[i] == 0 ? cutOffBudget : budgets[slot]);
+                    budget = orNode ? Math.min(budget, disproofBudget) : Math.max(budget, disproofBudget);
+                }
+                if (number < bestNumber) {
+                    secondNumber = bestNumber;
+                    bestNumber = number;
+                    best = i;
+                    bestProof = childProof;
+                    bestDisproof = childDisproof;
+                } else if (number < secondNumber) {
+                    secondNumber = number;
+                }
+            }
+
+            if (proofNumber >= proofThreshold || disproofNumber >= disproofThreshold || stopped) {
+                break;
+            }
+
+            // The child may exceed the best sibling by one before the node has to switch to it
+            int childProofThreshold;
+            int childDisproofThreshold;
+            if (orNode) {
+                childProofThreshold = Math.min(proofThreshold, secondNumber + 1);
+                childDisproofThreshold = childThreshold(disproofThreshold, disproofNumber, bestDisproof);
+            } else {
+                childProofThreshold = childThreshold(proofThreshold, proofNumber, bestProof);
+                childDisproofThreshold = Math.min(disproofThreshold, secondNumber + 1);
+            }
+            board.makeMove(moves[best]);
+            searchNode(ply + 1, childProofThreshold, childDisproofThreshold);
+            board.unmakeMove(moves[best]);
+
+            if (nodes >= maxNodes) {
+                stopped = true;
+            }
+        }
+
+        int slot = find(key);
+        long previousWork = slot >= 0 ? works[slot] : 0;
+        store(key, proofNumber, disproofNumber, proofNumber == 0 ? distance : UNLIMITED,
+                disproofNumber == 0 ? budget : 0, previousWork + nodes - startNodes + 1);
+    }
+
+    /**
+     * Checks if the attacker can still give mate: it needs a piece besides the king, and one side needs more than a
+     * single minor piece.
+     *
+     * @return {@code true} if the material on the board allows a mate by the attacker.
+     */
+    private boolean hasMatingMaterial() {
+        long king = board.getBitboard(attackerWhite ? Board.KING : 6 + Board.KING);
+        return (board.getPieces(attackerWhite) & ~king) != 0 && !board.isInsufficientMaterial();
+    }
+
+    /**
+     * Checks if the entry of a position holds for the plies left below the ply limit.
+     *
+     * @param slot   The slot of the position.
+     * @param budget The number of plies the position may still be searched before the ply limit.
+     * @return {@code true} if the position has a proof shorter than the budget, else if it is unsolved or disproven
+     * for at least the budget.
+     */
+    private boolean holds(int slot, int budget) {
+        if (distances[slot] < budget) {
+            return true;
+        }
+        return proofNumbers[slot] != 0 && (disproofNumbers[slot] != 0 || budgets[slot] >= budget);
+    }
+
+    /**
+     * Increments the budget of a disproof, keeping an unlimited budget unlimited.
+     *
+     * @param budget The budget of the disproof of a child.
+     * @return The budget of the disproof of its parent.
+     */
+    private static int increment(int budget) {
+        return budget == UNLIMITED ? UNLIMITED : budget + 1;
+    }
+
+    /**
+     * Adds the numbers of two children. The sum is only infinite if one of them is, so large finite sums do not look
+     * like a solved position.
+     *
+     * @param a The first number.
+     * @param b The second number.
+     * @return The sum, at most {@code INFINITE - 1} unless a number is infinite.
+     */
+    private static int sum(int a, int b) {
+        return a >= INFINITE || b >= INFINITE ? INFINITE : Math.min(INFINITE - 1, a + b);
+    }
+
+    /**
+     * Computes the threshold of a child from the summed number of its node, keeping infinite thresholds infinite.
+     *
+     * @param threshold   The threshold of the node.
+     * @param number      The summed number of the node.
+     * @param childNumber The number of the child.
+     * @return The threshold of the child, which the sum reaches once the child reaches it.
+     */
+    private static int childThreshold(int threshold, int number, int childNumber) {
+        return threshold >= INFINITE ? INFINITE : Math.min(INFINITE, threshold - number + childNumber);
+    }
+
+    /**
+     * Extracts the mating line of a proven root from the node table. The attacker plays the proven move with the
+     * shortest mate distance, the defender the move with the longest. Repetitions are skipped, so the line cannot run
+     * in circles.
+     *
+     * @return The {@link PackedMove}s of the line, which ends early if an entry was removed from the table.
+     */
+    private int[] extractLine() {
+        int[] line = new int[Search.MAX_PLY];
+        int length = 0;
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        while (length < line.length) {
+            int moveCount = MoveGenerator.generateLegalMoves(board, moves);
+            boolean orNode = board.isWhiteToMove() == attackerWhite;
+            int best = PackedMove.NO_MOVE;
+            int bestDistance = orNode ? Integer.MAX_VALUE : -1;
+            for (int i = 0; i < moveCount; i++) {
+                board.makeMove(moves[i]);
+                int slot = board.getPositionHistory().isRepetition() ? -1 : find(board.getKey());
+                board.unmakeMove(moves[i]);
+                if (slot < 0 || distances[slot] == UNLIMITED) {
+                    continue;
+                }
+                if (orNode ? distances[slot] < bestDistance : distances[slot] > bestDistance) {
+                    best = moves[i];
+                    bestDistance = distances[slot];
+                }
+            }
+            if (best == PackedMove.NO_MOVE) {
+                break;
+            }
+            board.makeMove(best);
+            line[length++] = best;
+        }
+        // Restores the root position
+        for (int i = length - 1; i >= 0; i--) {
+            board.unmakeMove(line[i]);
+        }
+        return Arrays.copyOf(line, length);
+    }
+
+    /**
+     * Finds the slot of a key in the node table.
+     *
+     * @param key The key of the position.
+     * @return The slot, {@code -1} if the position is not stored.
+     */
+    private int find(long key) {
+        key = key == 0 ? 1 : key;
+        int home = (int) key & mask;
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (home + i) & mask;
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (keys[slot] == 0) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores the numbers of a position in the node table. If no slot near the home slot is free, garbage is collected
+     * first once the table is filled to half, otherwise the entry with the least work is replaced. A shorter mate
+     * distance stored for the position before is kept.
+     *
+     * @param key            The key of the position.
+     * @param proofNumber    The proof number.
+     * @param disproofNumber The disproof number.
+     * @param distance       The number of plies to mate of a proven position, {@code UNLIMITED} otherwise.
+     * @param budget         The budget a disproven position was searched with, {@code 0} otherwise.
+     * @param work           The number of nodes searched below the position, including itself.
+     */
+    private void store(long key, int proofNumber, int disproofNumber, int distance, int budget, long work) {
+        key = key == 0 ? 1 : key;
+        int target = probe(key);
+        if (keys[target] != key && keys[target] != 0 && entryCount >= keys.length >> 1) {
+            collectGarbage();
+            target = probe(key);
+        }
+        if (keys[target] == 0) {
+            entryCount++;
+        } else if (keys[target] == key) {
+            distance = Math.min(distance, distances[target]);
+        }
+        keys[target] = key;
+        proofNumbers[target] = proofNumber;
+        disproofNumbers[target] = disproofNumber;
+        distances[target] = distance;
+        budgets[target] = budget;
+        works[target] = work;
+    }
+
+    /**
+     * Finds the slot to store a key in: the slot of the key, else the first free slot, else the slot with the least
+     * work near the home slot of the key.
+     *
+     * @param key The key of the position, not {@code 0}.
+     * @return The slot.
+     */
+    private int probe(long key) {
+        int home = (int) key & mask;
+        int target = home;
+        long leastWork = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (home + i) & mask;
+            if (keys[slot] == key || keys[slot] == 0) {
+                return slot;
+            }
+            if (works[slot] < leastWork) {
+                leastWork = works[slot];
+                target = slot;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Removes the entries of the smallest subtrees until more than half of the table is free.
+     *
+     * <p>
+     * The work threshold is doubled until enough entries are below it, so every collection frees at least one entry.
+     * The remaining entries are inserted again, so no probe sequence is broken by a removed entry.
+     * </p>
+     */
+    private void collectGarbage() {
+        garbageCollections++;
+        long threshold = 1;
+        while (countEntries(threshold) >= keys.length >> 1) {
+            threshold <<= 1;
+        }
+
+        long[] keptKeys = new long[entryCount];
+        int[] keptProofNumbers = new int[entryCount];
+        int[] keptDisproofNumbers = new int[entryCount];
+        int[] keptDistances = new int[entryCount];
+        int[] keptBudgets = new int[entryCount];
+        long[] keptWorks = new long[entryCount];
+        int kept = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && works[slot] >= threshold) {
+                keptKeys[kept] = keys[slot];
+                keptProofNumbers[kept] = proofNumbers[slot];
+                keptDisproofNumbers[kept] = disproofNumbers[slot];
+                keptDistances[kept] = distances[slot];
+                keptBudgets[kept] = budgets[slot];
+                keptWorks[kept] = works[slot];
+                kept++;
+            }
+        }
+        clear();
+        for (int i = 0; i < kept; i++) {
+            store(keptKeys[i], keptProofNumbers[i], keptDisproofNumbers[i], keptDistances[i], keptBudgets[i],
+                    keptWorks[i]);
+        }
+    }
+
+    /**
+     * Counts the entries which survive a garbage collection with the given work threshold.
+     *
+     * @param threshold The minimal work of a surviving entry.
+     * @return The number of surviving entries.
+     */
+    private int countEntries(long threshold) {
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && works[slot] >= threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes all entries from the node table.
+     */
+    private void clear() {
+        Arrays.fill(keys, 0L);
+        entryCount = 0;
+    }
+
+    /**
+     * The {@code Result} record holds the outcome of a proof.
+     *
+     * @param status             The proof status.
+     * @param line               The {@link PackedMove}s of a mating line for {@link EProofStatus#MATE}, empty otherwise.
+     * @param nodes              The number of searched nodes.
+     * @param garbageCollections The number of garbage collections of the node table.
+     * @param nanos              The duration of the proof in nanoseconds.
+     */
+    public record Result(EProofStatus status, int[] line, long nodes, int garbageCollections, long nanos) {
+        /**
+         * Retrieves the first move of the mating line.
+         *
+         * @return The mating {@link PackedMove}, {@link PackedMove#NO_MOVE} if no mate was proven.
+         */
+        public int bestMove() {
+            return line.length > 0 ? line[0] : PackedMove.NO_MOVE;
+        }
+
+        /**
+         * Formats the result in one line, e.g. {@code Forced mate: f7f8q e8d7 ... (12,345 nodes, 3.2 ms)}.
+         *
+         * @return The result.
+         */
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder(status.getDescription());
+            if (line.length > 0) {
+                result.append(':');
+                for (int move : line) {
+                    result.append(' ').append(PackedMove.toString(move));
+                }
+            }
+            return result.append(String.format(" (%,d nodes, %.1f ms)", nodes, nanos / 1e6)).toString();
+        }
+    }
+}
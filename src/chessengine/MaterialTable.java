@@ -0,0 +1,181 @@
+package chessengine;
+
+import java.util.Arrays;
+
+/**
+ * The {@code MaterialTable} class caches everything of the {@link Evaluation} which depends on the material only.
+ *
+ * <p>
+ * The material key of a position packs the number of pieces on each of the twelve bitboards of the {@link Board} into
+ * four bits each, so it identifies the material signature exactly and is computed with twelve bit counts. Positions of
+ * one search share few signatures, so a small table answers almost every lookup with one hit.
+ * </p>
+ *
+ * <p>
+ * An entry holds the material values for the middlegame and the endgame including the imbalance, which is the bishop
+ * pair bonus, the game phase and the {@link EEndgame} whose specialised evaluation applies, together with the side
+ * which can win it. Like in the {@link TranspositionTable} the key is stored XOR-ed with the packed data, so one table
+ * is shared by all searches without locking.
+ * </p>
+ *
+ * <p>
+ * Layout of the data bits:
+ * <ul>
+ *     <li>Bits 0 to 15 - Middlegame material score for white as signed 16-bit value.</li>
+ *     <li>Bits 16 to 31 - Endgame material score for white as signed 16-bit value.</li>
+ *     <li>Bits 32 to 36 - Game phase, at most {@link Evaluation#MAX_PHASE}.</li>
+ *     <li>Bits 37 to 38 - {@link EEndgame} ordinal.</li>
+ *     <li>Bit 39 - Set if white is the stronger side of the endgame.</li>
+ * </ul>
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class MaterialTable {
+    public static final int DEFAULT_ENTRIES = 1 << 13;
+    public static final int BISHOP_PAIR_MIDDLEGAME = 25;
+    public static final int BISHOP_PAIR_ENDGAME = 45;
+
+    private static final EEndgame[] ENDGAMES = EEndgame.values();
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+
+    /**
+     * Constructs a {@code MaterialTable} with the given number of entries.
+     *
+     * @param entries The number of entries, a power of two.
+     * @throws IllegalArgumentException if the number of entries is not a power of two.
+     */
+    public MaterialTable(int entries) {
+        if (entries < 1 || Integer.bitCount(entries) != 1) {
+            throw new IllegalArgumentException("Entries must be a power of two: " + entries);
+        }
+        keys = new long[entries];
+        data = new long[entries];
+        mask = entries - 1;
+    }
+
+    /**
+     * Computes the material key of a position.
+     *
+     * @param board The board of the position.
+     * @return The number of pieces of every bitboard in four bits, the first bitboard in the lowest bits.
+     */
+    public static long computeKey(Board board) {
+        long key = 0L;
+        for (int piece = 0; piece < 12; piece++) {
+            key |= (long) Math.min(15, BitHelper.countBits(board.getBitboard(piece))) << (piece * 4);
+        }
+        return key;
+    }
+
+    /**
+     * Looks up the entry of a material key, computing and storing it on a miss.
+     *
+     * @param key The material key.
+     * @return The packed data of the entry.
+     */
+    public long probe(long key) {
+        // Multiplies the key to spread the counts over the index bits
+        int index = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        long entry = data[index];
+        if ((keys[index] ^ entry) == key) {
+            return entry;
+        }
+        entry = computeEntry(key);
+        data[index] = entry;
+        keys[index] = key ^ entry;
+        return entry;
+    }
+
+    /**
+     * Removes all entries, e.g. after the material values changed.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, 0L);
+    }
+
+    /**
+     * Computes the entry of a material key.
+     *
+     * @param key The material key.
+     * @return The packed data of the entry.
+     */
+    private static long computeEntry(long key) {
+        int[] counts = new int[12];
+        for (int piece = 0; piece < 12; piece++) {
+            counts[piece] = (int) (key >>> (piece * 4)) & 0xF;
+        }
+
+        int middlegame = 0;
+        int endgame = 0;
+        int phase = 0;
+        for (int piece = 0; piece < 12; piece++) {
+            int type = piece % 6;
+            int sign = piece < 6 ? 1 : -1;
+            middlegame += sign * counts[piece] * Evaluation.MIDDLEGAME_VALUES[type];
+            endgame += sign * counts[piece] * Evaluation.ENDGAME_VALUES[type];
+            phase += counts[piece] * Evaluation.PHASE_WEIGHTS[type];
+        }
+        for (int side = 0; side < 2; side++) {
+            if (counts[side * 6 + Board.BISHOP] >= 2) {
+                int sign = side == 0 ? 1 : -1;
+                middlegame += sign * BISHOP_PAIR_MIDDLEGAME;
+                endgame += sign * BISHOP_PAIR_ENDGAME;
+            }
+        }
+
+        EEndgame endgameType = EEndgame.GENERIC;
+        boolean strongWhite = true;
+        for (int side = 0; side < 2; side++) {
+            int strong = side * 6;
+            int weak = 6 - strong;
+            boolean bareKing = counts[weak + Board.PAWN] + counts[weak + Board.KNIGHT] + counts[weak + Board.BISHOP]
+                    + counts[weak + Board.ROOK] + counts[weak + Board.QUEEN] == 0;
+            boolean onlyMinor = counts[strong + Board.BISHOP] == 1 && counts[strong + Board.ROOK] == 0
+                    && counts[strong + Board.QUEEN] == 0;
+            if (bareKing && onlyMinor && counts[strong + Board.PAWN] == 0 && counts[strong + Board.KNIGHT] == 1) {
+                endgameType = EEndgame.KBNK;
+                strongWhite = side == 0;
+            } else if (bareKing && onlyMinor && counts[strong + Board.PAWN] > 0 && counts[strong + Board.KNIGHT] == 0) {
+                endgameType = EEndgame.WRONG_BISHOP;
+                strongWhite = side == 0;
+            }
+        }
+        if (counts[Board.BISHOP] == 1 && counts[6 + Board.BISHOP] == 1
+                && phase == 2 * Evaluation.PHASE_WEIGHTS[Board.BISHOP]) {
+            endgameType = EEndgame.OPPOSITE_BISHOPS;
+        }
+
+        return (middlegame & 0xFFFFL)
+                | (endgame & 0xFFFFL) << 16
+                | (long) Math.min(phase, Evaluation.MAX_PHASE) << 32
+                | (long) endgameType.ordinal() << 37
+                | (strongWhite ? 1L : 0L) << 39;
+    }
+
+    // Getter methods for the packed fields of an entry
+    public static int getMiddlegame(long entry) {
+        return (short) entry;
+    }
+
+    public static int getEndgame(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    public static int getPhase(long entry) {
+        return (int) (entry >>> 32) & 0x1F;
+    }
+
+    public static EEndgame getEndgameType(long entry) {
+        return ENDGAMES[(int) (entry >>> 37) & 0x3];
+    }
+
+    public static boolean isStrongSideWhite(long entry) {
+        return (entry >>> 39 & 1) != 0;
+    }
+}
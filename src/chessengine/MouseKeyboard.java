@@ -0,0 +1,168 @@
+package chessengine;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+
+/**
+ * The {@code MouseKeyboard} class implements {@code KeyListener}, {@code MouseListener} and {@code MouseMotionListener} to handle keyboard and mouse events for the chess engine GUI.
+ * This class interacts with the {@code ChessEngine} to manage user inputs from both the keyboard and the mouse.
+ * Pieces are moved by drag and drop on the {@link BoardComponent}, which highlights the legal destination squares.
+ *
+ * @author SirPatschiii
+ * @version 2024-06-26
+ */
+public class MouseKeyboard implements KeyListener, MouseListener, MouseMotionListener {
+    private final ChessEngine cChessEngine;
+
+    private int squareFrom = -1;
+
+    /**
+     * Constructs a {@code MouseKeyboard} object that listens to keyboard and mouse events.
+     *
+     * @param chessEngine the {@code ChessEngine} instance to interact with for processing moves.
+     */
+    public MouseKeyboard(ChessEngine chessEngine) {
+        cChessEngine = chessEngine;
+    }
+
+    /**
+     * Invoked when a key has been typed.
+     * This event occurs when a key press is followed by a key release.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void keyTyped(KeyEvent e) {
+
+    }
+
+    /**
+     * Invoked when a key has been pressed.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void keyPressed(KeyEvent e) {
+        switch (e.getKeyCode()) {
+            // Enables the ESC button to exit the application
+            case 27 -> System.exit(0);
+            // Undoes a move when pressing arrow left
+            case 37 -> cChessEngine.undoMove();
+            // Toggles the background analysis when pressing A
+            case 65 -> cChessEngine.setAnalysisEnabled(!cChessEngine.isAnalysisEnabled());
+            // Lets the engine play the side to move, or switches it off, when pressing E
+            case 69 -> cChessEngine.setEnginePlaying(!cChessEngine.isEnginePlaying());
+            // Searches a forced mate for the side to move when pressing M, the result is printed to the console
+            case 77 -> cChessEngine.startMateSolver();
+            // Toggles pondering of the engine when pressing P
+            case 80 -> cChessEngine.setPonderEnabled(!cChessEngine.isPonderEnabled());
+            // Reviews the moves of the game when pressing R, the review is printed to the console
+            case 82 -> cChessEngine.startReview();
+        }
+    }
+
+    /**
+     * Invoked when a key has been released.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void keyReleased(KeyEvent e) {
+
+    }
+
+    /**
+     * Invoked when the mouse has been clicked.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mouseClicked(MouseEvent e) {
+
+    }
+
+    /**
+     * Invoked when a mouse button has been pressed on a component.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mousePressed(MouseEvent e) {
+        BoardComponent board = (BoardComponent) e.getComponent();
+
+        // Gets the square under the mouse from the board, -1 if the mouse was not over the board
+        squareFrom = board.squareAt(e.getX(), e.getY());
+
+        // Starts dragging a piece which has legal moves, highlighting their destination squares
+        if (squareFrom >= 0 && cChessEngine.getGameResult() == EGameResult.ONGOING && cChessEngine.isHumanToMove()) {
+            long destinations = cChessEngine.getLegalDestinations((byte) squareFrom);
+            if (destinations != 0) {
+                board.startDrag(squareFrom, destinations, e.getX(), e.getY());
+            }
+        }
+    }
+
+    /**
+     * Invoked when a mouse button has been released on a component.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mouseReleased(MouseEvent e) {
+        BoardComponent board = (BoardComponent) e.getComponent();
+        int squareTo = board.squareAt(e.getX(), e.getY());
+
+        // Checks if the mouse was over the board when pressed and released
+        boolean onBoard = squareFrom >= 0 && squareTo >= 0;
+        board.endDrag(onBoard && cChessEngine.getGameResult() == EGameResult.ONGOING
+                && cChessEngine.isMoveValid((byte) squareFrom, (byte) squareTo));
+        if (onBoard) {
+            // Passes the squares to the chess engine to check the move for its correctness
+            cChessEngine.checkMove((byte) squareFrom, (byte) squareTo);
+        }
+        squareFrom = -1;
+    }
+
+    /**
+     * Invoked when the mouse is moved with a button pressed, moves a dragged piece with the mouse.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mouseDragged(MouseEvent e) {
+        ((BoardComponent) e.getComponent()).drag(e.getX(), e.getY());
+    }
+
+    /**
+     * Invoked when the mouse is moved without a button pressed.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mouseMoved(MouseEvent e) {
+
+    }
+
+    /**
+     * Invoked when the mouse enters a component.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mouseEntered(MouseEvent e) {
+
+    }
+
+    /**
+     * Invoked when the mouse exits a component.
+     *
+     * @param e the event to be processed.
+     */
+    @Override
+    public void mouseExited(MouseEvent e) {
+
+    }
+}
@@ -1,3 +1,5 @@
+package chessengine;
+
 import java.util.HashMap;
 
 /**
@@ -12,6 +14,7 @@ public class Move {
     private final short squareFrom;
     private final short squareTo;
     private final HashMap<EPieceAbbreviation, Long> gameState;
+    private final int packedMove;
 
     private final short rankFrom;
     private final String fileFrom;
@@ -24,11 +27,13 @@ public class Move {
      * @param squareFrom the index of the source square (0-63) before the move.
      * @param squareTo the index of the destination square (0-63) after the move.
      * @param gameState the game state before the move, represented as a map of piece abbreviations to bitboards.
+     * @param packedMove the move as {@link PackedMove}, which holds the information to unmake it on a {@link Board}.
      */
-    public Move(byte squareFrom, byte squareTo, HashMap<EPieceAbbreviation, Long> gameState) {
+    public Move(byte squareFrom, byte squareTo, HashMap<EPieceAbbreviation, Long> gameState, int packedMove) {
         this.squareFrom = squareFrom;
         this.squareTo = squareTo;
         this.gameState = gameState;
+        this.packedMove = packedMove;
 
         rankFrom = BoardHelper.indexToRank(squareFrom);
         fileFrom = BoardHelper.indexToFile(squareFrom).toString();
@@ -46,6 +51,15 @@ public class Move {
         return gameState;
     }
 
+    /**
+     * Retrieves the move as {@link PackedMove}.
+     *
+     * @return the packed move.
+     */
+    public int getPackedMove() {
+        return packedMove;
+    }
+
     /**
      * Returns a string representation of the move in algebraic notation.
      *
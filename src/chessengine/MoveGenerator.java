@@ -0,0 +1,280 @@
+package chessengine;
+
+/**
+ * Utility class generating the moves of a {@link Board} position.
+ *
+ * <p>
+ * The {@code MoveGenerator} class includes static methods for:
+ * <ul>
+ *     <li>Generating all pseudo-legal moves, which may leave the own king in check.</li>
+ *     <li>Generating all pseudo-legal captures and promotions, as needed by the quiescence search.</li>
+ *     <li>Generating all legal moves.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Moves are written as {@link PackedMove packed moves} into an array supplied by the caller, so generating moves does
+ * not allocate. The array has to hold at least {@link #MAX_MOVES} moves.
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class MoveGenerator {
+    public static final int MAX_MOVES = 256;
+
+    private static final long RANK_1 = 0x00000000000000FFL;
+    private static final long RANK_8 = 0xFF00000000000000L;
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private MoveGenerator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Generates all legal moves of the side to move.
+     *
+     * <p>
+     * Pseudo-legal moves are made on the board and kept if they do not leave the own king in check.
+     * </p>
+     *
+     * @param board The board to generate the moves for.
+     * @param moves The array the moves are written to.
+     * @return The number of legal moves.
+     */
+    public static int generateLegalMoves(Board board, int[] moves) {
+        int count = generatePseudoLegalMoves(board, moves);
+        boolean white = board.isWhiteToMove();
+        int legalCount = 0;
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            board.makeMove(move);
+            if (!board.isKingAttacked(white)) {
+                moves[legalCount++] = move;
+            }
+            board.unmakeMove(move);
+        }
+        return legalCount;
+    }
+
+    /**
+     * Generates all pseudo-legal moves of the side to move.
+     *
+     * <p>
+     * Castling is only generated if the king does not pass through or stand on an attacked square.
+     * </p>
+     *
+     * @param board The board to generate the moves for.
+     * @param moves The array the moves are written to.
+     * @return The number of pseudo-legal moves.
+     */
+    public static int generatePseudoLegalMoves(Board board, int[] moves) {
+        return generateMoves(board, moves, false);
+    }
+
+    /**
+     * Generates all pseudo-legal captures and promotions of the side to move.
+     *
+     * @param board The board to generate the moves for.
+     * @param moves The array the moves are written to.
+     * @return The number of pseudo-legal captures and promotions.
+     */
+    public static int generatePseudoLegalCaptures(Board board, int[] moves) {
+        return generateMoves(board, moves, true);
+    }
+
+    /**
+     * Generates the pseudo-legal moves of the side to move.
+     *
+     * @param board        The board to generate the moves for.
+     * @param moves        The array the moves are written to.
+     * @param capturesOnly {@code true} to only generate captures and promotions; {@code false} for all moves.
+     * @return The number of generated moves.
+     */
+    private static int generateMoves(Board board, int[] moves, boolean capturesOnly) {
+        boolean white = board.isWhiteToMove();
+        int offset = white ? 0 : 6;
+        long occupancy = board.getOccupancy();
+        long targets = capturesOnly ? board.getPieces(!white) : ~board.getPieces(white);
+
+        int count = generatePawnMoves(board, moves, 0, capturesOnly);
+
+        long knights = board.getBitboard(offset + Board.KNIGHT);
+        while (knights != 0) {
+            int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            count = addMoves(board, moves, count, from, offset + Board.KNIGHT, Attacks.knightAttacks(from) & targets);
+        }
+
+        long bishops = board.getBitboard(offset + Board.BISHOP);
+        while (bishops != 0) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            count = addMoves(board, moves, count, from, offset + Board.BISHOP, Attacks.bishopAttacks(from, occupancy) & targets);
+        }
+
+        long rooks = board.getBitboard(offset + Board.ROOK);
+        while (rooks != 0) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            count = addMoves(board, moves, count, from, offset + Board.ROOK, Attacks.rookAttacks(from, occupancy) & targets);
+        }
+
+        long queens = board.getBitboard(offset + Board.QUEEN);
+        while (queens != 0) {
+            int from = Long.numberOfTrailingZeros(queens);
+            queens &= queens - 1;
+            count = addMoves(board, moves, count, from, offset + Board.QUEEN, Attacks.queenAttacks(from, occupancy) & targets);
+        }
+
+        long king = board.getBitboard(offset + Board.KING);
+        if (king != 0) {
+            int from = Long.numberOfTrailingZeros(king);
+            count = addMoves(board, moves, count, from, offset + Board.KING, Attacks.kingAttacks(from) & targets);
+            if (!capturesOnly) {
+                count = generateCastlingMoves(board, moves, count);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds a move to every target square, capturing the piece standing on it if there is one.
+     *
+     * @param board   The board the moves are generated for.
+     * @param moves   The array the moves are written to.
+     * @param count   The number of moves already in the array.
+     * @param from    The starting square of the moves.
+     * @param piece   The moving piece.
+     * @param targets The bitboard of the target squares.
+     * @return The number of moves in the array after adding the moves.
+     */
+    private static int addMoves(Board board, int[] moves, int count, int from, int piece, long targets) {
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            moves[count++] = PackedMove.create(from, to, piece, board.getPieceAt(to), Board.NO_PIECE, PackedMove.FLAG_NONE);
+        }
+        return count;
+    }
+
+    /**
+     * Generates the pushes, captures, promotions and en passant captures of the pawns of the side to move.
+     *
+     * @param board        The board to generate the moves for.
+     * @param moves        The array the moves are written to.
+     * @param count        The number of moves already in the array.
+     * @param capturesOnly {@code true} to only generate captures and promotions; {@code false} for all moves.
+     * @return The number of moves in the array after adding the pawn moves.
+     */
+    private static int generatePawnMoves(Board board, int[] moves, int count, boolean capturesOnly) {
+        boolean white = board.isWhiteToMove();
+        int pawn = white ? EPieceAbbreviation.WP.ordinal() : EPieceAbbreviation.BP.ordinal();
+        int forward = white ? 8 : -8;
+        int startRank = white ? 1 : 6;
+        long empty = ~board.getOccupancy();
+        long enemies = board.getPieces(!white);
+        long promotionRank = white ? RANK_8 : RANK_1;
+        int enPassantSquare = board.getEnPassantSquare();
+
+        long pawns = board.getBitboard(pawn);
+        while (pawns != 0) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            // Pushes one and two squares forward, only promotions count as captures
+            int to = from + forward;
+            if ((empty & 1L << to) != 0 && (!capturesOnly || (promotionRank & 1L << to) != 0)) {
+                count = addPawnMove(moves, count, from, to, pawn, Board.NO_PIECE, promotionRank);
+                if (!capturesOnly && Attacks.rankOf(from) == startRank && (empty & 1L << (to + forward)) != 0) {
+                    moves[count++] = PackedMove.create(from, to + forward, pawn, Board.NO_PIECE, Board.NO_PIECE, PackedMove.FLAG_DOUBLE_PAWN_PUSH);
+                }
+            }
+
+            // Captures diagonally forward
+            long attacks = Attacks.pawnAttacks(white, from);
+            long captures = attacks & enemies;
+            while (captures != 0) {
+                int target = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                count = addPawnMove(moves, count, from, target, pawn, board.getPieceAt(target), promotionRank);
+            }
+
+            // Captures en passant, the captured pawn stands behind the en passant square
+            if (enPassantSquare != Board.NO_SQUARE && (attacks & 1L << enPassantSquare) != 0) {
+                int captured = white ? EPieceAbbreviation.BP.ordinal() : EPieceAbbreviation.WP.ordinal();
+                moves[count++] = PackedMove.create(from, enPassantSquare, pawn, captured, Board.NO_PIECE, PackedMove.FLAG_EN_PASSANT);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds a pawn move, or one move per promotion piece if the pawn reaches the last rank.
+     *
+     * @param moves         The array the moves are written to.
+     * @param count         The number of moves already in the array.
+     * @param from          The starting square of the pawn.
+     * @param to            The target square of the pawn.
+     * @param pawn          The moving pawn.
+     * @param captured      The captured piece, {@link Board#NO_PIECE} for pushes.
+     * @param promotionRank The bitboard of the last rank of the pawn.
+     * @return The number of moves in the array after adding the pawn move.
+     */
+    private static int addPawnMove(int[] moves, int count, int from, int to, int pawn, int captured, long promotionRank) {
+        if ((promotionRank & 1L << to) != 0) {
+            for (int promotion = pawn + Board.QUEEN; promotion > pawn; promotion--) {
+                moves[count++] = PackedMove.create(from, to, pawn, captured, promotion, PackedMove.FLAG_NONE);
+            }
+        } else {
+            moves[count++] = PackedMove.create(from, to, pawn, captured, Board.NO_PIECE, PackedMove.FLAG_NONE);
+        }
+        return count;
+    }
+
+    /**
+     * Generates the castling moves of the side to move.
+     *
+     * @param board The board to generate the moves for.
+     * @param moves The array the moves are written to.
+     * @param count The number of moves already in the array.
+     * @return The number of moves in the array after adding the castling moves.
+     */
+    private static int generateCastlingMoves(Board board, int[] moves, int count) {
+        boolean white = board.isWhiteToMove();
+        int rights = board.getCastlingRights();
+        int kingside = white ? Board.WHITE_KINGSIDE : Board.BLACK_KINGSIDE;
+        int queenside = white ? Board.WHITE_QUEENSIDE : Board.BLACK_QUEENSIDE;
+        if ((rights & (kingside | queenside)) == 0) {
+            return count;
+        }
+
+        // The king stands on e1 or e8
+        int king = white ? EPieceAbbreviation.WK.ordinal() : EPieceAbbreviation.BK.ordinal();
+        int from = white ? 3 : 59;
+        long occupancy = board.getOccupancy();
+        if (board.isSquareAttacked(from, !white)) {
+            return count;
+        }
+
+        // Kingside: the squares between king and rook on f and g have to be empty and may not be attacked
+        if ((rights & kingside) != 0 && (occupancy & BitHelper.between(from, from - 3)) == 0
+                && !board.isSquareAttacked(from - 1, !white) && !board.isSquareAttacked(from - 2, !white)) {
+            moves[count++] = PackedMove.create(from, from - 2, king, Board.NO_PIECE, Board.NO_PIECE, PackedMove.FLAG_CASTLING);
+        }
+
+        // Queenside: the squares between king and rook on b, c and d have to be empty, c and d may not be attacked
+        if ((rights & queenside) != 0 && (occupancy & BitHelper.between(from, from + 4)) == 0
+                && !board.isSquareAttacked(from + 1, !white) && !board.isSquareAttacked(from + 2, !white)) {
+            moves[count++] = PackedMove.create(from, from + 2, king, Board.NO_PIECE, Board.NO_PIECE, PackedMove.FLAG_CASTLING);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,121 @@
+package chessengine;
+
+/**
+ * Utility class for moves packed into a single {@code int}, as used by the {@link Board} and the {@link MoveGenerator}.
+ *
+ * <p>
+ * Unlike {@link Move}, which stores a snapshot of the whole game state for the GUI move history, a packed move only
+ * stores what is needed to make and unmake it on a {@link Board}, so move lists can be kept in primitive arrays.
+ * </p>
+ *
+ * <p>
+ * Layout of the bits:
+ * <ul>
+ *     <li>Bits 0 to 5 - Starting square.</li>
+ *     <li>Bits 6 to 11 - Target square.</li>
+ *     <li>Bits 12 to 15 - Moving piece ({@link EPieceAbbreviation} ordinal).</li>
+ *     <li>Bits 16 to 19 - Captured piece, {@link Board#NO_PIECE} for quiet moves.</li>
+ *     <li>Bits 20 to 23 - Promotion piece, {@link Board#NO_PIECE} for non-promotions.</li>
+ *     <li>Bits 24 to 26 - Flags for double pawn pushes, en passant captures and castling.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class PackedMove {
+    public static final int NO_MOVE = 0;
+
+    public static final int FLAG_NONE = 0;
+    public static final int FLAG_DOUBLE_PAWN_PUSH = 1;
+    public static final int FLAG_EN_PASSANT = 2;
+    public static final int FLAG_CASTLING = 4;
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private PackedMove() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Packs a move into an {@code int}.
+     *
+     * @param from      The starting square (0 to 63).
+     * @param to        The target square (0 to 63).
+     * @param piece     The moving piece.
+     * @param captured  The captured piece, {@link Board#NO_PIECE} if nothing is captured.
+     * @param promotion The piece the pawn promotes to, {@link Board#NO_PIECE} if the move is no promotion.
+     * @param flags     The special move flags.
+     * @return The packed move.
+     */
+    public static int create(int from, int to, int piece, int captured, int promotion, int flags) {
+        return from | to << 6 | piece << 12 | captured << 16 | promotion << 20 | flags << 24;
+    }
+
+    // Getter methods for the packed fields and flags
+    public static int getFrom(int move) {
+        return move & 0x3F;
+    }
+
+    public static int getTo(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int getPiece(int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    public static int getCapturedPiece(int move) {
+        return (move >>> 16) & 0xF;
+    }
+
+    public static int getPromotionPiece(int move) {
+        return (move >>> 20) & 0xF;
+    }
+
+    public static boolean isCapture(int move) {
+        return getCapturedPiece(move) != Board.NO_PIECE;
+    }
+
+    public static boolean isPromotion(int move) {
+        return getPromotionPiece(move) != Board.NO_PIECE;
+    }
+
+    public static boolean isDoublePawnPush(int move) {
+        return (move & FLAG_DOUBLE_PAWN_PUSH << 24) != 0;
+    }
+
+    public static boolean isEnPassant(int move) {
+        return (move & FLAG_EN_PASSANT << 24) != 0;
+    }
+
+    public static boolean isCastling(int move) {
+        return (move & FLAG_CASTLING << 24) != 0;
+    }
+
+    /**
+     * Returns a string representation of the move in long algebraic notation, e.g. {@code e2e4} or {@code e7e8q}.
+     *
+     * @param move The packed move.
+     * @return The move in long algebraic notation.
+     */
+    public static String toString(int move) {
+        if (move == NO_MOVE) {
+            return "0000";
+        }
+        // The GUI index counts from a8, the bitboard position from h1
+        short from = (short) (63 - getFrom(move));
+        short to = (short) (63 - getTo(move));
+        String notation = BoardHelper.indexToFile(from).toString() + BoardHelper.indexToRank(from)
+                + BoardHelper.indexToFile(to) + BoardHelper.indexToRank(to);
+        if (isPromotion(move)) {
+            notation += EPieceAbbreviation.values()[getPromotionPiece(move)].toString().toLowerCase().charAt(1);
+        }
+        return notation;
+    }
+}
@@ -0,0 +1,203 @@
+package chessengine;
+
+import java.util.Arrays;
+
+/**
+ * Utility class for labelled positions packed into a fixed-size record of {@value #SIZE} bytes, as written by the
+ * {@link SelfPlayGenerator}.
+ *
+ * <p>
+ * The piece placement is encoded from the twelve bitboards of the {@link Board}: the occupancy bitboard tells which
+ * squares hold a piece, and one four bit piece code per set bit, from the lowest to the highest square, tells which.
+ * A legal position has at most 32 pieces, so the codes take 16 bytes.
+ * </p>
+ *
+ * <p>
+ * Layout of the bytes, multi-byte values are little-endian:
+ * <ul>
+ *     <li>Bytes 0 to 7 - Occupancy bitboard.</li>
+ *     <li>Bytes 8 to 23 - Piece codes ({@link EPieceAbbreviation} ordinal), the first piece in the low half of byte
+ *     8.</li>
+ *     <li>Byte 24 - Bit 0 is set if black is to move, bits 1 to 4 hold the castling rights.</li>
+ *     <li>Byte 25 - En passant square plus one, {@code 0} if there is none.</li>
+ *     <li>Bytes 26 to 27 - Search score in centipawns from the perspective of white.</li>
+ *     <li>Byte 28 - Game result in half points for white: {@code 0}, {@code 1} or {@code 2}.</li>
+ *     <li>Byte 29 - Halfmove clock, capped at 255.</li>
+ *     <li>Bytes 30 to 31 - Fullmove number.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class PackedPosition {
+    public static final int SIZE = 32;
+    public static final int MAX_PIECES = 32;
+
+    private static final int PIECES_OFFSET = 8;
+    private static final int STATE_OFFSET = 24;
+    private static final int EN_PASSANT_OFFSET = 25;
+    private static final int SCORE_OFFSET = 26;
+    private static final int RESULT_OFFSET = 28;
+    private static final int HALFMOVE_OFFSET = 29;
+    private static final int FULLMOVE_OFFSET = 30;
+
+    private static final String FEN_PIECES = "PNBRQKpnbrqk";
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private PackedPosition() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Packs a position into a record.
+     *
+     * @param board      The board of the position.
+     * @param whiteScore The search score in centipawns from the perspective of white, clamped to a {@code short}.
+     * @param result     The game result in half points for white.
+     * @param record     The array receiving the record.
+     * @param offset     The index of the first byte of the record.
+     * @throws IllegalArgumentException if the position has more than {@value #MAX_PIECES} pieces.
+     */
+    public static void encode(Board board, int whiteScore, int result, byte[] record, int offset) {
+        long occupancy = board.getOccupancy();
+        if (BitHelper.countBits(occupancy) > MAX_PIECES) {
+            throw new IllegalArgumentException("Too many pieces: " + board.toFen());
+        }
+        putLong(record, offset, occupancy);
+
+        // Two piece codes per byte, an odd number of pieces leaves the high half of the last byte empty
+        Arrays.fill(record, offset + PIECES_OFFSET, offset + STATE_OFFSET, (byte) 0);
+        int count = 0;
+        for (long bits = occupancy; bits != 0; bits = BitHelper.clearLowestBit(bits)) {
+            int piece = board.getPieceAt(BitHelper.lowestBit(bits));
+            record[offset + PIECES_OFFSET + (count >>> 1)] |= (byte) (piece << ((count & 1) * 4));
+            count++;
+        }
+
+        record[offset + STATE_OFFSET] = (byte) ((board.isWhiteToMove() ? 0 : 1) | board.getCastlingRights() << 1);
+        record[offset + EN_PASSANT_OFFSET] = (byte) (board.getEnPassantSquare() + 1);
+        int score = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, whiteScore));
+        record[offset + SCORE_OFFSET] = (byte) score;
+        record[offset + SCORE_OFFSET + 1] = (byte) (score >> 8);
+        record[offset + RESULT_OFFSET] = (byte) result;
+        record[offset + HALFMOVE_OFFSET] = (byte) Math.min(255, board.getHalfmoveClock());
+        int fullmove = Math.min(0xFFFF, board.getFullmoveNumber());
+        record[offset + FULLMOVE_OFFSET] = (byte) fullmove;
+        record[offset + FULLMOVE_OFFSET + 1] = (byte) (fullmove >> 8);
+    }
+
+    /**
+     * Unpacks the position of a record.
+     *
+     * @param record The array holding the record.
+     * @param offset The index of the first byte of the record.
+     * @return The position in Forsyth-Edwards Notation.
+     */
+    public static String toFen(byte[] record, int offset) {
+        // Places the pieces on a mailbox first, the FEN lists the squares from a8 to h1
+        int[] mailbox = new int[64];
+        Arrays.fill(mailbox, Board.NO_PIECE);
+        int count = 0;
+        for (long bits = getLong(record, offset); bits != 0; bits = BitHelper.clearLowestBit(bits)) {
+            int codes = record[offset + PIECES_OFFSET + (count >>> 1)];
+            mailbox[BitHelper.lowestBit(bits)] = (codes >>> ((count & 1) * 4)) & 0xF;
+            count++;
+        }
+
+        StringBuilder fen = new StringBuilder(90);
+        for (int rank = 7; rank >= 0; rank--) {
+            int emptySquares = 0;
+            for (int file = 0; file < 8; file++) {
+                int piece = mailbox[Attacks.squareOf(file, rank)];
+                if (piece == Board.NO_PIECE) {
+                    emptySquares++;
+                    continue;
+                }
+                if (emptySquares > 0) {
+                    fen.append(emptySquares);
+                    emptySquares = 0;
+                }
+                fen.append(FEN_PIECES.charAt(piece));
+            }
+            if (emptySquares > 0) {
+                fen.append(emptySquares);
+            }
+            if (rank > 0) {
+                fen.append('/');
+            }
+        }
+
+        int state = record[offset + STATE_OFFSET];
+        int castlingRights = (state >>> 1) & 0xF;
+        fen.append((state & 1) == 0 ? " w " : " b ");
+        fen.append(castlingRights == 0 ? "-" : "");
+        fen.append((castlingRights & Board.WHITE_KINGSIDE) != 0 ? "K" : "");
+        fen.append((castlingRights & Board.WHITE_QUEENSIDE) != 0 ? "Q" : "");
+        fen.append((castlingRights & Board.BLACK_KINGSIDE) != 0 ? "k" : "");
+        fen.append((castlingRights & Board.BLACK_QUEENSIDE) != 0 ? "q" : "");
+        int enPassantSquare = record[offset + EN_PASSANT_OFFSET] - 1;
+        if (enPassantSquare == Board.NO_SQUARE) {
+            fen.append(" -");
+        } else {
+            fen.append(' ').append((char) ('a' + Attacks.fileOf(enPassantSquare))).append(Attacks.rankOf(enPassantSquare) + 1);
+        }
+        fen.append(' ').append(record[offset + HALFMOVE_OFFSET] & 0xFF);
+        fen.append(' ').append(record[offset + FULLMOVE_OFFSET] & 0xFF | (record[offset + FULLMOVE_OFFSET + 1] & 0xFF) << 8);
+        return fen.toString();
+    }
+
+    // Getter methods for the label of a record
+    public static int getWhiteScore(byte[] record, int offset) {
+        return (short) (record[offset + SCORE_OFFSET] & 0xFF | record[offset + SCORE_OFFSET + 1] << 8);
+    }
+
+    public static int getResult(byte[] record, int offset) {
+        return record[offset + RESULT_OFFSET];
+    }
+
+    /**
+     * Replaces the game result of a record, e.g. once the game of an already packed position is over.
+     *
+     * @param record The array holding the record.
+     * @param offset The index of the first byte of the record.
+     * @param result The game result in half points for white.
+     */
+    public static void setResult(byte[] record, int offset, int result) {
+        record[offset + RESULT_OFFSET] = (byte) result;
+    }
+
+    /**
+     * Writes a {@code long} in little-endian byte order.
+     *
+     * @param record The array to write to.
+     * @param offset The index of the first byte.
+     * @param value  The value.
+     */
+    private static void putLong(byte[] record, int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            record[offset + i] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    /**
+     * Reads a {@code long} in little-endian byte order.
+     *
+     * @param record The array to read from.
+     * @param offset The index of the first byte.
+     * @return The value.
+     */
+    private static long getLong(byte[] record, int offset) {
+        long value = 0L;
+        for (int i = 0; i < 8; i++) {
+            value |= (record[offset + i] & 0xFFL) << (i * 8);
+        }
+        return value;
+    }
+}
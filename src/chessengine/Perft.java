@@ -0,0 +1,91 @@
+package chessengine;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Utility class counting the leaf nodes of the legal move tree of a {@link Board} position (performance test).
+ *
+ * <p>
+ * The {@code Perft} class includes static methods for:
+ * <ul>
+ *     <li>Counting all leaf nodes up to a fixed depth.</li>
+ *     <li>Counting the leaf nodes per root move (divide), which helps locating move generation errors.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The move lists of all plies are allocated once per call, so the recursion itself does not allocate.
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Perft {
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private Perft() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree up to the given depth.
+     *
+     * @param board The board to count the leaf nodes from, it is unchanged afterwards.
+     * @param depth The depth in plies.
+     * @return The number of leaf nodes.
+     */
+    public static long perft(Board board, int depth) {
+        if (depth <= 0) {
+            return 1;
+        }
+        return perft(board, depth, new int[depth][MoveGenerator.MAX_MOVES]);
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree up to the given depth using preallocated move lists.
+     *
+     * @param board     The board to count the leaf nodes from.
+     * @param depth     The remaining depth in plies, at least {@code 1}.
+     * @param moveLists One move list per remaining ply.
+     * @return The number of leaf nodes.
+     */
+    private static long perft(Board board, int depth, int[][] moveLists) {
+        int[] moves = moveLists[depth - 1];
+        int count = MoveGenerator.generateLegalMoves(board, moves);
+        // The leaf nodes of the last ply are the legal moves, so they do not have to be made
+        if (depth == 1) {
+            return count;
+        }
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            board.makeMove(moves[i]);
+            nodes += perft(board, depth - 1, moveLists);
+            board.unmakeMove(moves[i]);
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree per root move.
+     *
+     * @param board The board to count the leaf nodes from, it is unchanged afterwards.
+     * @param depth The depth in plies, at least {@code 1}.
+     * @return A map of every root move in long algebraic notation to its number of leaf nodes.
+     */
+    public static LinkedHashMap<String, Long> divide(Board board, int depth) {
+        LinkedHashMap<String, Long> result = new LinkedHashMap<>();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < count; i++) {
+            board.makeMove(moves[i]);
+            result.put(PackedMove.toString(moves[i]), perft(board, depth - 1));
+            board.unmakeMove(moves[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package chessengine;
+
+import java.util.Arrays;
+
+/**
+ * The {@code PositionHistory} class stores the keys of all positions reached in a game together with their halfmove clocks.
+ *
+ * <p>
+ * Keys and halfmove clocks are kept in primitive arrays, so pushing, popping and checking for draws does not allocate
+ * (the arrays only grow when their capacity is exceeded). This allows the same instance to be used by the game and
+ * inside a search.
+ * </p>
+ *
+ * <p>
+ * The halfmove clock counts the plies since the last irreversible move (capture or pawn move). Positions before an
+ * irreversible move can never occur again, so repetition checks only scan back that far and only look at positions
+ * with the same side to move.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class PositionHistory {
+    private static final int DEFAULT_CAPACITY = 512;
+    private static final short FIFTY_MOVE_RULE_PLIES = 100;
+
+    private long[] keys;
+    private short[] halfmoveClocks;
+    private int size;
+
+    /**
+     * Constructs an empty {@code PositionHistory} with the default capacity.
+     */
+    public PositionHistory() {
+        keys = new long[DEFAULT_CAPACITY];
+        halfmoveClocks = new short[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructs a {@code PositionHistory} holding the same positions as another one.
+     *
+     * @param other The position history to copy.
+     */
+    public PositionHistory(PositionHistory other) {
+        keys = other.keys.clone();
+        halfmoveClocks = other.halfmoveClocks.clone();
+        size = other.size;
+    }
+
+    /**
+     * Pushes the key of a newly reached position together with its halfmove clock.
+     *
+     * @param key           The 64-bit key of the position.
+     * @param halfmoveClock The number of plies since the last irreversible move.
+     */
+    public void push(long key, short halfmoveClock) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            halfmoveClocks = Arrays.copyOf(halfmoveClocks, size * 2);
+        }
+        keys[size] = key;
+        halfmoveClocks[size] = halfmoveClock;
+        size++;
+    }
+
+    /**
+     * Removes the latest position from the history.
+     */
+    public void pop() {
+        if (size > 0) {
+            size--;
+        }
+    }
+
+    /**
+     * Removes all positions from the history.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Retrieves the number of positions in the history.
+     *
+     * @return The number of positions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the key of the latest position.
+     *
+     * @return The key of the latest position.
+     */
+    public long getCurrentKey() {
+        return keys[size - 1];
+    }
+
+    /**
+     * Retrieves the halfmove clock of the latest position.
+     *
+     * @return The number of plies since the last irreversible move.
+     */
+    public short getCurrentHalfmoveClock() {
+        return halfmoveClocks[size - 1];
+    }
+
+    /**
+     * Counts how often the latest position occurred before.
+     *
+     * <p>
+     * Only positions with the same side to move since the last irreversible move are compared.
+     * </p>
+     *
+     * @return The number of earlier occurrences of the latest position.
+     */
+    public int countRepetitions() {
+        if (size == 0) {
+            return 0;
+        }
+        long key = keys[size - 1];
+        int oldest = Math.max(0, size - 1 - halfmoveClocks[size - 1]);
+        int repetitions = 0;
+        for (int i = size - 3; i >= oldest; i -= 2) {
+            if (keys[i] == key) {
+                repetitions++;
+            }
+        }
+        return repetitions;
+    }
+
+    /**
+     * Checks if the latest position occurred at least once before.
+     *
+     * <p>
+     * Intended for the search, where a single repetition is already scored as a draw.
+     * </p>
+     *
+     * @return {@code true} if the latest position is a repetition; {@code false} otherwise.
+     */
+    public boolean isRepetition() {
+        if (size == 0) {
+            return false;
+        }
+        long key = keys[size - 1];
+        int oldest = Math.max(0, size - 1 - halfmoveClocks[size - 1]);
+        for (int i = size - 3; i >= oldest; i -= 2) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the latest position occurred for the third time.
+     *
+     * @return {@code true} if the game is drawn by threefold repetition; {@code false} otherwise.
+     */
+    public boolean isThreefoldRepetition() {
+        return countRepetitions() >= 2;
+    }
+
+    /**
+     * Checks if no capture or pawn move was played in the last fifty moves of each side.
+     *
+     * @return {@code true} if the game is drawn by the fifty-move rule; {@code false} otherwise.
+     */
+    public boolean isFiftyMoveRule() {
+        return size > 0 && halfmoveClocks[size - 1] >= FIFTY_MOVE_RULE_PLIES;
+    }
+}
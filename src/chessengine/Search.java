@@ -0,0 +1,778 @@
+package chessengine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code Search} class finds the best move of a {@link Board} position.
+ *
+ * <p>
+ * It runs an iterative deepening principal variation search with alpha-beta pruning and a quiescence search over
+ * captures and promotions. Results are cached in a {@link TranspositionTable}, which may be shared with other
+ * searches. Moves are ordered by the move of the transposition table, captures by most valuable victim and least
+ * valuable attacker, killer moves and the history heuristic.
+ * </p>
+ *
+ * <p>
+ * The search is selective: null move pruning, late move reductions, reverse futility pruning and futility pruning
+ * skip or reduce moves which are unlikely to change the result, check extensions search checks deeper. Each technique
+ * is an {@link ESearchFeature}, which can be switched on and off at runtime to measure its effect. A change takes
+ * effect with the next search.
+ * </p>
+ *
+ * <p>
+ * In MultiPV mode every iteration searches the root once per line, excluding the root moves of the lines found
+ * before. The transposition table is shared between the lines, so all but the first line mostly reuse the entries of
+ * the subtrees searched before and the extra cost stays well below one full search per line.
+ * </p>
+ *
+ * <p>
+ * A search started in ponder mode searches the position expected after the opponent's reply and ignores its limits
+ * until {@link #ponderHit()} is called. The time spent pondering counts towards the time limit, so after a long think
+ * of the opponent the search stops at once and returns the deepest completed iteration.
+ * </p>
+ *
+ * <p>
+ * A thread which hands a search to another thread calls {@link #prepareRun()} before, which clears the stop request
+ * and the ponder hit of the previous run. A {@link #stop()} or {@link #ponderHit()} arriving after that but before the
+ * search starts is therefore not lost: the search applies it when it starts, or at its next check of the limits.
+ * </p>
+ *
+ * <p>
+ * A search instance is used by one thread at a time and collects its counters in its own {@link SearchMetrics}.
+ * After every completed iteration a {@link SearchIterationEvent} is committed to the Java Flight Recorder.
+ * Move lists and tables are allocated once per instance, so searching does not allocate per node.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Search {
+    public static final int MAX_PLY = 128;
+    public static final int INFINITY = 32000;
+    public static final int MATE_SCORE = 31000;
+    public static final int MATE_BOUND = MATE_SCORE - MAX_PLY;
+
+    // Nodes between two checks of the limits
+    private static final int CHECK_INTERVAL = 2048;
+
+    // Move ordering scores
+    private static final int TT_MOVE_SCORE = 1_000_000;
+    private static final int CAPTURE_SCORE = 100_000;
+    private static final int FIRST_KILLER_SCORE = 90_000;
+    private static final int SECOND_KILLER_SCORE = 80_000;
+
+    // Selectivity parameters
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int NULL_MOVE_VERIFICATION_DEPTH = 10;
+    private static final int LATE_MOVE_MIN_DEPTH = 3;
+    private static final int LATE_MOVE_MIN_MOVES = 3;
+    private static final int REVERSE_FUTILITY_MAX_DEPTH = 3;
+    private static final int REVERSE_FUTILITY_MARGIN = 100;
+    private static final int[] FUTILITY_MARGINS = {0, 150, 300};
+
+    // Reductions of late moves by depth and move number, growing with the logarithm of both
+    private static final int[][] LATE_MOVE_REDUCTIONS = new int[64][64];
+
+    static {
+        for (int depth = 1; depth < 64; depth++) {
+            for (int moveNumber = 1; moveNumber < 64; moveNumber++) {
+                LATE_MOVE_REDUCTIONS[depth][moveNumber] = (int) (0.75 + Math.log(depth) * Math.log(moveNumber) / 2.25);
+            }
+        }
+    }
+
+    private final TranspositionTable transpositionTable;
+    private final SearchMetrics metrics;
+
+    private final int[][] moveLists;
+    private final int[][] moveScores;
+    private final int[][] killerMoves;
+    private final int[][] historyScores;
+    private final int[][] principalVariations;
+    private final int[] principalVariationLengths;
+    private final int[] excludedRootMoves;
+
+    private Board board;
+    private SearchLimits limits;
+    private long deadlineNanos;
+    private int excludedRootMoveCount;
+    private volatile int multiPv = 1;
+    private volatile int enabledFeatures = (1 << ESearchFeature.values().length) - 1;
+    private volatile boolean agePerSearch = true;
+    private boolean nullMovePruning;
+    private boolean lateMoveReductions;
+    private boolean reverseFutilityPruning;
+    private boolean futilityPruning;
+    private boolean checkExtensions;
+    private volatile boolean stopped;
+    private volatile boolean pondering;
+    private volatile boolean stopRequested;
+    private volatile boolean ponderHitRequested;
+    private volatile Consumer<SearchResult> iterationListener;
+
+    /**
+     * Constructs a {@code Search} using the given transposition table.
+     *
+     * @param transpositionTable The transposition table, may be shared with other searches.
+     */
+    public Search(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+        metrics = new SearchMetrics();
+        moveLists = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+        moveScores = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+        killerMoves = new int[MAX_PLY][2];
+        historyScores = new int[12][64];
+        principalVariations = new int[MAX_PLY][MAX_PLY];
+        principalVariationLengths = new int[MAX_PLY];
+        excludedRootMoves = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    /**
+     * Searches the best move of a position within the given limits.
+     *
+     * <p>
+     * The board is used for the search and has the same position again afterwards.
+     * </p>
+     *
+     * @param board  The board to search.
+     * @param limits The limits of the search.
+     * @return The result of the last completed iteration.
+     */
+    public SearchResult search(Board board, SearchLimits limits) {
+        return search(board, limits, false);
+    }
+
+    /**
+     * Searches the best move of a position within the given limits, optionally in ponder mode.
+     *
+     * <p>
+     * In ponder mode the limits only apply after {@link #ponderHit()}, until then the search runs until it is stopped.
+     * The time limit is measured from the start of the search, including the time spent pondering.
+     * </p>
+     *
+     * @param board  The board to search.
+     * @param limits The limits of the search.
+     * @param ponder {@code true} to search in ponder mode; {@code false} for a normal search.
+     * @return The result of the last completed iteration.
+     */
+    public SearchResult search(Board board, SearchLimits limits, boolean ponder) {
+        this.board = board;
+        this.limits = limits;
+        // Requests of the current run which arrived before the search started are applied, see checkLimits
+        stopped = stopRequested;
+        pondering = ponder && !ponderHitRequested;
+        int features = enabledFeatures;
+        nullMovePruning = (features & ESearchFeature.NULL_MOVE_PRUNING.getMask()) != 0;
+        lateMoveReductions = (features & ESearchFeature.LATE_MOVE_REDUCTIONS.getMask()) != 0;
+        reverseFutilityPruning = (features & ESearchFeature.REVERSE_FUTILITY_PRUNING.getMask()) != 0;
+        futilityPruning = (features & ESearchFeature.FUTILITY_PRUNING.getMask()) != 0;
+        checkExtensions = (features & ESearchFeature.CHECK_EXTENSIONS.getMask()) != 0;
+        deadlineNanos = limits.timeMillis() > 0 ? System.nanoTime() + limits.timeMillis() * 1_000_000 : Long.MAX_VALUE;
+        for (int[] killers : killerMoves) {
+            Arrays.fill(killers, PackedMove.NO_MOVE);
+        }
+        for (int[] history : historyScores) {
+            Arrays.fill(history, 0);
+        }
+        if (agePerSearch) {
+            transpositionTable.incrementAge();
+        }
+        metrics.start();
+
+        SearchResult result = new SearchResult(PackedMove.NO_MOVE, 0, 0, new int[0], metrics.getLatestSnapshot(), List.of());
+        int maxDepth = limits.depth() > 0 ? Math.min(limits.depth(), MAX_PLY - 1) : MAX_PLY - 1;
+        int lineCount = multiPv;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            SearchIterationEvent event = new SearchIterationEvent();
+            event.begin();
+
+            List<SearchLine> lines = searchLines(depth, lineCount);
+            // An interrupted iteration is incomplete, so the result of the previous iteration is kept
+            if (lines == null) {
+                break;
+            }
+
+            SearchLine bestLine = lines.getFirst();
+            SearchMetrics.Snapshot snapshot = metrics.completeIteration(depth);
+            result = new SearchResult(bestLine.move(), bestLine.score(), depth, bestLine.principalVariation(), snapshot, lines);
+            commitIterationEvent(event, result);
+            Consumer<SearchResult> listener = iterationListener;
+            if (listener != null) {
+                listener.accept(result);
+            }
+
+            if (stopped || bestLine.move() == PackedMove.NO_MOVE || bestLine.isMate()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Searches the root once per line, excluding the root moves of the lines found before.
+     *
+     * @param depth     The depth of the iteration.
+     * @param lineCount The number of lines to search.
+     * @return The lines ordered from best to worst, or {@code null} if the iteration was interrupted.
+     */
+    private List<SearchLine> searchLines(int depth, int lineCount) {
+        List<SearchLine> lines = new ArrayList<>(lineCount);
+        excludedRootMoveCount = 0;
+        for (int line = 0; line < lineCount; line++) {
+            int score = negamax(depth, -INFINITY, INFINITY, 0, true);
+            if (stopped && depth > 1) {
+                excludedRootMoveCount = 0;
+                return null;
+            }
+            // The first iteration is kept even if interrupted, so the search always returns a move
+            if (stopped && line > 0) {
+                break;
+            }
+
+            int[] principalVariation = Arrays.copyOf(principalVariations[0], principalVariationLengths[0]);
+            // Without a principal variation all root moves are excluded, or there is no legal move at all
+            if (principalVariation.length == 0 && line > 0) {
+                break;
+            }
+            lines.add(new SearchLine(score, principalVariation));
+            if (principalVariation.length == 0 || stopped) {
+                break;
+            }
+            excludedRootMoves[excludedRootMoveCount++] = principalVariation[0];
+        }
+        excludedRootMoveCount = 0;
+
+        // Lines found later may score higher than earlier ones, as the search is not exact
+        lines.sort(Comparator.comparingInt(SearchLine::score).reversed());
+        return lines;
+    }
+
+    /**
+     * Fills the iteration event with the result and commits it if the event is enabled.
+     *
+     * @param event  The event started at the beginning of the iteration.
+     * @param result The result of the iteration.
+     */
+    private void commitIterationEvent(SearchIterationEvent event, SearchResult result) {
+        event.end();
+        if (event.shouldCommit()) {
+            SearchMetrics.Snapshot snapshot = result.metrics();
+            event.depth = result.depth();
+            event.score = result.score();
+            event.bestMove = PackedMove.toString(result.bestMove());
+            event.nodes = snapshot.nodes();
+            event.quiescenceNodes = snapshot.quiescenceNodes();
+            event.nodesPerSecond = snapshot.nodesPerSecond();
+            event.ttProbes = snapshot.ttProbes();
+            event.ttHits = snapshot.ttHits();
+            event.ttHitRate = snapshot.ttHitRate();
+            event.firstMoveCutoffRate = snapshot.firstMoveCutoffRate();
+            event.effectiveBranchingFactor = snapshot.effectiveBranchingFactor();
+            event.timeToDepth = snapshot.timeToDepth()[result.depth()];
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts a new run of the search, clearing the stop request and the ponder hit of the previous run. Called by the
+     * thread which hands the search to another thread, before handing it over.
+     */
+    public void prepareRun() {
+        stopRequested = false;
+        ponderHitRequested = false;
+    }
+
+    /**
+     * Stops the search as soon as possible, can be called by any thread. The request lasts until the next
+     * {@link #prepareRun()}, so a search which has not started yet stops right after starting.
+     */
+    public void stop() {
+        stopRequested = true;
+        stopped = true;
+    }
+
+    /**
+     * Switches a search in ponder mode to a normal search, which stops at its limits from now on.
+     * Can be called by any thread. Like {@link #stop()}, the request lasts until the next {@link #prepareRun()}.
+     */
+    public void ponderHit() {
+        ponderHitRequested = true;
+        pondering = false;
+    }
+
+    /**
+     * Checks if the search is in ponder mode, i.e. started in ponder mode without a ponder hit yet.
+     *
+     * @return {@code true} if the search is pondering; {@code false} otherwise.
+     */
+    public boolean isPondering() {
+        return pondering;
+    }
+
+    /**
+     * Sets whether every search starts a new age of the transposition table. Searches which run concurrently for one
+     * job on a shared table switch it off, and the job increments the age once, so the deep entries of sibling
+     * searches are not replaced as stale. The setting takes effect with the next search.
+     *
+     * @param agePerSearch {@code true} to increment the age per search, the default; {@code false} to leave it to the
+     *                     caller.
+     */
+    public void setAgePerSearch(boolean agePerSearch) {
+        this.agePerSearch = agePerSearch;
+    }
+
+    /**
+     * Sets the number of lines searched per iteration, each starting with a different root move.
+     * The setting takes effect with the next search.
+     *
+     * @param multiPv The number of lines, {@code 1} for a normal search.
+     * @throws IllegalArgumentException if the number of lines is not positive.
+     */
+    public void setMultiPv(int multiPv) {
+        if (multiPv < 1) {
+            throw new IllegalArgumentException("MultiPV must be positive: " + multiPv);
+        }
+        this.multiPv = multiPv;
+    }
+
+    public int getMultiPv() {
+        return multiPv;
+    }
+
+    /**
+     * Switches a selectivity technique on or off. The setting takes effect with the next search.
+     *
+     * @param feature The technique.
+     * @param enabled {@code true} to use the technique; {@code false} otherwise.
+     */
+    public synchronized void setFeatureEnabled(ESearchFeature feature, boolean enabled) {
+        enabledFeatures = enabled ? enabledFeatures | feature.getMask() : enabledFeatures & ~feature.getMask();
+    }
+
+    /**
+     * Checks if a selectivity technique is switched on.
+     *
+     * @param feature The technique.
+     * @return {@code true} if the technique is used; {@code false} otherwise.
+     */
+    public boolean isFeatureEnabled(ESearchFeature feature) {
+        return (enabledFeatures & feature.getMask()) != 0;
+    }
+
+    /**
+     * Sets a listener receiving the result of every completed iteration, e.g. to show the progress of a long search.
+     * The listener is called on the thread running the search.
+     *
+     * @param iterationListener The listener, {@code null} to remove it.
+     */
+    public void setIterationListener(Consumer<SearchResult> iterationListener) {
+        this.iterationListener = iterationListener;
+    }
+
+    /**
+     * Retrieves the metrics of this search.
+     *
+     * @return The {@link SearchMetrics} of the search.
+     */
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Checks the limits of the search every few thousand nodes and stops the search if one is reached.
+     * The limits are ignored while pondering.
+     *
+     * <p>
+     * A stop or ponder hit arriving while the search starts may be overwritten by the start, so the requests are
+     * applied here again.
+     * </p>
+     */
+    private void checkLimits() {
+        if ((metrics.nodes & (CHECK_INTERVAL - 1)) == 0) {
+            if (stopRequested) {
+                stopped = true;
+            }
+            if (ponderHitRequested) {
+                pondering = false;
+            }
+            if (!pondering && (System.nanoTime() >= deadlineNanos || (limits.nodes() > 0 && metrics.nodes >= limits.nodes()))) {
+                stopped = true;
+            }
+            metrics.publishIfDue();
+        }
+    }
+
+    /**
+     * Searches a position with the principal variation search.
+     *
+     * @param depth           The remaining depth in plies.
+     * @param alpha           The lower bound of the score.
+     * @param beta            The upper bound of the score.
+     * @param ply             The distance to the root in plies.
+     * @param nullMoveAllowed {@code false} directly after a null move and in its verification search.
+     * @return The score from the perspective of the side to move.
+     */
+    private int negamax(int depth, int alpha, int beta, int ply, boolean nullMoveAllowed) {
+        principalVariationLengths[ply] = 0;
+
+        // Repetitions and the fifty-move rule are draws within the search
+        PositionHistory positionHistory = board.getPositionHistory();
+        if (ply > 0 && (positionHistory.isRepetition() || positionHistory.isFiftyMoveRule())) {
+            return 0;
+        }
+
+        // Checks are searched one ply deeper, so a check at the horizon is not misjudged by the quiescence search
+        boolean inCheck = board.isInCheck();
+        if (inCheck && checkExtensions) {
+            depth++;
+        }
+
+        if (depth <= 0 || ply >= MAX_PLY - 1) {
+            return quiescence(alpha, beta, ply);
+        }
+
+        metrics.nodes++;
+        checkLimits();
+        if (stopped) {
+            return 0;
+        }
+
+        // Probes the transposition table for a cutoff and the best move of an earlier search
+        long key = board.getKey();
+        metrics.ttProbes++;
+        long entry = transpositionTable.probe(key);
+        int ttMove = PackedMove.NO_MOVE;
+        if (entry != 0) {
+            metrics.ttHits++;
+            ttMove = TranspositionTable.getMove(entry);
+            if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                int ttScore = scoreFromTable(TranspositionTable.getScore(entry), ply);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT
+                        || (bound == TranspositionTable.BOUND_LOWER && ttScore >= beta)
+                        || (bound == TranspositionTable.BOUND_UPPER && ttScore <= alpha)) {
+                    return ttScore;
+                }
+            }
+        }
+
+        boolean white = board.isWhiteToMove();
+        boolean pvNode = beta - alpha > 1;
+        boolean pruningAllowed = ply > 0 && !pvNode && !inCheck && Math.abs(beta) < MATE_BOUND;
+        int staticEval = pruningAllowed ? Evaluation.evaluate(board) : -INFINITY;
+
+        // Reverse futility pruning: the static evaluation exceeds beta by more than any move could lose
+        if (pruningAllowed && reverseFutilityPruning && depth <= REVERSE_FUTILITY_MAX_DEPTH
+                && staticEval - REVERSE_FUTILITY_MARGIN * depth >= beta) {
+            return staticEval;
+        }
+
+        // Null move pruning: if passing still fails high, a real move will fail high as well. Without pieces besides
+        // pawns the side to move is often in zugzwang, where passing would be better than any move.
+        if (pruningAllowed && nullMovePruning && nullMoveAllowed && depth >= NULL_MOVE_MIN_DEPTH && staticEval >= beta
+                && hasPiecesBesidesPawns(white)) {
+            int reduction = 2 + depth / 4;
+            board.makeNullMove();
+            int score = -negamax(depth - 1 - reduction, -beta, -beta + 1, ply + 1, false);
+            board.unmakeNullMove();
+            if (stopped) {
+                return 0;
+            }
+            if (score >= beta) {
+                // Deep cutoffs are verified by a reduced search without null move to catch remaining zugzwangs
+                if (depth < NULL_MOVE_VERIFICATION_DEPTH
+                        || negamax(depth - 1 - reduction, beta - 1, beta, ply, false) >= beta) {
+                    metrics.nullMoveCutoffs++;
+                    return score >= MATE_BOUND ? beta : score;
+                }
+            }
+        }
+
+        int[] moves = moveLists[ply];
+        int count = MoveGenerator.generatePseudoLegalMoves(board, moves);
+        scoreMoves(moves, moveScores[ply], count, ttMove, ply);
+        boolean futile = pruningAllowed && futilityPruning && depth < FUTILITY_MARGINS.length
+                && staticEval + FUTILITY_MARGINS[depth] <= alpha;
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = PackedMove.NO_MOVE;
+        int legalMoves = 0;
+        for (int i = 0; i < count; i++) {
+            int move = selectMove(moves, moveScores[ply], count, i);
+            if (ply == 0 && isExcludedRootMove(move)) {
+                continue;
+            }
+            board.makeMove(move);
+            if (board.isKingAttacked(white)) {
+                board.unmakeMove(move);
+                continue;
+            }
+            legalMoves++;
+
+            boolean quiet = !PackedMove.isCapture(move) && !PackedMove.isPromotion(move);
+            boolean givesCheck = board.isInCheck();
+
+            // Futility pruning: quiet moves near the leaves cannot raise the static evaluation to alpha
+            if (futile && legalMoves > 1 && quiet && !givesCheck) {
+                board.unmakeMove(move);
+                bestScore = Math.max(bestScore, staticEval + FUTILITY_MARGINS[depth]);
+                metrics.futilityPrunedMoves++;
+                continue;
+            }
+
+            // The first move is searched with the full window, later moves with a null window first
+            int score;
+            if (legalMoves == 1) {
+                score = -negamax(depth - 1, -beta, -alpha, ply + 1, true);
+            } else {
+                // Late quiet moves are searched with reduced depth first
+                int reduction = 0;
+                if (lateMoveReductions && depth >= LATE_MOVE_MIN_DEPTH && legalMoves > LATE_MOVE_MIN_MOVES && quiet
+                        && !inCheck && !givesCheck && move != killerMoves[ply][0] && move != killerMoves[ply][1]) {
+                    reduction = LATE_MOVE_REDUCTIONS[Math.min(depth, 63)][Math.min(legalMoves, 63)];
+                    reduction = Math.max(0, Math.min(reduction - (pvNode ? 1 : 0), depth - 2));
+                }
+                score = -negamax(depth - 1 - reduction, -alpha - 1, -alpha, ply + 1, true);
+                if (reduction > 0 && score > alpha) {
+                    metrics.lateMoveResearches++;
+                    score = -negamax(depth - 1, -alpha - 1, -alpha, ply + 1, true);
+                }
+                if (score > alpha && score < beta) {
+                    score = -negamax(depth - 1, -beta, -alpha, ply + 1, true);
+                }
+            }
+            board.unmakeMove(move);
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(move, ply);
+                    if (score >= beta) {
+                        metrics.betaCutoffs++;
+                        if (legalMoves == 1) {
+                            metrics.firstMoveBetaCutoffs++;
+                        }
+                        if (quiet) {
+                            updateQuietMoveHeuristics(move, depth, ply);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        // Without legal moves the side to move is either mated or stalemated
+        if (legalMoves == 0) {
+            return inCheck ? -MATE_SCORE + ply : 0;
+        }
+
+        // The root result of a search excluding moves is not the result of the position
+        if (ply > 0 || excludedRootMoveCount == 0) {
+            int bound = bestScore >= beta ? TranspositionTable.BOUND_LOWER
+                    : bestScore > originalAlpha ? TranspositionTable.BOUND_EXACT : TranspositionTable.BOUND_UPPER;
+            transpositionTable.store(key, bestMove, scoreToTable(bestScore, ply), depth, bound);
+        }
+        return bestScore;
+    }
+
+    /**
+     * Checks if a side has pieces besides pawns and the king, which makes zugzwang unlikely.
+     *
+     * @param white {@code true} for white; {@code false} for black.
+     * @return {@code true} if the side has a knight, bishop, rook or queen; {@code false} otherwise.
+     */
+    private boolean hasPiecesBesidesPawns(boolean white) {
+        int offset = white ? 0 : 6;
+        return (board.getBitboard(offset + 1) | board.getBitboard(offset + 2) | board.getBitboard(offset + 3)
+                | board.getBitboard(offset + 4)) != 0;
+    }
+
+    /**
+     * Checks if a root move is excluded because a previous line of the iteration starts with it.
+     *
+     * @param move The root move.
+     * @return {@code true} if the move is excluded; {@code false} otherwise.
+     */
+    private boolean isExcludedRootMove(int move) {
+        for (int i = 0; i < excludedRootMoveCount; i++) {
+            if (excludedRootMoves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches captures and promotions until the position is quiet to avoid misjudging pending exchanges.
+     *
+     * @param alpha The lower bound of the score.
+     * @param beta  The upper bound of the score.
+     * @param ply   The distance to the root in plies.
+     * @return The score from the perspective of the side to move.
+     */
+    private int quiescence(int alpha, int beta, int ply) {
+        metrics.nodes++;
+        metrics.quiescenceNodes++;
+        checkLimits();
+        if (stopped) {
+            return 0;
+        }
+
+        // The side to move may decline all captures, so the static evaluation is a lower bound
+        int standPat = Evaluation.evaluate(board);
+        if (standPat >= beta || ply >= MAX_PLY - 1) {
+            return standPat;
+        }
+        alpha = Math.max(alpha, standPat);
+
+        boolean white = board.isWhiteToMove();
+        int[] moves = moveLists[ply];
+        int count = MoveGenerator.generatePseudoLegalCaptures(board, moves);
+        scoreMoves(moves, moveScores[ply], count, PackedMove.NO_MOVE, ply);
+
+        int bestScore = standPat;
+        for (int i = 0; i < count; i++) {
+            int move = selectMove(moves, moveScores[ply], count, i);
+            board.makeMove(move);
+            if (board.isKingAttacked(white)) {
+                board.unmakeMove(move);
+                continue;
+            }
+            int score = -quiescence(-beta, -alpha, ply + 1);
+            board.unmakeMove(move);
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (score >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    /**
+     * Assigns an ordering score to every move.
+     *
+     * @param moves  The moves to score.
+     * @param scores The array the scores are written to.
+     * @param count  The number of moves.
+     * @param ttMove The best move of the transposition table.
+     * @param ply    The distance to the root in plies.
+     */
+    private void scoreMoves(int[] moves, int[] scores, int count, int ttMove, int ply) {
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            if (move == ttMove) {
+                scores[i] = TT_MOVE_SCORE;
+            } else if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+                // Most valuable victim, least valuable attacker
+                int victim = PackedMove.isCapture(move) ? Evaluation.MIDDLEGAME_VALUES[PackedMove.getCapturedPiece(move) % 6] : 0;
+                int promotion = PackedMove.isPromotion(move) ? Evaluation.MIDDLEGAME_VALUES[PackedMove.getPromotionPiece(move) % 6] : 0;
+                scores[i] = CAPTURE_SCORE + (victim + promotion) * 8 - PackedMove.getPiece(move) % 6;
+            } else if (move == killerMoves[ply][0]) {
+                scores[i] = FIRST_KILLER_SCORE;
+            } else if (move == killerMoves[ply][1]) {
+                scores[i] = SECOND_KILLER_SCORE;
+            } else {
+                scores[i] = historyScores[PackedMove.getPiece(move)][PackedMove.getTo(move)];
+            }
+        }
+    }
+
+    /**
+     * Moves the move with the highest ordering score among the remaining moves to the given index.
+     *
+     * @param moves  The moves.
+     * @param scores The ordering scores of the moves.
+     * @param count  The number of moves.
+     * @param index  The index of the next move to search.
+     * @return The move with the highest remaining ordering score.
+     */
+    private static int selectMove(int[] moves, int[] scores, int count, int index) {
+        int best = index;
+        for (int i = index + 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        int move = moves[best];
+        moves[best] = moves[index];
+        moves[index] = move;
+        int score = scores[best];
+        scores[best] = scores[index];
+        scores[index] = score;
+        return move;
+    }
+
+    /**
+     * Updates the killer moves and the history of a quiet move which caused a beta-cutoff.
+     *
+     * @param move  The quiet move.
+     * @param depth The remaining depth in plies.
+     * @param ply   The distance to the root in plies.
+     */
+    private void updateQuietMoveHeuristics(int move, int depth, int ply) {
+        if (killerMoves[ply][0] != move) {
+            killerMoves[ply][1] = killerMoves[ply][0];
+            killerMoves[ply][0] = move;
+        }
+        int[] history = historyScores[PackedMove.getPiece(move)];
+        int to = PackedMove.getTo(move);
+        history[to] = Math.min(history[to] + depth * depth, SECOND_KILLER_SCORE - 1);
+    }
+
+    /**
+     * Prepends a move to the principal variation of the next ply.
+     *
+     * @param move The best move of the current ply.
+     * @param ply  The distance to the root in plies.
+     */
+    private void updatePrincipalVariation(int move, int ply) {
+        int[] principalVariation = principalVariations[ply];
+        principalVariation[0] = move;
+        int childLength = ply + 1 < MAX_PLY ? principalVariationLengths[ply + 1] : 0;
+        if (childLength > 0) {
+            System.arraycopy(principalVariations[ply + 1], 0, principalVariation, 1, childLength);
+        }
+        principalVariationLengths[ply] = childLength + 1;
+    }
+
+    /**
+     * Converts a mate score relative to the root into a score relative to the current position.
+     *
+     * @param score The score relative to the root.
+     * @param ply   The distance to the root in plies.
+     * @return The score to store in the transposition table.
+     */
+    private static int scoreToTable(int score, int ply) {
+        return score >= MATE_BOUND ? score + ply : score <= -MATE_BOUND ? score - ply : score;
+    }
+
+    /**
+     * Converts a mate score relative to a position into a score relative to the root.
+     *
+     * @param score The score stored in the transposition table.
+     * @param ply   The distance to the root in plies.
+     * @return The score relative to the root.
+     */
+    private static int scoreFromTable(int score, int ply) {
+        return score >= MATE_BOUND ? score - ply : score <= -MATE_BOUND ? score + ply : score;
+    }
+}
@@ -0,0 +1,63 @@
+package chessengine;
+
+import jdk.jfr.*;
+
+/**
+ * The {@code SearchIterationEvent} class is a Java Flight Recorder event committed after every completed iteration of
+ * the iterative deepening {@link Search}.
+ *
+ * <p>
+ * The event spans the iteration, so its duration is the time of the iteration. The fields contain the cumulative
+ * metrics of the search, which allows analysis runs to be inspected with JDK Mission Control.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+@Name("chessengine.SearchIteration")
+@Label("Search Iteration")
+@Category({"Chess Engine", "Search"})
+@Description("Completed iteration of the iterative deepening search")
+@StackTrace(false)
+public class SearchIterationEvent extends Event {
+    @Label("Depth")
+    int depth;
+
+    @Label("Score")
+    @Description("Score in centipawns from the perspective of the side to move")
+    int score;
+
+    @Label("Best Move")
+    String bestMove;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Quiescence Nodes")
+    long quiescenceNodes;
+
+    @Label("Nodes per Second")
+    long nodesPerSecond;
+
+    @Label("TT Probes")
+    long ttProbes;
+
+    @Label("TT Hits")
+    long ttHits;
+
+    @Label("TT Hit Rate")
+    @Percentage
+    double ttHitRate;
+
+    @Label("First Move Cutoff Rate")
+    @Description("Share of beta-cutoffs caused by the first searched move")
+    @Percentage
+    double firstMoveCutoffRate;
+
+    @Label("Effective Branching Factor")
+    double effectiveBranchingFactor;
+
+    @Label("Time to Depth")
+    @Timespan(Timespan.MILLISECONDS)
+    long timeToDepth;
+}
@@ -0,0 +1,56 @@
+package chessengine;
+
+/**
+ * The {@code SearchLimits} record defines when a {@link Search} stops.
+ *
+ * <p>
+ * The search stops as soon as any of the limits is reached. A value of {@code 0} means that the limit is not used.
+ * Without any limit the search runs until it is stopped or the maximum depth is reached.
+ * </p>
+ *
+ * @param depth      The maximum search depth in plies.
+ * @param timeMillis The maximum search time in milliseconds.
+ * @param nodes      The maximum number of nodes.
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public record SearchLimits(int depth, long timeMillis, long nodes) {
+    /**
+     * Creates limits searching up to a fixed depth.
+     *
+     * @param depth The maximum search depth in plies.
+     * @return The search limits.
+     */
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, 0, 0);
+    }
+
+    /**
+     * Creates limits searching for a fixed time.
+     *
+     * @param timeMillis The maximum search time in milliseconds.
+     * @return The search limits.
+     */
+    public static SearchLimits time(long timeMillis) {
+        return new SearchLimits(0, timeMillis, 0);
+    }
+
+    /**
+     * Creates limits searching a fixed number of nodes.
+     *
+     * @param nodes The maximum number of nodes.
+     * @return The search limits.
+     */
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(0, 0, nodes);
+    }
+
+    /**
+     * Creates limits searching until the search is stopped.
+     *
+     * @return The search limits.
+     */
+    public static SearchLimits infinite() {
+        return new SearchLimits(0, 0, 0);
+    }
+}
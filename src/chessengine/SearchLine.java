@@ -0,0 +1,66 @@
+package chessengine;
+
+/**
+ * The {@code SearchLine} record holds one principal variation of a MultiPV {@link Search} together with its score.
+ *
+ * @param score              The score in centipawns from the perspective of the side to move.
+ * @param principalVariation The expected line starting with the root move of this line.
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public record SearchLine(int score, int[] principalVariation) {
+    /**
+     * Retrieves the root move of the line.
+     *
+     * @return The first move of the principal variation, {@link PackedMove#NO_MOVE} if the line is empty.
+     */
+    public int move() {
+        return principalVariation.length > 0 ? principalVariation[0] : PackedMove.NO_MOVE;
+    }
+
+    /**
+     * Checks if the score is a mate score.
+     *
+     * @return {@code true} if a forced mate was found; {@code false} otherwise.
+     */
+    public boolean isMate() {
+        return Math.abs(score) >= Search.MATE_BOUND;
+    }
+
+    /**
+     * Retrieves the number of moves until mate.
+     *
+     * @return The number of moves until mate, negative if the side to move gets mated.
+     */
+    public int getMateInMoves() {
+        int plies = Search.MATE_SCORE - Math.abs(score);
+        return score > 0 ? (plies + 1) / 2 : -(plies + 1) / 2;
+    }
+
+    /**
+     * Returns the principal variation in long algebraic notation.
+     *
+     * @return The moves of the principal variation separated by spaces.
+     */
+    public String getPrincipalVariationString() {
+        StringBuilder line = new StringBuilder();
+        for (int move : principalVariation) {
+            if (!line.isEmpty()) {
+                line.append(' ');
+            }
+            line.append(PackedMove.toString(move));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Returns a string representation of the line with score and principal variation.
+     *
+     * @return The line as {@code String}.
+     */
+    @Override
+    public String toString() {
+        String scoreText = isMate() ? "mate " + getMateInMoves() : "cp " + score;
+        return "score " + scoreText + " pv " + getPrincipalVariationString();
+    }
+}
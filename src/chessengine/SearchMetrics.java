@@ -0,0 +1,237 @@
+package chessengine;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SearchMetrics} class collects the counters of one {@link Search}.
+ *
+ * <p>
+ * Every search owns its metrics and is the only thread writing the counters, so they are plain fields and incrementing
+ * them needs no synchronization. Other threads read the metrics through {@link #getLatestSnapshot()}, which returns
+ * the immutable {@link Snapshot} the search published last, at the end of every iteration and with every log line.
+ * </p>
+ *
+ * <p>
+ * The following metrics are collected:
+ * <ul>
+ *     <li>Nodes and quiescence nodes.</li>
+ *     <li>Transposition table probes and hits.</li>
+ *     <li>Beta-cutoffs and beta-cutoffs caused by the first searched move.</li>
+ *     <li>Null move cutoffs, re-searches of reduced late moves and moves skipped by futility pruning.</li>
+ *     <li>Nodes and time to reach every completed depth.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * While a search is running, a log line is printed periodically if a log interval is set. Independently, a snapshot
+ * can be published periodically for observers like the analysis display, which would otherwise only see a new snapshot
+ * at the end of every iteration.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class SearchMetrics {
+    // Counters, only written by the thread running the search
+    long nodes;
+    long quiescenceNodes;
+    long ttProbes;
+    long ttHits;
+    long betaCutoffs;
+    long firstMoveBetaCutoffs;
+    long nullMoveCutoffs;
+    long lateMoveResearches;
+    long futilityPrunedMoves;
+
+    private final long[] nodesToDepth;
+    private final long[] nanosToDepth;
+    private long startNanos;
+    private int completedDepth;
+
+    private long logIntervalNanos;
+    private long nextLogNanos;
+    private long snapshotIntervalNanos;
+    private long nextSnapshotNanos;
+
+    private volatile Snapshot latestSnapshot;
+
+    /**
+     * Constructs empty {@code SearchMetrics} without periodic logging.
+     */
+    public SearchMetrics() {
+        nodesToDepth = new long[Search.MAX_PLY + 1];
+        nanosToDepth = new long[Search.MAX_PLY + 1];
+        latestSnapshot = snapshot();
+    }
+
+    /**
+     * Resets all counters at the start of a search.
+     */
+    void start() {
+        nodes = 0;
+        quiescenceNodes = 0;
+        ttProbes = 0;
+        ttHits = 0;
+        betaCutoffs = 0;
+        firstMoveBetaCutoffs = 0;
+        nullMoveCutoffs = 0;
+        lateMoveResearches = 0;
+        futilityPrunedMoves = 0;
+        completedDepth = 0;
+        Arrays.fill(nodesToDepth, 0L);
+        Arrays.fill(nanosToDepth, 0L);
+        startNanos = System.nanoTime();
+        nextLogNanos = startNanos + logIntervalNanos;
+        nextSnapshotNanos = startNanos + snapshotIntervalNanos;
+        latestSnapshot = snapshot();
+    }
+
+    /**
+     * Records the completion of an iteration and publishes a new snapshot.
+     *
+     * @param depth The depth of the completed iteration.
+     * @return The published snapshot.
+     */
+    Snapshot completeIteration(int depth) {
+        completedDepth = depth;
+        nodesToDepth[depth] = nodes;
+        nanosToDepth[depth] = System.nanoTime() - startNanos;
+        latestSnapshot = snapshot();
+        return latestSnapshot;
+    }
+
+    /**
+     * Prints a log line and publishes a new snapshot if the log interval has passed since the last log line.
+     * Publishes a new snapshot without log line if the snapshot interval has passed since the last snapshot.
+     */
+    void publishIfDue() {
+        if (logIntervalNanos > 0 || snapshotIntervalNanos > 0) {
+            long now = System.nanoTime();
+            if (logIntervalNanos > 0 && now >= nextLogNanos) {
+                nextLogNanos = now + logIntervalNanos;
+                nextSnapshotNanos = now + snapshotIntervalNanos;
+                latestSnapshot = snapshot();
+                System.out.println(latestSnapshot);
+            } else if (snapshotIntervalNanos > 0 && now >= nextSnapshotNanos) {
+                nextSnapshotNanos = now + snapshotIntervalNanos;
+                latestSnapshot = snapshot();
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot of the current counters, must be called by the thread running the search.
+     *
+     * @return The snapshot of the counters.
+     */
+    Snapshot snapshot() {
+        long elapsedNanos = startNanos == 0 ? 0 : System.nanoTime() - startNanos;
+        long[] timeToDepth = new long[completedDepth + 1];
+        for (int depth = 1; depth <= completedDepth; depth++) {
+            timeToDepth[depth] = nanosToDepth[depth] / 1_000_000;
+        }
+        // The nodes to depth zero are always zero
+        long lastIterationNodes = completedDepth > 0 ? nodesToDepth[completedDepth] - nodesToDepth[completedDepth - 1] : 0;
+        long previousIterationNodes = completedDepth > 1 ? nodesToDepth[completedDepth - 1] - nodesToDepth[completedDepth - 2] : 0;
+        return new Snapshot(completedDepth, nodes, quiescenceNodes, ttProbes, ttHits, betaCutoffs, firstMoveBetaCutoffs,
+                nullMoveCutoffs, lateMoveResearches, futilityPrunedMoves, elapsedNanos / 1_000_000, lastIterationNodes, previousIterationNodes, timeToDepth);
+    }
+
+    /**
+     * Retrieves the snapshot published last by the search, can be called by any thread.
+     *
+     * @return The latest snapshot.
+     */
+    public Snapshot getLatestSnapshot() {
+        return latestSnapshot;
+    }
+
+    /**
+     * Sets the interval of the log line printed while searching.
+     *
+     * @param logIntervalMillis The interval in milliseconds, {@code 0} to disable the log line.
+     */
+    public void setLogIntervalMillis(long logIntervalMillis) {
+        logIntervalNanos = logIntervalMillis * 1_000_000;
+    }
+
+    /**
+     * Sets the interval of publishing snapshots while searching.
+     *
+     * @param snapshotIntervalMillis The interval in milliseconds, {@code 0} to publish only at the end of iterations.
+     */
+    public void setSnapshotIntervalMillis(long snapshotIntervalMillis) {
+        snapshotIntervalNanos = snapshotIntervalMillis * 1_000_000;
+    }
+
+    /**
+     * The {@code Snapshot} record is an immutable copy of the metrics of a search at one point in time.
+     *
+     * @param depth                  The last completed depth.
+     * @param nodes                  The number of searched nodes, including quiescence nodes.
+     * @param quiescenceNodes        The number of quiescence nodes.
+     * @param ttProbes               The number of transposition table probes.
+     * @param ttHits                 The number of transposition table hits.
+     * @param betaCutoffs            The number of beta-cutoffs.
+     * @param firstMoveBetaCutoffs   The number of beta-cutoffs caused by the first searched move.
+     * @param nullMoveCutoffs        The number of cutoffs by null move pruning.
+     * @param lateMoveResearches     The number of reduced late moves searched again at full depth.
+     * @param futilityPrunedMoves    The number of moves skipped by futility pruning.
+     * @param elapsedMillis          The time since the start of the search in milliseconds.
+     * @param lastIterationNodes     The number of nodes of the last completed iteration.
+     * @param previousIterationNodes The number of nodes of the iteration before the last completed one.
+     * @param timeToDepth            The time in milliseconds to complete each depth, indexed by depth.
+     */
+    public record Snapshot(int depth, long nodes, long quiescenceNodes, long ttProbes, long ttHits, long betaCutoffs,
+                           long firstMoveBetaCutoffs, long nullMoveCutoffs, long lateMoveResearches,
+                           long futilityPrunedMoves, long elapsedMillis, long lastIterationNodes,
+                           long previousIterationNodes, long[] timeToDepth) {
+        /**
+         * Computes the number of nodes searched per second.
+         *
+         * @return The nodes per second.
+         */
+        public long nodesPerSecond() {
+            return elapsedMillis > 0 ? nodes * 1000 / elapsedMillis : 0;
+        }
+
+        /**
+         * Computes the share of transposition table probes which found an entry.
+         *
+         * @return The hit rate between {@code 0} and {@code 1}.
+         */
+        public double ttHitRate() {
+            return ttProbes > 0 ? (double) ttHits / ttProbes : 0.0;
+        }
+
+        /**
+         * Computes the share of beta-cutoffs caused by the first searched move, a measure of the move ordering.
+         *
+         * @return The first move cutoff rate between {@code 0} and {@code 1}.
+         */
+        public double firstMoveCutoffRate() {
+            return betaCutoffs > 0 ? (double) firstMoveBetaCutoffs / betaCutoffs : 0.0;
+        }
+
+        /**
+         * Computes the effective branching factor as the growth of the nodes from one iteration to the next.
+         *
+         * @return The effective branching factor, {@code 0} before two iterations are completed.
+         */
+        public double effectiveBranchingFactor() {
+            return previousIterationNodes > 0 ? (double) lastIterationNodes / previousIterationNodes : 0.0;
+        }
+
+        /**
+         * Returns the snapshot as a single log line.
+         *
+         * @return The log line.
+         */
+        @Override
+        public String toString() {
+            return String.format("search depth %d nodes %d qnodes %d nps %d tthits %.1f%% firstcutoff %.1f%% ebf %.2f time %dms",
+                    depth, nodes, quiescenceNodes, nodesPerSecond(), ttHitRate() * 100, firstMoveCutoffRate() * 100,
+                    effectiveBranchingFactor(), elapsedMillis);
+        }
+    }
+}
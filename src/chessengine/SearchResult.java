@@ -0,0 +1,80 @@
+package chessengine;
+
+import java.util.List;
+
+/**
+ * The {@code SearchResult} record holds the outcome of the last completed iteration of a {@link Search}.
+ *
+ * <p>
+ * The best move, score and principal variation are those of the best line. A MultiPV search additionally returns the
+ * best lines of different root moves, ordered from best to worst, the first of which is the best line.
+ * </p>
+ *
+ * @param bestMove           The best move as {@link PackedMove}, {@link PackedMove#NO_MOVE} if there is no legal move.
+ * @param score              The score in centipawns from the perspective of the side to move.
+ * @param depth              The depth of the last completed iteration.
+ * @param principalVariation The expected line starting with the best move.
+ * @param metrics            The metrics of the search when the result was created.
+ * @param lines              The lines of all searched root moves, starting with the best line.
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public record SearchResult(int bestMove, int score, int depth, int[] principalVariation, SearchMetrics.Snapshot metrics,
+                           List<SearchLine> lines) {
+    /**
+     * Checks if the score is a mate score.
+     *
+     * @return {@code true} if a forced mate was found; {@code false} otherwise.
+     */
+    public boolean isMate() {
+        return getBestLine().isMate();
+    }
+
+    /**
+     * Retrieves the number of moves until mate.
+     *
+     * @return The number of moves until mate, negative if the side to move gets mated.
+     */
+    public int getMateInMoves() {
+        return getBestLine().getMateInMoves();
+    }
+
+    /**
+     * Returns the principal variation in long algebraic notation.
+     *
+     * @return The moves of the principal variation separated by spaces.
+     */
+    public String getPrincipalVariationString() {
+        return getBestLine().getPrincipalVariationString();
+    }
+
+    /**
+     * Retrieves the best line, which exists even if the position has no legal move.
+     *
+     * @return The best line with the score and principal variation of this result.
+     */
+    public SearchLine getBestLine() {
+        return lines.isEmpty() ? new SearchLine(score, principalVariation) : lines.getFirst();
+    }
+
+    /**
+     * Returns a string representation of the result with score, depth and principal variation, one row per line.
+     *
+     * @return The result as {@code String}.
+     */
+    @Override
+    public String toString() {
+        if (lines.size() <= 1) {
+            return "depth " + depth + " " + getBestLine();
+        }
+        // One row per line, like the info lines of a MultiPV search
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                text.append(System.lineSeparator());
+            }
+            text.append("depth ").append(depth).append(" multipv ").append(i + 1).append(' ').append(lines.get(i));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package chessengine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code SelfPlayGenerator} class plays games of the engine against itself and writes labelled positions as
+ * training data.
+ *
+ * <p>
+ * Every worker thread plays one game after the other with its own {@link Board}, {@link Search} and
+ * {@link TranspositionTable}, so the workers share nothing but the {@link TrainingDataWriter} and scale with the
+ * number of cores. A game starts with a few random moves, so games differ, followed by a search with a fixed number of
+ * nodes per move. It ends by the rules, as a draw without mating material, by adjudication once one side is clearly
+ * winning for several moves, or as a draw after a maximum number of plies.
+ * </p>
+ *
+ * <p>
+ * The positions after the random opening are packed into {@link PackedPosition} records together with the search
+ * score, except positions in check, positions whose best move captures or promotes and positions with a mate score,
+ * whose score says little about the static features. When the game is over, the result is filled into the records of
+ * the game and they are appended to the writer at once.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class SelfPlayGenerator {
+    public static final long DEFAULT_NODES = 5000;
+
+    private static final int RANDOM_OPENING_PLIES = 8;
+    private static final int MAX_GAME_PLIES = 400;
+    private static final int ADJUDICATION_SCORE = 1500;
+    private static final int ADJUDICATION_PLIES = 6;
+    private static final int WORKER_TRANSPOSITION_TABLE_SIZE_MB = 16;
+
+    private final TrainingDataWriter writer;
+    private final int threadCount;
+    private final long nodesPerMove;
+    private final long seed;
+
+    private final AtomicLong positionCount;
+    private final AtomicLong gameCount;
+
+    /**
+     * Constructs a {@code SelfPlayGenerator}.
+     *
+     * @param writer       The writer of the records.
+     * @param threadCount  The number of games played at the same time, usually the number of cores.
+     * @param nodesPerMove The number of nodes searched per move.
+     * @param seed         The seed of the random openings.
+     * @throws IllegalArgumentException if the number of threads or nodes is not positive.
+     */
+    public SelfPlayGenerator(TrainingDataWriter writer, int threadCount, long nodesPerMove, long seed) {
+        if (threadCount < 1 || nodesPerMove < 1) {
+            throw new IllegalArgumentException("Illegal threads or nodes: " + threadCount + ", " + nodesPerMove);
+        }
+        this.writer = writer;
+        this.threadCount = threadCount;
+        this.nodesPerMove = nodesPerMove;
+        this.seed = seed;
+        positionCount = new AtomicLong();
+        gameCount = new AtomicLong();
+    }
+
+    /**
+     * Plays games until at least the given number of positions is written. The games running when the target is
+     * reached are finished, so slightly more positions are written.
+     *
+     * @param positions The number of positions to write.
+     * @return The statistics of the run.
+     * @throws IOException          if the records cannot be written.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    public Result run(long positions) throws IOException, InterruptedException {
+        positionCount.set(0);
+        gameCount.set(0);
+        long startNanos = System.nanoTime();
+
+        SplittableRandom random = new SplittableRandom(seed);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> workers = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                SplittableRandom workerRandom = random.split();
+                workers.add(executor.submit(() -> {
+                    Search search = new Search(new TranspositionTable(WORKER_TRANSPOSITION_TABLE_SIZE_MB));
+                    byte[] records = new byte[MAX_GAME_PLIES * PackedPosition.SIZE];
+                    while (positionCount.get() < positions) {
+                        int count = playGame(search, workerRandom, records);
+                        writer.append(records, count);
+                        positionCount.addAndGet(count);
+                        gameCount.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new RuntimeException("Self-play failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        writer.flush();
+        return new Result(gameCount.get(), positionCount.get(), threadCount, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Plays one game and packs its positions.
+     *
+     * @param search  The search of the worker.
+     * @param random  The random generator of the worker.
+     * @param records The array receiving the records.
+     * @return The number of packed positions.
+     */
+    private int playGame(Search search, SplittableRandom random, byte[] records) {
+        Board board = Board.fromFen(Board.START_FEN);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = 0;
+        int result = 1;
+        int winningPlies = 0;
+
+        for (int ply = 0; ply < MAX_GAME_PLIES; ply++) {
+            int moveCount = MoveGenerator.generateLegalMoves(board, moves);
+            PositionHistory history = board.getPositionHistory();
+            if (moveCount == 0) {
+                result = !board.isInCheck() ? 1 : board.isWhiteToMove() ? 0 : 2;
+                break;
+            }
+            if (history.isThreefoldRepetition() || history.isFiftyMoveRule() || board.isInsufficientMaterial()) {
+                break;
+            }
+            if (ply < RANDOM_OPENING_PLIES) {
+                board.makeMove(moves[random.nextInt(moveCount)]);
+                continue;
+            }
+
+            SearchResult searchResult = search.search(board, SearchLimits.nodes(nodesPerMove));
+            int move = searchResult.bestMove();
+            int whiteScore = board.isWhiteToMove() ? searchResult.score() : -searchResult.score();
+            if (!board.isInCheck() && !PackedMove.isCapture(move) && !PackedMove.isPromotion(move)
+                    && !searchResult.isMate()) {
+                PackedPosition.encode(board, whiteScore, result, records, count++ * PackedPosition.SIZE);
+            }
+
+            // Adjudicates once the same side stays clearly ahead
+            if (Math.abs(whiteScore) >= ADJUDICATION_SCORE) {
+                int sign = Integer.signum(whiteScore);
+                winningPlies = sign == Integer.signum(winningPlies) ? winningPlies + sign : sign;
+                if (Math.abs(winningPlies) >= ADJUDICATION_PLIES) {
+                    result = winningPlies > 0 ? 2 : 0;
+                    break;
+                }
+            } else {
+                winningPlies = 0;
+            }
+            board.makeMove(move);
+        }
+
+        for (int i = 0; i < count; i++) {
+            PackedPosition.setResult(records, i * PackedPosition.SIZE, result);
+        }
+        return count;
+    }
+
+    /**
+     * The {@code Result} record holds the statistics of a run.
+     *
+     * @param games       The number of finished games.
+     * @param positions   The number of written positions.
+     * @param threadCount The number of worker threads.
+     * @param nanos       The duration of the run in nanoseconds.
+     */
+    public record Result(long games, long positions, int threadCount, long nanos) {
+        /**
+         * Calculates the throughput of all workers.
+         *
+         * @return The number of written positions per second.
+         */
+        public double positionsPerSecond() {
+            return positions / (nanos / 1e9);
+        }
+
+        /**
+         * Calculates the throughput per core, counting every worker thread up to the number of cores.
+         *
+         * @return The number of written positions per second and core.
+         */
+        public double positionsPerSecondPerCore() {
+            return positionsPerSecond() / Math.min(threadCount, Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Formats the statistics in one line.
+         *
+         * @return The statistics.
+         */
+        @Override
+        public String toString() {
+            return String.format("%,d positions from %,d games in %.1f s with %d threads, %,.0f positions/s, %,.0f positions/s per core",
+                    positions, games, nanos / 1e9, threadCount, positionsPerSecond(), positionsPerSecondPerCore());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package chessengine;
+
+import javax.sound.sampled.*;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The {@code Sound} class manages playing various sound effects related to chess game events.
+ * It uses {@code javax.sound.sampled} API to play WAV audio files.
+ *
+ * <p>
+ * All sound files are decoded once into PCM data when the {@code Sound} is constructed. Every sound owns a small pool
+ * of {@link Clip}s, which are opened with the decoded data up front and reused round-robin, so playing a sound only
+ * rewinds and starts a clip. The number of open audio lines is fixed, no matter how fast sounds are played, and all
+ * of them are released by {@link #close()}.
+ * </p>
+ *
+ * <p>
+ * If the sound files cannot be read or no audio line is available, a warning is printed once and all sounds are muted.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2024-06-26
+ */
+public class Sound implements AutoCloseable {
+    private static final int MOVE = 0;
+    private static final int CAPTURE = 1;
+    private static final int CHECK = 2;
+    private static final int CASTLE = 3;
+
+    private static final int CLIPS_PER_SOUND = 2;
+
+    private final Clip[][] clips;
+    private final int[] nextClip;
+    private boolean available;
+
+    /**
+     * Constructs a {@code Sound} object, decodes the sound files of all game events and opens their clips.
+     * The paths of the sound files are provided by {@link Configuration}.
+     */
+    public Sound() {
+        String[] paths = {Configuration.INSTANCE.pathSoundMove, Configuration.INSTANCE.pathSoundCapture,
+                Configuration.INSTANCE.pathSoundCheck, Configuration.INSTANCE.pathSoundCastle};
+        clips = new Clip[paths.length][CLIPS_PER_SOUND];
+        nextClip = new int[paths.length];
+
+        try {
+            for (int sound = 0; sound < paths.length; sound++) {
+                // Decodes the file once, all clips of the sound share the data
+                AudioInputStream stream = decode(new File(paths[sound]));
+                AudioFormat format = stream.getFormat();
+                byte[] data;
+                try (stream) {
+                    data = stream.readAllBytes();
+                }
+                for (int i = 0; i < CLIPS_PER_SOUND; i++) {
+                    Clip clip = AudioSystem.getClip();
+                    clips[sound][i] = clip;
+                    clip.open(format, data, 0, data.length);
+                }
+            }
+            available = true;
+        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Sounds disabled: " + e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Opens a sound file as a stream of signed PCM data, converting other encodings.
+     *
+     * @param file the sound file.
+     * @return the stream of PCM data.
+     * @throws UnsupportedAudioFileException if the file format is not supported.
+     * @throws IOException                   if the file cannot be read.
+     */
+    private static AudioInputStream decode(File file) throws UnsupportedAudioFileException, IOException {
+        AudioInputStream stream = AudioSystem.getAudioInputStream(file);
+        AudioFormat format = stream.getFormat();
+        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED || format.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED) {
+            return stream;
+        }
+        AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+        return AudioSystem.getAudioInputStream(pcmFormat, stream);
+    }
+
+    /**
+     * Plays the sound effect for a move event.
+     */
+    public void playMoveSound() {
+        play(MOVE);
+    }
+
+    /**
+     * Plays the sound effect for a capture event.
+     */
+    public void playCaptureSound() {
+        play(CAPTURE);
+    }
+
+    /**
+     * Plays the sound effect for a check event.
+     */
+    public void playCheckSound() {
+        play(CHECK);
+    }
+
+    /**
+     * Plays the sound effect for a castling event.
+     */
+    public void playCastleSound() {
+        play(CASTLE);
+    }
+
+    /**
+     * Plays a sound on the next clip of its pool.
+     * If all clips of the sound are still playing, the one started first is restarted.
+     *
+     * @param sound the index of the sound.
+     */
+    private synchronized void play(int sound) {
+        if (!available) {
+            return;
+        }
+        Clip clip = clips[sound][nextClip[sound]];
+        nextClip[sound] = (nextClip[sound] + 1) % CLIPS_PER_SOUND;
+
+        // Rewinds the clip, stopping it first if it is still playing
+        clip.stop();
+        clip.flush();
+        clip.setFramePosition(0);
+        clip.start();
+    }
+
+    /**
+     * Closes all clips and releases their audio lines. Sounds are muted afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        available = false;
+        for (Clip[] soundClips : clips) {
+            for (Clip clip : soundClips) {
+                if (clip != null) {
+                    clip.close();
+                }
+            }
+        }
+    }
+}
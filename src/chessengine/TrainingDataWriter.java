@@ -0,0 +1,200 @@
+package chessengine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * The {@code TrainingDataWriter} class appends {@link PackedPosition} records to a series of files in a directory.
+ *
+ * <p>
+ * The files are named {@code selfplay-00000.bin}, {@code selfplay-00001.bin} and so on. Records are only ever appended:
+ * a new writer continues the last file of the directory, and when a file reaches its maximum size the writer rotates
+ * to the next one, so a file never ends with a partial record. A partial record left at the end of the last file by an
+ * aborted run is cut off when the file is continued.
+ * </p>
+ *
+ * <p>
+ * Records are collected in one direct buffer of {@value #BUFFER_SIZE} bytes, which is written to the {@link FileChannel}
+ * when it is full, so writing takes one system call per megabyte. The writer is thread-safe, every call appends a
+ * consecutive block of records, e.g. all positions of one game.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class TrainingDataWriter implements Closeable {
+    public static final long DEFAULT_MAX_FILE_BYTES = 256L << 20;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final String FILE_PREFIX = "selfplay-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final ByteBuffer buffer;
+    private final ReentrantLock lock;
+
+    private FileChannel channel;
+    private int fileIndex;
+    private long fileBytes;
+    private long recordCount;
+
+    /**
+     * Constructs a {@code TrainingDataWriter} continuing the last file of a directory.
+     *
+     * @param directory    The directory of the files, which is created if it does not exist.
+     * @param maxFileBytes The maximum size of a file in bytes, rounded down to whole records.
+     * @throws IOException              if the directory or the file cannot be opened.
+     * @throws IllegalArgumentException if the maximum size is smaller than one record.
+     */
+    public TrainingDataWriter(Path directory, long maxFileBytes) throws IOException {
+        if (maxFileBytes < PackedPosition.SIZE) {
+            throw new IllegalArgumentException("Maximum file size is smaller than one record: " + maxFileBytes);
+        }
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes - maxFileBytes % PackedPosition.SIZE;
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        lock = new ReentrantLock();
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            fileIndex = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches(FILE_PREFIX + "\\d{5}" + FILE_SUFFIX))
+                    .mapToInt(name -> Integer.parseInt(name.substring(FILE_PREFIX.length(), FILE_PREFIX.length() + 5)))
+                    .max()
+                    .orElse(0);
+        }
+        openFile();
+    }
+
+    /**
+     * Retrieves the path of a file of a directory.
+     *
+     * @param directory The directory of the files.
+     * @param index     The number of the file.
+     * @return The path of the file.
+     */
+    public static Path getFile(Path directory, int index) {
+        return directory.resolve(String.format("%s%05d%s", FILE_PREFIX, index, FILE_SUFFIX));
+    }
+
+    /**
+     * Opens the current file for appending, cutting off a partial record at its end, and moves on to the next file
+     * while the current one is full.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    private void openFile() throws IOException {
+        while (true) {
+            channel = FileChannel.open(getFile(directory, fileIndex),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            fileBytes = channel.size() - channel.size() % PackedPosition.SIZE;
+            if (fileBytes < maxFileBytes) {
+                channel.truncate(fileBytes);
+                return;
+            }
+            channel.close();
+            fileIndex++;
+        }
+    }
+
+    /**
+     * Appends records.
+     *
+     * @param records The array holding the records one after another, starting at index {@code 0}.
+     * @param count   The number of records to append.
+     * @throws IOException if a file cannot be written or opened.
+     */
+    public void append(byte[] records, int count) throws IOException {
+        lock.lock();
+        try {
+            int offset = 0;
+            int end = count * PackedPosition.SIZE;
+            while (offset < end) {
+                if (fileBytes + buffer.position() == maxFileBytes) {
+                    writeBuffer();
+                    channel.close();
+                    fileIndex++;
+                    openFile();
+                }
+                if (!buffer.hasRemaining()) {
+                    writeBuffer();
+                }
+                // Copies as many whole records as fit into the buffer and the current file
+                long space = Math.min(buffer.remaining(), maxFileBytes - fileBytes - buffer.position());
+                int length = (int) Math.min(end - offset, space - space % PackedPosition.SIZE);
+                buffer.put(records, offset, length);
+                offset += length;
+            }
+            recordCount += count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the current file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            fileBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes all buffered records to the current file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            writeBuffer();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of records appended by this writer.
+     *
+     * @return The number of records.
+     */
+    public long getRecordCount() {
+        lock.lock();
+        try {
+            return recordCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered records and closes the current file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel.isOpen()) {
+                writeBuffer();
+                channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package chessengine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The {@code TranspositionTable} class caches search results by the key of the searched position.
+ *
+ * <p>
+ * Every entry consists of two {@code long} values in primitive arrays: the key and the packed data, which holds the
+ * best move, the score, the search depth, the bound type and the age of the entry. The key is stored XOR-ed with the
+ * data, so an entry torn by two threads writing at the same time is detected as a miss. This allows several searches
+ * to share one table without locking.
+ * </p>
+ *
+ * <p>
+ * Layout of the data bits:
+ * <ul>
+ *     <li>Bits 0 to 26 - Best move as {@link PackedMove}.</li>
+ *     <li>Bits 27 to 42 - Score as signed 16-bit value.</li>
+ *     <li>Bits 43 to 50 - Search depth.</li>
+ *     <li>Bits 51 to 52 - Bound type.</li>
+ *     <li>Bits 53 to 60 - Age of the search which stored the entry.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The table can be saved to a file and loaded again, e.g. to continue a long analysis after a restart. The file starts
+ * with a header of {@value #FILE_HEADER_BYTES} bytes: a magic number, the file format version, the number of entries
+ * and the age, followed by the keys and the data as little-endian {@code long} values. Both arrays are copied in bulk
+ * through memory-mapped regions of the file, so gigabytes are transferred in seconds.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class TranspositionTable {
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    public static final int DEFAULT_SIZE_MB = 16;
+
+    private static final int ENTRY_BYTES = 16;
+
+    // File format of a saved table
+    private static final int FILE_MAGIC = 0x54544543;
+    private static final int FILE_VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 32;
+    private static final int FILE_CHUNK_ENTRIES = 1 << 26;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private volatile int age;
+
+    /**
+     * Constructs a {@code TranspositionTable} using at most the given amount of memory.
+     *
+     * @param sizeMb The size of the table in megabytes, rounded down to a power of two entries.
+     */
+    public TranspositionTable(int sizeMb) {
+        long entries = Long.highestOneBit(Math.max(1L, (long) sizeMb * 1024 * 1024 / ENTRY_BYTES));
+        entries = Math.min(entries, 1L << 30);
+        keys = new long[(int) entries];
+        data = new long[(int) entries];
+        mask = (int) entries - 1;
+    }
+
+    /**
+     * Looks up the entry of a position.
+     *
+     * @param key The key of the position.
+     * @return The packed data of the entry, or {@code 0} if the table has no entry for the position.
+     */
+    public long probe(long key) {
+        int index = (int) key & mask;
+        long entry = data[index];
+        return (keys[index] ^ entry) == key ? entry : 0L;
+    }
+
+    /**
+     * Stores the result of a search.
+     *
+     * <p>
+     * Entries of the current search are only replaced by results of a similar or higher depth. If no best move is
+     * known, the best move of an existing entry of the same position is kept.
+     * </p>
+     *
+     * @param key   The key of the position.
+     * @param move  The best move, {@link PackedMove#NO_MOVE} if unknown.
+     * @param score The score, mate scores have to be relative to the position.
+     * @param depth The search depth.
+     * @param bound The bound type of the score.
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int index = (int) key & mask;
+        long existing = data[index];
+        boolean samePosition = (keys[index] ^ existing) == key;
+        if (!samePosition && existing != 0 && getAge(existing) == age && getDepth(existing) > depth + 2) {
+            return;
+        }
+        if (samePosition && move == PackedMove.NO_MOVE) {
+            move = getMove(existing);
+        }
+
+        long entry = (move & 0x7FFFFFFL)
+                | (score & 0xFFFFL) << 27
+                | (long) (Math.max(0, depth) & 0xFF) << 43
+                | (long) bound << 51
+                | (long) age << 53;
+        data[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    /**
+     * Marks the start of a new search, so entries of older searches are replaced first. Searches running concurrently
+     * for one job, e.g. a game review, share one age, which the job increments once.
+     */
+    public synchronized void incrementAge() {
+        age = (age + 1) & 0xFF;
+    }
+
+    /**
+     * Removes all entries from the table.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, 0L);
+        age = 0;
+    }
+
+    /**
+     * Estimates the usage of the table by sampling the first thousand entries.
+     *
+     * @return The number of used entries per thousand.
+     */
+    public int getHashfull() {
+        int sample = Math.min(1000, data.length);
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            if (data[i] != 0 && getAge(data[i]) == age) {
+                used++;
+            }
+        }
+        return used * 1000 / sample;
+    }
+
+    /**
+     * Retrieves the number of entries of the table.
+     *
+     * @return The number of entries.
+     */
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * Saves all entries and the age to a file, replacing an existing file.
+     *
+     * <p>
+     * Searches may continue while the table is saved, an entry changed during the copy is saved torn and detected as
+     * a miss after loading.
+     * </p>
+     *
+     * @param path The path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(FILE_MAGIC).putInt(FILE_VERSION).putLong(data.length).putInt(age).rewind();
+            channel.write(header, 0);
+            for (int offset = 0; offset < data.length; offset += FILE_CHUNK_ENTRIES) {
+                int length = Math.min(FILE_CHUNK_ENTRIES, data.length - offset);
+                FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+                mapChunk(channel, mode, 0, offset, length).put(keys, offset, length);
+                mapChunk(channel, mode, data.length, offset, length).put(data, offset, length);
+            }
+        }
+    }
+
+    /**
+     * Loads the entries and the age of a file saved by {@link #save(Path)}, replacing all entries of the table.
+     *
+     * <p>
+     * A file of a table with the same number of entries is copied in bulk. Otherwise every entry is stored again at
+     * its index in this table, keeping the deeper entry where two entries meet.
+     * </p>
+     *
+     * @param path The path of the file.
+     * @throws IOException if the file cannot be read, is no saved table, has another format version or is truncated.
+     */
+    public void load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.read(header, 0) != FILE_HEADER_BYTES || header.getInt(0) != FILE_MAGIC) {
+                throw new IOException("Not a transposition table file: " + path);
+            }
+            if (header.getInt(4) != FILE_VERSION) {
+                throw new IOException("Unsupported transposition table file version: " + header.getInt(4));
+            }
+            long entries = header.getLong(8);
+            if (entries < 1 || entries > 1L << 30 || channel.size() != FILE_HEADER_BYTES + entries * ENTRY_BYTES) {
+                throw new IOException("Transposition table file of " + entries + " entries has "
+                        + channel.size() + " bytes: " + path);
+            }
+
+            int fileEntries = (int) entries;
+            if (fileEntries != data.length) {
+                clear();
+            }
+            for (int offset = 0; offset < fileEntries; offset += FILE_CHUNK_ENTRIES) {
+                int length = Math.min(FILE_CHUNK_ENTRIES, fileEntries - offset);
+                LongBuffer fileKeys = mapChunk(channel, FileChannel.MapMode.READ_ONLY, 0, offset, length);
+                LongBuffer fileData = mapChunk(channel, FileChannel.MapMode.READ_ONLY, fileEntries, offset, length);
+                if (fileEntries == data.length) {
+                    fileKeys.get(keys, offset, length);
+                    fileData.get(data, offset, length);
+                    continue;
+                }
+                for (int i = 0; i < length; i++) {
+                    long entry = fileData.get(i);
+                    long key = fileKeys.get(i) ^ entry;
+                    int index = (int) key & mask;
+                    if (entry != 0 && (data[index] == 0 || getDepth(entry) >= getDepth(data[index]))) {
+                        data[index] = entry;
+                        keys[index] = key ^ entry;
+                    }
+                }
+            }
+            age = header.getInt(16) & 0xFF;
+        }
+    }
+
+    /**
+     * Maps a chunk of the keys or the data of a saved table.
+     *
+     * @param channel The channel of the file.
+     * @param mode    The mapping mode, {@link FileChannel.MapMode#READ_WRITE} extends the file if necessary.
+     * @param first   The index of the first {@code long} of the array in the file, {@code 0} for the keys and the
+     *                number of entries for the data.
+     * @param offset  The index of the first entry of the chunk.
+     * @param length  The number of entries of the chunk.
+     * @return The chunk as a buffer of {@code long} values.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private static LongBuffer mapChunk(FileChannel channel, FileChannel.MapMode mode, long first, int offset,
+                                       int length) throws IOException {
+        long position = FILE_HEADER_BYTES + (first + offset) * Long.BYTES;
+        return channel.map(mode, position, (long) length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+
+    // Getter methods for the packed fields of an entry
+    public static int getMove(long entry) {
+        return (int) (entry & 0x7FFFFFFL);
+    }
+
+    public static int getScore(long entry) {
+        return (short) (entry >>> 27);
+    }
+
+    public static int getDepth(long entry) {
+        return (int) (entry >>> 43) & 0xFF;
+    }
+
+    public static int getBound(long entry) {
+        return (int) (entry >>> 51) & 0x3;
+    }
+
+    public static int getAge(long entry) {
+        return (int) (entry >>> 53) & 0xFF;
+    }
+}
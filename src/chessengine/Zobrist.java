@@ -0,0 +1,132 @@
+package chessengine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Utility class providing Zobrist hash keys for chess positions.
+ *
+ * <p>
+ * The {@code Zobrist} class includes static methods for:
+ * <ul>
+ *     <li>Retrieving the random key of a piece standing on a specific square.</li>
+ *     <li>Retrieving the random key toggled whenever the side to move changes.</li>
+ *     <li>Retrieving the random keys of the castling rights and the en passant file.</li>
+ *     <li>Computing the complete 64-bit key of a game state from scratch.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The keys are generated from a fixed seed, so the same position always produces the same key across runs.
+ * Moves update a key incrementally by XOR-ing the keys of the changed piece squares, castling rights, en passant file
+ * and the side to move.
+ * </p>
+ *
+ * <p>
+ * This class does not support instantiation as all methods are static.
+ * </p>
+ *
+ * @author SirPatschiii
+ * @version 2026-10-18
+ */
+public class Zobrist {
+    private static final long SEED = 0x5DEECE66DL;
+
+    private static final long[][] PIECE_SQUARE_KEYS = new long[EPieceAbbreviation.values().length][64];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_KEYS = new long[8];
+    private static final long SIDE_TO_MOVE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] pieceKeys : PIECE_SQUARE_KEYS) {
+            for (int square = 0; square < 64; square++) {
+                pieceKeys[square] = random.nextLong();
+            }
+        }
+        SIDE_TO_MOVE_KEY = random.nextLong();
+        // Castling rights are only hashed if present, so the key of "no castling rights" is zero
+        for (int rights = 1; rights < CASTLING_KEYS.length; rights++) {
+            CASTLING_KEYS[rights] = random.nextLong();
+        }
+        for (int file = 0; file < EN_PASSANT_KEYS.length; file++) {
+            EN_PASSANT_KEYS[file] = random.nextLong();
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private Zobrist() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Retrieves the key of a piece standing on a specific square.
+     *
+     * @param piece    The piece standing on the square.
+     * @param position The bitboard position (0 to 63) of the square.
+     * @return The key of the piece on the square.
+     */
+    public static long getPieceSquareKey(EPieceAbbreviation piece, int position) {
+        return PIECE_SQUARE_KEYS[piece.ordinal()][position];
+    }
+
+    /**
+     * Retrieves the key of a piece standing on a specific square.
+     *
+     * @param pieceIndex The ordinal of the {@link EPieceAbbreviation} standing on the square.
+     * @param position   The bitboard position (0 to 63) of the square.
+     * @return The key of the piece on the square.
+     */
+    public static long getPieceSquareKey(int pieceIndex, int position) {
+        return PIECE_SQUARE_KEYS[pieceIndex][position];
+    }
+
+    /**
+     * Retrieves the key of a combination of castling rights.
+     *
+     * @param castlingRights The castling rights as a bit set of the {@link Board} castling constants.
+     * @return The key of the castling rights.
+     */
+    public static long getCastlingKey(int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * Retrieves the key of an en passant square on the given file.
+     *
+     * @param file The file (0 for a through 7 for h) of the en passant square.
+     * @return The key of the en passant file.
+     */
+    public static long getEnPassantKey(int file) {
+        return EN_PASSANT_KEYS[file];
+    }
+
+    /**
+     * Retrieves the key which is toggled every time the side to move changes.
+     *
+     * @return The side to move key.
+     */
+    public static long getSideToMoveKey() {
+        return SIDE_TO_MOVE_KEY;
+    }
+
+    /**
+     * Computes the key of the given game state from scratch.
+     *
+     * @param gameState   The game state mapping each piece to its bitboard.
+     * @param whiteToMove {@code true} if white is to move, {@code false} otherwise.
+     * @return The 64-bit key of the position.
+     */
+    public static long computeKey(HashMap<EPieceAbbreviation, Long> gameState, boolean whiteToMove) {
+        long key = whiteToMove ? 0L : SIDE_TO_MOVE_KEY;
+        for (Map.Entry<EPieceAbbreviation, Long> entry : gameState.entrySet()) {
+            for (long bitboard = entry.getValue(); bitboard != 0; bitboard = BitHelper.clearLowestBit(bitboard)) {
+                key ^= getPieceSquareKey(entry.getKey(), BitHelper.lowestBit(bitboard));
+            }
+        }
+        return key;
+    }
+}